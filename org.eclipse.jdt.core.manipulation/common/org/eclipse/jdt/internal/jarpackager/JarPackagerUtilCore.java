@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,27 @@ public class JarPackagerUtilCore {
 	public static void writeArchive(ZipFile zipFile, boolean areDirectoryEntriesIncluded,
 			boolean isCompressed, JarOutputStream jarOutputStream,
 			Set<String> directories, MultiStatus status, IProgressMonitor progressMonitor) {
+		writeArchive(zipFile, areDirectoryEntriesIncluded, isCompressed, System.currentTimeMillis(), jarOutputStream, directories, status, progressMonitor);
+	}
+
+	/**
+	 * Write the contents of the given zipFile to the JarOutputStream, with the given modification
+	 * time on every entry.
+	 *
+	 * @param zipFile the zipFile to extract
+	 * @param areDirectoryEntriesIncluded the directory entries are included
+	 * @param isCompressed the jar is compressed
+	 * @param entryTime the modification time of the written entries
+	 * @param jarOutputStream the destination JarOutputStream
+	 * @param directories the temporary set saves existing directories
+	 * @param status the <code>MultiStatus</code> saving the warnings during the process
+	 * @param progressMonitor the progressMonitor
+	 *
+	 * @since 1.22
+	 */
+	public static void writeArchive(ZipFile zipFile, boolean areDirectoryEntriesIncluded,
+			boolean isCompressed, long entryTime, JarOutputStream jarOutputStream,
+			Set<String> directories, MultiStatus status, IProgressMonitor progressMonitor) {
 		Enumeration<? extends ZipEntry> jarEntriesEnum= zipFile.entries();
 		File zipFile1= new File(zipFile.getName());
 		try {
@@ -93,7 +114,7 @@ public class JarPackagerUtilCore {
 					File zipEntryFile= new File(zipFile1, entryName);
 					String zipEntryCanonical= zipEntryFile.getCanonicalPath();
 					if (zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
-						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
+						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, entryTime, jarOutputStream, directories, status);
 					} else {
 						addWarning("Invalid path" + entryName, null, status); //$NON-NLS-1$
 					}
@@ -118,6 +139,7 @@ public class JarPackagerUtilCore {
 	 * @param zipFile the zipFile to extract
 	 * @param areDirectoryEntriesIncluded the directory entries are included
 	 * @param isCompressed the jar is compressed
+	 * @param entryTime the modification time of the written entries
 	 * @param jarOutputStream the destination JarOutputStream
 	 * @param directories the temporary set saves existing directories
 	 * @param status the <code>MultiStatus</code> saving the warnings during the process
@@ -125,7 +147,7 @@ public class JarPackagerUtilCore {
 	 * @since 1.14
 	 */
 	private static void addFile(String destinationPath, ZipEntry jarEntry, ZipFile zipFile,
-			boolean areDirectoryEntriesIncluded, boolean isCompressed,
+			boolean areDirectoryEntriesIncluded, boolean isCompressed, long entryTime,
 			JarOutputStream jarOutputStream, Set<String> directories, MultiStatus status) {
 		// Handle META-INF/MANIFEST.MF
 		if ("META-INF/MANIFEST.MF".equalsIgnoreCase(destinationPath) //$NON-NLS-1$
@@ -133,7 +155,7 @@ public class JarPackagerUtilCore {
 			return;
 		}
 		try {
-			addZipEntry(jarEntry, zipFile, destinationPath, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories);
+			addZipEntry(jarEntry, zipFile, destinationPath, areDirectoryEntriesIncluded, isCompressed, entryTime, jarOutputStream, directories);
 		} catch (IOException ex) {
 			if (ex instanceof ZipException && ex.getMessage() != null && ex.getMessage().startsWith("duplicate entry:")) {//$NON-NLS-1$
 				// ignore duplicates in META-INF (*.SF, *.RSA)
@@ -154,7 +176,7 @@ public class JarPackagerUtilCore {
 	 * @param zipFile the zipFile to extract
 	 * @param path the destinationPath in the jar file
 	 * @param areDirectoryEntriesIncluded the directory entries are included
-	 * @param isCompressed the jar is compressed
+	 * @param isCompressed the jar is compressed, entries stored in the zip file are copied as they are
 	 * @param jarOutputStream the destination JarOutputStream
 	 * @param directories the temporary set saves existing directories
 	 *
@@ -165,24 +187,46 @@ public class JarPackagerUtilCore {
 	public static void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, String path,
 			boolean areDirectoryEntriesIncluded, boolean isCompressed,
 			JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
+		addZipEntry(zipEntry, zipFile, path, areDirectoryEntriesIncluded, isCompressed, System.currentTimeMillis(), jarOutputStream, directories);
+	}
+
+	/**
+	 * Write the entry to the destinationPath of the given JarOutputStream, with the given
+	 * modification time.
+	 *
+	 * @param zipEntry the jar entry to write
+	 * @param zipFile the zipFile to extract
+	 * @param path the destinationPath in the jar file
+	 * @param areDirectoryEntriesIncluded the directory entries are included
+	 * @param isCompressed the jar is compressed, entries stored in the zip file are copied as they are
+	 * @param entryTime the modification time of the written entries
+	 * @param jarOutputStream the destination JarOutputStream
+	 * @param directories the temporary set saves existing directories
+	 *
+	 * @throws IOException If an I/O error occurred
+	 *
+	 * @since 1.22
+	 */
+	public static void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, String path,
+			boolean areDirectoryEntriesIncluded, boolean isCompressed, long entryTime,
+			JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
 		if (areDirectoryEntriesIncluded) {
-			addDirectories(path, jarOutputStream, directories);
+			addDirectories(path, entryTime, jarOutputStream, directories);
 		}
 		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
 
-		if (isCompressed) {
+		if (isCompressed && zipEntry.getMethod() != ZipEntry.STORED) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
 		} else {
+			// entries stored in the source archive were not worth compressing, copy them as they are
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(zipEntry.getSize());
 			newEntry.setCrc(zipEntry.getCrc());
 		}
 
-		long lastModified= System.currentTimeMillis();
-
 		// Set modification time
-		newEntry.setTime(lastModified);
+		newEntry.setTime(entryTime);
 		try (InputStream content= zipFile.getInputStream(zipEntry);) {
 			jarOutputStream.putNextEntry(newEntry);
 			content.transferTo(jarOutputStream);
@@ -202,6 +246,23 @@ public class JarPackagerUtilCore {
 	 * @since 1.14
 	 */
 	public static void addDirectories(String destPath, JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
+		addDirectories(destPath, System.currentTimeMillis(), jarOutputStream, directories);
+	}
+
+	/**
+	 * Creates the directory entries for the given path, with the given modification time, and
+	 * writes it to the current archive.
+	 *
+	 * @param destPath the path to add
+	 * @param entryTime the modification time of the directory entries
+	 * @param jarOutputStream the destination JarOutputStream
+	 * @param directories the temporary set saves existing directories
+	 *
+	 * @throws IOException if an I/O error has occurred
+	 *
+	 * @since 1.22
+	 */
+	public static void addDirectories(String destPath, long entryTime, JarOutputStream jarOutputStream, Set<String> directories) throws IOException {
 		String path= destPath.replace(File.separatorChar, '/');
 		int lastSlash= path.lastIndexOf('/');
 		List<JarEntry> entryDirectories= new ArrayList<>(2);
@@ -214,7 +275,7 @@ public class JarPackagerUtilCore {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(System.currentTimeMillis());
+			newEntry.setTime(entryTime);
 			entryDirectories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
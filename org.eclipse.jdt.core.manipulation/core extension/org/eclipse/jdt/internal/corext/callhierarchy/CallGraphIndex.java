@@ -0,0 +1,721 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.ExpressionMethodReference;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.RecordDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodReference;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.TypeMethodReference;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * In-memory call graph of the source code in the workspace, used by {@link CallerMethodWrapper}
+ * to answer caller queries for source methods without running the search engine.
+ * <p>
+ * The index maps the handle identifier of each called method, and of all methods it overrides,
+ * to the call sites in each compilation unit. It is built in a background job from ASTs with
+ * bindings, and kept up to date from the Java element deltas of saved changes: a change inside
+ * method bodies re-indexes the changed compilation unit, a structural change also re-indexes the
+ * units that call its methods or call methods on its types, and class path changes discard the
+ * index of the affected project. Primary working copies with unsaved changes are re-indexed by
+ * the query itself. Queries that cannot be answered exactly, e.g. because a call site lies inside
+ * a lambda expression, or because the index is not fresh, return <code>null</code> and the
+ * caller falls back to the search engine.
+ * </p>
+ * <p>
+ * The index is only used when {@link CallHierarchyCore#isCallGraphIndexEnabled()} is set.
+ * </p>
+ */
+public final class CallGraphIndex {
+
+	/**
+	 * Number of dirty compilation units that a query re-indexes itself before falling back to
+	 * search and leaving the work to the index job.
+	 */
+	private static final int MAX_SYNCHRONOUS_UPDATES= 20;
+
+	private static final int BATCH_SIZE= 100;
+
+	// delimiters of the segments of handle identifiers, see JavaElement
+	private static final char JEM_PACKAGEFRAGMENTROOT= '/';
+	private static final char JEM_COMPILATIONUNIT= '{';
+	private static final char JEM_TYPE= '[';
+
+	private static final class CallSite {
+		/**
+		 * The calling member, or <code>null</code> if the call cannot be attributed to a member
+		 * the same way the search engine does (calls inside lambda expressions).
+		 */
+		final IMember fCaller;
+		final int fStart;
+		final int fEnd;
+
+		CallSite(IMember caller, int start, int end) {
+			fCaller= caller;
+			fStart= start;
+			fEnd= end;
+		}
+	}
+
+	private static final class CallSiteCollector extends ASTVisitor {
+		private final ICompilationUnit fUnit;
+		private final Map<String, List<CallSite>> fCalls= new HashMap<>();
+		private final Map<String, String[]> fCalleeKeys= new HashMap<>();
+		private final Set<String> fReceiverTypes= new HashSet<>();
+		private final Set<String> fVisitedTypes= new HashSet<>();
+		private int fLambdaDepth;
+
+		CallSiteCollector(ICompilationUnit unit) {
+			fUnit= unit;
+		}
+
+		Map<String, List<CallSite>> getCalls() {
+			return fCalls;
+		}
+
+		/**
+		 * @return the handle identifiers of the source types that the calls are made on, with all
+		 *         their source super types, whose structural changes can change what the calls
+		 *         resolve to
+		 */
+		Set<String> getReceiverTypes() {
+			return fReceiverTypes;
+		}
+
+		@Override
+		public boolean visit(Javadoc node) {
+			return false;
+		}
+
+		// unqualified calls are made on the enclosing types
+		@Override
+		public boolean visit(TypeDeclaration node) {
+			addReceiverType(node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(EnumDeclaration node) {
+			addReceiverType(node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(RecordDeclaration node) {
+			addReceiverType(node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(AnonymousClassDeclaration node) {
+			addReceiverType(node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(LambdaExpression node) {
+			fLambdaDepth++;
+			return true;
+		}
+
+		@Override
+		public void endVisit(LambdaExpression node) {
+			fLambdaDepth--;
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node.getName(), node.getStartPosition() + node.getLength());
+			if (node.getExpression() != null)
+				addReceiverType(node.getExpression().resolveTypeBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperMethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node.getName(), node.getStartPosition() + node.getLength());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ExpressionMethodReference node) {
+			addCall(node.resolveMethodBinding(), node.getName(), node.getStartPosition() + node.getLength());
+			addReceiverType(node.getExpression().resolveTypeBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(TypeMethodReference node) {
+			addCall(node.resolveMethodBinding(), node.getName(), node.getStartPosition() + node.getLength());
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperMethodReference node) {
+			addCall(node.resolveMethodBinding(), node.getName(), node.getStartPosition() + node.getLength());
+			return true;
+		}
+
+		private void addCall(IMethodBinding binding, SimpleName name, int end) {
+			if (binding == null)
+				return;
+			int start= name.getStartPosition();
+			IMember caller= null;
+			if (fLambdaDepth == 0) {
+				try {
+					IJavaElement element= fUnit.getElementAt(start);
+					if (!(element instanceof IMember))
+						return;
+					caller= (IMember) element;
+				} catch (JavaModelException e) {
+					return;
+				}
+			}
+			CallSite site= new CallSite(caller, start, end);
+			for (String key : getCalleeKeys(binding.getMethodDeclaration())) {
+				fCalls.computeIfAbsent(key, k -> new ArrayList<>(2)).add(site);
+			}
+			addReceiverType(binding.getDeclaringClass());
+		}
+
+		private void addReceiverType(ITypeBinding type) {
+			if (type == null)
+				return;
+			type= type.getErasure();
+			if (!type.isFromSource() || !fVisitedTypes.add(type.getKey()))
+				return;
+			IJavaElement element= type.getJavaElement();
+			if (element != null)
+				fReceiverTypes.add(element.getHandleIdentifier());
+			addReceiverType(type.getSuperclass());
+			for (ITypeBinding superInterface : type.getInterfaces()) {
+				addReceiverType(superInterface);
+			}
+		}
+
+		/*
+		 * A call is reported for the invoked method and for every method it overrides, like
+		 * a reference search for one of these methods would find it.
+		 */
+		private String[] getCalleeKeys(IMethodBinding method) {
+			String bindingKey= method.getKey();
+			String[] keys= fCalleeKeys.get(bindingKey);
+			if (keys == null) {
+				Set<String> result= new HashSet<>();
+				collectCalleeKeys(method, result, new HashSet<>());
+				keys= result.toArray(new String[result.size()]);
+				fCalleeKeys.put(bindingKey, keys);
+			}
+			return keys;
+		}
+
+		private static void collectCalleeKeys(IMethodBinding method, Set<String> result, Set<String> visited) {
+			if (!visited.add(method.getKey()))
+				return;
+			IJavaElement element= method.getJavaElement();
+			if (element != null)
+				result.add(element.getHandleIdentifier());
+			for (IMethodBinding overridden : Bindings.findOverriddenMethods(method, false, false)) {
+				collectCalleeKeys(overridden.getMethodDeclaration(), result, visited);
+			}
+		}
+	}
+
+	private class IndexDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+
+		private void processDelta(IJavaElementDelta delta) {
+			IJavaElement elem= delta.getElement();
+			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
+			int flags= delta.getFlags();
+
+			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.JAVA_PROJECT:
+					if (!isChanged || (flags & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						discardProject((IJavaProject) elem);
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (!isChanged || (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+							| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+						discardProject(elem.getJavaProject());
+						return;
+					}
+					processChildrenDelta(delta);
+					return;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					if (delta.getKind() == IJavaElementDelta.REMOVED) {
+						removeUnits(elem.getHandleIdentifier(), JEM_COMPILATIONUNIT);
+					} else if (delta.getKind() == IJavaElementDelta.ADDED) {
+						try {
+							for (ICompilationUnit added : ((IPackageFragment) elem).getCompilationUnits()) {
+								markDirty(added, false);
+							}
+						} catch (JavaModelException e) {
+							discardProject(elem.getJavaProject());
+						}
+					} else {
+						processChildrenDelta(delta);
+					}
+					return;
+				case IJavaElement.COMPILATION_UNIT:
+					ICompilationUnit unit= (ICompilationUnit) elem;
+					if (!JavaModelUtil.isPrimary(unit))
+						return;
+					if (delta.getKind() == IJavaElementDelta.REMOVED) {
+						removeUnits(unit.getHandleIdentifier(), JEM_TYPE);
+					} else if (isChanged && hasStructuralChange(delta)) {
+						// calls on the types of the unit may resolve differently now
+						markDirty(unit, true);
+					} else {
+						markDirty(unit, false);
+					}
+					return;
+				default:
+					return;
+			}
+		}
+
+		private boolean hasStructuralChange(IJavaElementDelta delta) {
+			int flags= delta.getFlags();
+			if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT
+					&& (flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+				return true; // unknown structural change
+			}
+			if ((flags & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0)
+				return true;
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				int type= child.getElement().getElementType();
+				if (type != IJavaElement.TYPE && type != IJavaElement.METHOD && type != IJavaElement.FIELD
+						&& type != IJavaElement.INITIALIZER)
+					continue;
+				if (child.getKind() != IJavaElementDelta.CHANGED || hasStructuralChange(child))
+					return true;
+			}
+			return false;
+		}
+
+		private void processChildrenDelta(IJavaElementDelta delta) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				processDelta(child);
+			}
+		}
+	}
+
+	private class IndexJob extends Job {
+		IndexJob() {
+			super(CallHierarchyMessages.CallGraphIndex_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				buildIndex(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaManipulationPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == CallGraphIndex.class;
+		}
+	}
+
+	private static CallGraphIndex fgInstance;
+
+	private final Map<ICompilationUnit, Map<String, List<CallSite>>> fUnits= new HashMap<>();
+	private final Map<ICompilationUnit, Set<String>> fReceiverTypesByUnit= new HashMap<>();
+	private final Map<String, Set<ICompilationUnit>> fUnitsByCallee= new HashMap<>();
+	private final Map<String, Set<ICompilationUnit>> fUnitsByReceiverType= new HashMap<>();
+	private final Set<IJavaProject> fIndexedProjects= new HashSet<>();
+	/**
+	 * The units to re-index, with the stamp of their last change. A unit is only removed if its
+	 * stamp has not changed while it was re-indexed, so that a change during indexing is not lost.
+	 */
+	private final Map<ICompilationUnit, Integer> fDirtyUnits= new HashMap<>();
+	private int fDirtyStamp;
+	/**
+	 * Incremented whenever the indexed data of a project is discarded, so that an index job that
+	 * started before does not mark its projects as up to date.
+	 */
+	private int fGeneration;
+
+	private final IElementChangedListener fDeltaListener;
+	private final Job fIndexJob;
+
+	public static synchronized CallGraphIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new CallGraphIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.fIndexJob.cancel();
+		fgInstance= null;
+	}
+
+	private CallGraphIndex() {
+		fDeltaListener= new IndexDeltaListener();
+		// reconciles of working copies are not followed, queries re-index units with unsaved changes
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE);
+		fIndexJob= new IndexJob();
+	}
+
+	/**
+	 * Returns the callers of a source method from the index.
+	 *
+	 * @param method the called method
+	 * @param scope the scope that callers must be enclosed in
+	 * @param monitor the progress monitor
+	 * @return a map from handle identifier to {@link MethodCall} like
+	 *         {@link MethodWrapper#findChildren(IProgressMonitor)}, or <code>null</code> if the
+	 *         index cannot answer the query and the search engine must be used
+	 */
+	Map<String, MethodCall> findCallers(IMethod method, IJavaSearchScope scope, IProgressMonitor monitor) {
+		if (method.getCompilationUnit() == null)
+			return null; // callers of library methods may live in class files
+		try {
+			if (method.isConstructor())
+				return null; // implicit super constructor calls are not indexed
+		} catch (JavaModelException e) {
+			return null;
+		}
+
+		ICompilationUnit[] dirtyUnits;
+		synchronized (this) {
+			if (!isBuilt()) {
+				fIndexJob.schedule();
+				return null;
+			}
+			dirtyUnits= fDirtyUnits.keySet().toArray(new ICompilationUnit[fDirtyUnits.size()]);
+		}
+		if (dirtyUnits.length > MAX_SYNCHRONOUS_UPDATES) {
+			fIndexJob.schedule();
+			return null;
+		}
+		Set<ICompilationUnit> changedUnits= new LinkedHashSet<>(Arrays.asList(dirtyUnits));
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			if (workingCopy.hasUnsavedChanges())
+				changedUnits.add(workingCopy);
+		}
+		if (changedUnits.size() > MAX_SYNCHRONOUS_UPDATES)
+			return null;
+		if (!changedUnits.isEmpty()) {
+			indexUnits(changedUnits.toArray(new ICompilationUnit[changedUnits.size()]), monitor);
+		}
+
+		List<CallSite> sites= new ArrayList<>();
+		synchronized (this) {
+			if (!fDirtyUnits.isEmpty() || !isBuilt())
+				return null;
+			Set<ICompilationUnit> units= fUnitsByCallee.get(method.getHandleIdentifier());
+			if (units != null) {
+				String key= method.getHandleIdentifier();
+				for (ICompilationUnit unit : units) {
+					for (CallSite site : fUnits.get(unit).get(key)) {
+						if (site.fCaller == null)
+							return null;
+						sites.add(site);
+					}
+				}
+			}
+		}
+
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		for (CallSite site : sites) {
+			if (scope.encloses(site.fCaller)) {
+				collector.addMember(site.fCaller, site.fCaller, site.fStart, site.fEnd);
+			}
+		}
+		return collector.getCallers();
+	}
+
+	/**
+	 * @return whether every open Java project of the workspace has been indexed
+	 */
+	private boolean isBuilt() {
+		try {
+			for (IJavaProject project : getJavaProjects()) {
+				if (!fIndexedProjects.contains(project))
+					return false;
+			}
+			return true;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private static IJavaProject[] getJavaProjects() throws JavaModelException {
+		return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+	}
+
+	/**
+	 * Marks a unit for re-indexing. Units of projects that are still being indexed are marked
+	 * too, the index job may have read them before the change.
+	 *
+	 * @param unit the changed unit
+	 * @param structural whether the members or super types of the unit have changed, which also
+	 *            marks the units calling methods declared in it or calling methods on its types
+	 */
+	private synchronized void markDirty(ICompilationUnit unit, boolean structural) {
+		fDirtyUnits.put(unit, Integer.valueOf(++fDirtyStamp));
+		if (structural)
+			markDependentsDirty(unit.getHandleIdentifier(), JEM_TYPE);
+	}
+
+	/**
+	 * Removes a deleted compilation unit, or the units of a deleted package, from the index.
+	 *
+	 * @param handleIdentifier the handle identifier of the compilation unit or package
+	 * @param delimiter the delimiter that follows the handle identifier in the handles of its
+	 *            children
+	 */
+	private synchronized void removeUnits(String handleIdentifier, char delimiter) {
+		for (ICompilationUnit unit : new ArrayList<>(fUnits.keySet())) {
+			if (isInside(unit.getHandleIdentifier(), handleIdentifier, delimiter))
+				update(unit, null, null);
+		}
+		fDirtyUnits.keySet().removeIf(unit -> isInside(unit.getHandleIdentifier(), handleIdentifier, delimiter));
+		markDependentsDirty(handleIdentifier, delimiter);
+	}
+
+	/**
+	 * Discards the index of a project whose class path has changed or that has been opened,
+	 * closed or deleted, and marks the units of other projects that call into it.
+	 *
+	 * @param project the project
+	 */
+	private synchronized void discardProject(IJavaProject project) {
+		for (ICompilationUnit unit : new ArrayList<>(fUnits.keySet())) {
+			if (project.equals(unit.getJavaProject()))
+				update(unit, null, null);
+		}
+		fDirtyUnits.keySet().removeIf(unit -> project.equals(unit.getJavaProject()));
+		fIndexedProjects.remove(project);
+		fGeneration++;
+		markDependentsDirty(project.getHandleIdentifier(), JEM_PACKAGEFRAGMENTROOT);
+	}
+
+	/**
+	 * Marks the units that call methods declared in, or call methods on types declared in, the
+	 * given element.
+	 *
+	 * @param handleIdentifier the handle identifier of a project, package or compilation unit
+	 * @param delimiter the delimiter that follows the handle identifier in the handles of its
+	 *            children
+	 */
+	private void markDependentsDirty(String handleIdentifier, char delimiter) {
+		for (Map<String, Set<ICompilationUnit>> unitsByKey : Arrays.asList(fUnitsByCallee, fUnitsByReceiverType)) {
+			for (Map.Entry<String, Set<ICompilationUnit>> entry : unitsByKey.entrySet()) {
+				if (isInside(entry.getKey(), handleIdentifier, delimiter)) {
+					for (ICompilationUnit unit : entry.getValue()) {
+						if (fIndexedProjects.contains(unit.getJavaProject()))
+							fDirtyUnits.put(unit, Integer.valueOf(++fDirtyStamp));
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isInside(String handleIdentifier, String parentHandleIdentifier, char delimiter) {
+		int length= parentHandleIdentifier.length();
+		return handleIdentifier.startsWith(parentHandleIdentifier)
+				&& (handleIdentifier.length() == length || handleIdentifier.charAt(length) == delimiter);
+	}
+
+	private void buildIndex(IProgressMonitor monitor) throws JavaModelException {
+		IJavaProject[] projects= getJavaProjects();
+		SubMonitor progress= SubMonitor.convert(monitor, projects.length + 1);
+		for (IJavaProject project : projects) {
+			int generation;
+			synchronized (this) {
+				if (fIndexedProjects.contains(project)) {
+					progress.worked(1);
+					continue;
+				}
+				generation= fGeneration;
+			}
+			ICompilationUnit[] units= JavaModelUtil.getAllCompilationUnits(new IJavaElement[] { project });
+			indexUnits(units, progress.split(1));
+			synchronized (this) {
+				if (generation == fGeneration)
+					fIndexedProjects.add(project);
+			}
+		}
+		ICompilationUnit[] dirtyUnits;
+		synchronized (this) {
+			dirtyUnits= fDirtyUnits.keySet().toArray(new ICompilationUnit[fDirtyUnits.size()]);
+		}
+		indexUnits(dirtyUnits, progress.split(1));
+	}
+
+	private void indexUnits(ICompilationUnit[] units, IProgressMonitor monitor) {
+		Map<IJavaProject, List<ICompilationUnit>> unitsByProject= new HashMap<>();
+		for (ICompilationUnit unit : units) {
+			unitsByProject.computeIfAbsent(unit.getJavaProject(), p -> new ArrayList<>()).add(unit);
+		}
+		SubMonitor progress= SubMonitor.convert(monitor, units.length / BATCH_SIZE + unitsByProject.size());
+		for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : unitsByProject.entrySet()) {
+			List<ICompilationUnit> projectUnits= entry.getValue();
+			for (int i= 0; i < projectUnits.size(); i+= BATCH_SIZE) {
+				if (progress.isCanceled())
+					throw new OperationCanceledException();
+				List<ICompilationUnit> batch= projectUnits.subList(i, Math.min(projectUnits.size(), i + BATCH_SIZE));
+				indexBatch(entry.getKey(), batch.toArray(new ICompilationUnit[batch.size()]), progress.split(1));
+			}
+		}
+	}
+
+	private void indexBatch(IJavaProject project, ICompilationUnit[] units, IProgressMonitor monitor) {
+		Set<ICompilationUnit> missing= new HashSet<>(Arrays.asList(units));
+		Map<ICompilationUnit, Integer> dirtyStamps= new HashMap<>();
+		synchronized (this) {
+			for (ICompilationUnit unit : units) {
+				Integer stamp= fDirtyUnits.get(unit);
+				if (stamp != null)
+					dirtyStamps.put(unit, stamp);
+			}
+		}
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(project);
+		parser.setResolveBindings(true);
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				CallSiteCollector collector= new CallSiteCollector(source);
+				ast.accept(collector);
+				synchronized (CallGraphIndex.this) {
+					update(source, collector.getCalls(), collector.getReceiverTypes());
+					clearDirty(source, dirtyStamps);
+				}
+				missing.remove(source);
+			}
+		}, monitor);
+		synchronized (this) {
+			for (ICompilationUnit unit : missing) {
+				update(unit, null, null); // deleted in the meantime
+				clearDirty(unit, dirtyStamps);
+			}
+		}
+	}
+
+	/**
+	 * Removes the dirty mark of an indexed unit, unless the unit has been marked again since the
+	 * batch was taken.
+	 *
+	 * @param unit the indexed unit
+	 * @param dirtyStamps the stamps of the dirty units of the batch when it was taken
+	 */
+	private void clearDirty(ICompilationUnit unit, Map<ICompilationUnit, Integer> dirtyStamps) {
+		Integer stamp= dirtyStamps.get(unit);
+		if (stamp != null)
+			fDirtyUnits.remove(unit, stamp);
+	}
+
+	private synchronized void update(ICompilationUnit unit, Map<String, List<CallSite>> calls, Set<String> receiverTypes) {
+		Map<String, List<CallSite>> oldCalls= fUnits.remove(unit);
+		if (oldCalls != null)
+			removeKeys(fUnitsByCallee, oldCalls.keySet(), unit);
+		Set<String> oldReceiverTypes= fReceiverTypesByUnit.remove(unit);
+		if (oldReceiverTypes != null)
+			removeKeys(fUnitsByReceiverType, oldReceiverTypes, unit);
+		if (calls != null) {
+			fUnits.put(unit, calls);
+			for (String key : calls.keySet()) {
+				fUnitsByCallee.computeIfAbsent(key, k -> new HashSet<>()).add(unit);
+			}
+			fReceiverTypesByUnit.put(unit, receiverTypes);
+			for (String key : receiverTypes) {
+				fUnitsByReceiverType.computeIfAbsent(key, k -> new HashSet<>()).add(unit);
+			}
+		}
+	}
+
+	private static void removeKeys(Map<String, Set<ICompilationUnit>> unitsByKey, Set<String> keys, ICompilationUnit unit) {
+		for (String key : keys) {
+			Set<ICompilationUnit> units= unitsByKey.get(key);
+			if (units != null) {
+				units.remove(unit);
+				if (units.isEmpty())
+					unitsByKey.remove(key);
+			}
+		}
+	}
+}
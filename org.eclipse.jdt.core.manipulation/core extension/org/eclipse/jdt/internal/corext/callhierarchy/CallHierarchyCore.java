@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ public class CallHierarchyCore {
     public static final String PREF_USE_IMPLEMENTORS= "PREF_USE_IMPLEMENTORS"; //$NON-NLS-1$
     public static final String PREF_USE_FILTERS= "PREF_USE_FILTERS"; //$NON-NLS-1$
     public static final String PREF_FILTERS_LIST= "PREF_FILTERS_LIST"; //$NON-NLS-1$
+    public static final String PREF_USE_CALL_GRAPH_INDEX= "PREF_USE_CALL_GRAPH_INDEX"; //$NON-NLS-1$
     private String defaultIgnoreFilters= "java.*,javax.*"; //$NON-NLS-1$
 
     private static CallHierarchyCore fgInstance;
@@ -83,6 +84,14 @@ public class CallHierarchyCore {
 		return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_HIDE_TEST_CODE, null));
 	}
 
+	/**
+	 * @return whether callers of source methods are looked up in the {@link CallGraphIndex}
+	 *         before falling back to the search engine
+	 */
+	public boolean isCallGraphIndexEnabled() {
+		return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_CALL_GRAPH_INDEX, null));
+	}
+
     public Collection<IJavaElement> getImplementingMethods(IMethod method) {
         if (isSearchUsingImplementorsEnabled()) {
             IJavaElement[] result= Implementors.getInstance().searchForImplementors(new IJavaElement[] {
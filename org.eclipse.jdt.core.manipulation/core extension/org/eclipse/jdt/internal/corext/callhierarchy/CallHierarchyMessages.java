@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ public final class CallHierarchyMessages extends NLS {
 
 	public static String CallerMethodWrapper_taskname;
 	public static String CalleeMethodWrapper_taskname;
+	public static String CallGraphIndex_job_name;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, CallHierarchyMessages.class);
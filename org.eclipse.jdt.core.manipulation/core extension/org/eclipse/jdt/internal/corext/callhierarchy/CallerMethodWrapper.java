@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -147,6 +147,12 @@ public class CallerMethodWrapper extends MethodWrapper {
 				return new HashMap<>(0);
 			}
 
+			if (member instanceof IMethod && CallHierarchyCore.getDefault().isCallGraphIndexEnabled()) {
+				Map<String, MethodCall> indexedCallers= CallGraphIndex.getInstance().findCallers((IMethod) member, getSearchScope(), monitor);
+				if (indexedCallers != null)
+					return indexedCallers;
+			}
+
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
 			IJavaSearchScope defaultSearchScope= getSearchScope();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PlatformObject;
 
@@ -45,12 +54,41 @@ public abstract class MethodWrapper extends PlatformObject {
 		fMethodWrapperCore= core;
 	}
 
-    private Map<String, MethodCall> fElements = null;
+    /**
+     * Maximum number of wrappers whose calls are searched concurrently by
+     * {@link #prefetchCalls(MethodWrapper[], IProgressMonitor)}.
+     */
+    private static final int MAX_PREFETCH_THREADS= 4;
+
+    /**
+     * Upper bound for the number of method calls held in the cache of one hierarchy
+     * before speculative searches stop.
+     */
+    private static final int MAX_PREFETCHED_CALLS= 20000;
+
+    /**
+     * The workers of {@link #prefetchCalls(MethodWrapper[], IProgressMonitor)}, shared by all
+     * hierarchies so that the number of concurrent speculative searches stays bounded no matter
+     * how many prefetches are requested.
+     */
+    private static final ThreadPoolExecutor PREFETCH_EXECUTOR;
+    static {
+        PREFETCH_EXECUTOR= new ThreadPoolExecutor(MAX_PREFETCH_THREADS, MAX_PREFETCH_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread= new Thread(runnable, "Call Hierarchy Prefetch"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        PREFETCH_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private volatile Map<String, MethodCall> fElements = null;
 
     /*
      * A cache of previously found methods. This cache should be searched
      * before adding a "new" method object reference to the list of elements.
      * This way previously found methods won't be searched again.
+     * The cache is shared by all wrappers of a hierarchy and may be filled
+     * concurrently by deferred and speculative searches.
      */
     private Map<String, Map<String, MethodCall>> fMethodCache;
     private final MethodCall fMethodCall;
@@ -66,7 +104,7 @@ public abstract class MethodWrapper extends PlatformObject {
         Assert.isNotNull(methodCall);
 
         if (parent == null) {
-            setMethodCache(new HashMap<>());
+            setMethodCache(new ConcurrentHashMap<>());
             fLevel = 1;
         } else {
             setMethodCache(parent.getMethodCache());
@@ -83,21 +121,103 @@ public abstract class MethodWrapper extends PlatformObject {
 	}
 
     public MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
-        if (fElements == null) {
-            doFindChildren(progressMonitor);
+        Map<String, MethodCall> elements = fElements;
+        if (elements == null) {
+            elements = doFindChildren(progressMonitor);
         }
 
-        MethodWrapper[] result = new MethodWrapper[fElements.size()];
+        MethodWrapper[] result = new MethodWrapper[elements.size()];
         int i = 0;
 
-        for (String string : fElements.keySet()) {
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
+        for (String string : elements.keySet()) {
+            MethodCall methodCall = getMethodCallFromMap(elements, string);
             result[i++] = createMethodWrapper(methodCall);
         }
 
         return result;
     }
 
+    /**
+     * Returns whether the calls of this wrapper have already been searched, either by
+     * {@link #getCalls(IProgressMonitor)} on this wrapper or by any other wrapper of the
+     * same hierarchy for the same member.
+     *
+     * @return <code>true</code> iff {@link #getCalls(IProgressMonitor)} will not search
+     */
+    public boolean hasCachedCalls() {
+        if (fElements != null)
+            return true;
+        return lookupMethod(getMethodCall()) != null;
+    }
+
+    /**
+     * Speculatively searches the calls of the given wrappers, so that expanding them later
+     * is answered from the cache. Up to {@value #MAX_PREFETCH_THREADS} wrappers are searched
+     * concurrently, across all prefetches of all hierarchies. Wrappers that cannot have children, are recursive or have already been
+     * searched are skipped, and prefetching stops once the hierarchy caches
+     * {@value #MAX_PREFETCHED_CALLS} calls.
+     *
+     * @param wrappers the wrappers to search, typically the children of a just expanded node
+     * @param progressMonitor the progress monitor used for cancellation, or <code>null</code>
+     */
+    public static void prefetchCalls(MethodWrapper[] wrappers, IProgressMonitor progressMonitor) {
+        List<MethodWrapper> candidates = new ArrayList<>(wrappers.length);
+        for (MethodWrapper wrapper : wrappers) {
+            if (wrapper.canHaveChildren() && !wrapper.isRecursive() && !wrapper.hasCachedCalls()) {
+                candidates.add(wrapper);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(candidates.size());
+        try {
+            for (MethodWrapper wrapper : candidates) {
+                futures.add(PREFETCH_EXECUTOR.submit(() -> {
+                    if (progressMonitor != null && progressMonitor.isCanceled())
+                        return;
+                    if (wrapper.getCachedCallCount() > MAX_PREFETCHED_CALLS)
+                        return;
+                    // the monitor is shared by all workers, only forward cancellation
+                    wrapper.getCalls(new NullProgressMonitor() {
+                        @Override
+                        public boolean isCanceled() {
+                            return progressMonitor != null && progressMonitor.isCanceled();
+                        }
+                    });
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // searches that have started stop through the monitor, never interrupt them
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * @return the number of method calls held in the cache of this hierarchy
+     */
+    private int getCachedCallCount() {
+        int count = 0;
+        for (Map<String, MethodCall> calls : getMethodCache().values()) {
+            count += calls.size();
+        }
+        return count;
+    }
+
     public int getLevel() {
         return fLevel;
     }
@@ -166,11 +286,6 @@ public abstract class MethodWrapper extends PlatformObject {
 
     protected abstract String getTaskName();
 
-    private void addCallToCache(MethodCall methodCall) {
-        Map<String, MethodCall> cachedCalls = lookupMethod(this.getMethodCall());
-        cachedCalls.put(methodCall.getKey(), methodCall);
-    }
-
 	/**
 	 * Creates a method wrapper for the child of the receiver.
 	 *
@@ -179,30 +294,28 @@ public abstract class MethodWrapper extends PlatformObject {
 	 */
     protected abstract MethodWrapper createMethodWrapper(MethodCall methodCall);
 
-    private void doFindChildren(IProgressMonitor progressMonitor) {
+    private Map<String, MethodCall> doFindChildren(IProgressMonitor progressMonitor) {
         Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
+        Map<String, MethodCall> elements;
 
-        if (existingResults != null && !existingResults.isEmpty()) {
-            fElements = new HashMap<>();
-            fElements.putAll(existingResults);
+        if (existingResults != null) {
+            elements = new HashMap<>();
+            elements.putAll(existingResults);
         } else {
-            initCalls();
-
             if (progressMonitor != null) {
                 progressMonitor.beginTask(getTaskName(), 100);
             }
 
             try {
-                performSearch(progressMonitor);
-            } catch (OperationCanceledException e){
-            	fElements= null;
-            	throw e;
+                elements = performSearch(progressMonitor);
             } finally {
                 if (progressMonitor != null) {
                     progressMonitor.done();
                 }
             }
         }
+        fElements = elements;
+        return elements;
     }
 
     /**
@@ -246,12 +359,6 @@ public abstract class MethodWrapper extends PlatformObject {
         return fMethodCache;
     }
 
-    private void initCalls() {
-        this.fElements = new HashMap<>();
-
-        initCacheForMethod();
-    }
-
     /**
      * Looks up a previously created search result in the "global" cache.
      * @param methodCall the method call
@@ -261,26 +368,25 @@ public abstract class MethodWrapper extends PlatformObject {
         return getMethodCache().get(methodCall.getKey());
     }
 
-    private void performSearch(IProgressMonitor progressMonitor) {
-        fElements = findChildren(progressMonitor);
+    private Map<String, MethodCall> performSearch(IProgressMonitor progressMonitor) {
+        Map<String, MethodCall> elements = findChildren(progressMonitor);
+        Map<String, MethodCall> cachedCalls = new ConcurrentHashMap<>();
 
-        for (String string : fElements.keySet()) {
+        for (String string : elements.keySet()) {
             checkCanceled(progressMonitor);
 
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
-            addCallToCache(methodCall);
+            MethodCall methodCall = getMethodCallFromMap(elements, string);
+            cachedCalls.put(methodCall.getKey(), methodCall);
         }
+        // publish complete results only, concurrent lookups must never see a partial search
+        getMethodCache().put(getMethodCall().getKey(), cachedCalls);
+        return elements;
     }
 
     private MethodCall getMethodCallFromMap(Map<String, MethodCall> elements, String key) {
         return elements.get(key);
     }
 
-    private void initCacheForMethod() {
-        Map<String, MethodCall> cachedCalls = new HashMap<>();
-        getMethodCache().put(this.getMethodCall().getKey(), cachedCalls);
-    }
-
     /**
      * Checks with the progress monitor to see whether the creation of the type hierarchy
      * should be canceled. Should be regularly called
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,11 +22,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -80,6 +85,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
 import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsUpdate.CuUpdate;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedSubTypeCache;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
@@ -104,6 +110,12 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 
 	private static final String REWRITTEN= "InferTypeArgumentsRefactoring.rewritten"; //$NON-NLS-1$
 
+	private static final int BATCH_SIZE= 150;
+	private static final int MAX_PARSER_THREADS= 4;
+
+	private int fBatchSize= BATCH_SIZE;
+	private int fParserThreads= Math.max(1, Math.min(MAX_PARSER_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+
 	private TextChangeManager fChangeManager;
 	private IJavaElement[] fElements;
 	private InferTypeArgumentsTCModel fTCModel;
@@ -149,6 +161,27 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		return fLeaveUnconstrainedRaw;
 	}
 
+	/**
+	 * Sets how many compilation units are parsed together. For tests only.
+	 *
+	 * @param batchSize the number of compilation units per batch
+	 */
+	public void setBatchSize(int batchSize) {
+		fBatchSize= Math.max(1, batchSize);
+	}
+
+	/**
+	 * Sets how many batches may be in progress at the same time. Only their parsing overlaps, see
+	 * {@link #collectConstraints(IJavaProject, List, int, InferTypeArgumentsConstraintCreator, RefactoringStatus, IProgressMonitor)}.
+	 * For tests only.
+	 *
+	 * @param parserThreads the number of parser threads, <code>1</code> to parse the batches one
+	 *            after the other on the calling thread
+	 */
+	public void setParserThreads(int parserThreads) {
+		fParserThreads= Math.max(1, parserThreads);
+	}
+
 	/*
 	 * @see org.eclipse.ltk.core.refactoring.Refactoring#checkInitialConditions(org.eclipse.core.runtime.IProgressMonitor)
 	 */
@@ -176,56 +209,11 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 				ArrayList<IJavaElement> javaElementsList= entry.getValue();
 				IJavaElement[] javaElements= javaElementsList.toArray(new IJavaElement[javaElementsList.size()]);
 				List<ICompilationUnit> cus= Arrays.asList(JavaModelUtil.getAllCompilationUnits(javaElements));
-				int batchSize= 150;
-				int batches= ((cus.size()-1) / batchSize) + 1;
+				int batches= ((cus.size()-1) / fBatchSize) + 1;
 				IProgressMonitor projectMonitor= Progress.subMonitor(pm, 1);
 				projectMonitor.beginTask("", batches); //$NON-NLS-1$
 				projectMonitor.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
-				for (int i= 0; i < batches; i++) {
-					List<ICompilationUnit> batch= cus.subList(i * batchSize, Math.min(cus.size(), (i + 1) * batchSize));
-					ICompilationUnit[] batchCus= batch.toArray(new ICompilationUnit[batch.size()]);
-					final IProgressMonitor batchMonitor= Progress.subMonitor(projectMonitor, 1);
-					batchMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
-					ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-					parser.setProject(project);
-					parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
-					parser.setResolveBindings(true);
-					parser.createASTs(batchCus, new String[0], new ASTRequestor() {
-						@Override
-						public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
-							batchMonitor.subTask(BasicElementLabels.getFileName(source));
-							SafeRunner.run(new ISafeRunnable() {
-								@Override
-								public void run() throws Exception {
-									for (IProblem problem : ast.getProblems()) {
-										if (problem.isError()) {
-											String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
-											String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
-											result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
-											return;
-										}
-									}
-									ast.accept(unitCollector);
-								}
-
-								@Override
-								public void handleException(Throwable exception) {
-									String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
-									String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
-									JavaManipulationPlugin.log(new Status(IStatus.ERROR, CorextCore.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
-									String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
-									result.addError(msg2, JavaStatusContext.create(source));
-								}
-							});
-							fTCModel.newCu();
-						}
-
-						@Override
-						public void acceptBinding(String bindingKey, IBinding binding) {
-							//do nothing
-						}
-					}, batchMonitor);
-				}
+				collectConstraints(project, cus, batches, unitCollector, result, projectMonitor);
 				projectMonitor.done();
 				fTCModel.newCu();
 			}
@@ -253,7 +241,225 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		}
 	}
 
+	/**
+	 * Parses the compilation units of a project in batches and feeds the resulting ASTs into the
+	 * constraint creator.
+	 * <p>
+	 * Each AST is visited while its parser reports it in
+	 * {@link ASTRequestor#acceptAST(ICompilationUnit, CompilationUnit)}, so that its bindings are
+	 * resolved against a live lookup environment, and is released before the next one is reported.
+	 * </p>
+	 * <p>
+	 * With more than one parser thread, the batches are handed to a small worker pool, each with
+	 * its own parser. The type constraints model is not thread-safe and the order in which
+	 * compilation units are visited influences the solver result, so the workers take turns: a
+	 * worker blocks in <code>acceptAST</code> until all earlier batches are done, which gives the
+	 * same model as processing the batches one after the other. The parallelism is therefore
+	 * limited: while a batch is visited, the following batches only get as far as parsing their
+	 * units, building their type bindings and resolving their first unit. Resolving the remaining
+	 * units and collecting the constraints still happen one unit at a time.
+	 * </p>
+	 *
+	 * @param project the project containing the compilation units
+	 * @param cus the compilation units to process
+	 * @param batches the number of batches of <code>fBatchSize</code> units
+	 * @param unitCollector the constraint creator
+	 * @param result the status to report problems to
+	 * @param pm the progress monitor, expecting <code>batches</code> work units
+	 * @throws CoreException if parsing fails
+	 */
+	private void collectConstraints(final IJavaProject project, final List<ICompilationUnit> cus, int batches, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, final IProgressMonitor pm) throws CoreException {
+		int workers= Math.min(batches, fParserThreads);
+		if (workers <= 1) {
+			for (int i= 0; i < batches; i++) {
+				IProgressMonitor batchMonitor= Progress.subMonitor(pm, 1);
+				batchMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
+				parseBatch(project, getBatch(cus, i), unitCollector, result, batchMonitor, batchMonitor);
+				batchMonitor.done();
+			}
+			return;
+		}
+
+		final BatchTurns turns= new BatchTurns(pm);
+		ExecutorService executor= Executors.newFixedThreadPool(workers);
+		try {
+			// the pool runs the batches in the order of submission, so the batch whose turn it is always has a worker
+			List<Future<?>> futures= new ArrayList<>(batches);
+			for (int i= 0; i < batches; i++) {
+				final int batch= i;
+				futures.add(executor.submit(() -> {
+					try {
+						parseBatch(project, getBatch(cus, batch), unitCollector, result, turns.createMonitor(batch), null);
+					} finally {
+						turns.finish(batch);
+					}
+					return null;
+				}));
+			}
+			pm.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
+			for (Future<?> future : futures) {
+				waitFor(future);
+				pm.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<ICompilationUnit> getBatch(List<ICompilationUnit> cus, int index) {
+		return cus.subList(index * fBatchSize, Math.min(cus.size(), (index + 1) * fBatchSize));
+	}
+
+	private static void waitFor(Future<?> future) throws CoreException {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new CoreException(new Status(IStatus.ERROR, CorextCore.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+		}
+	}
+
+	/**
+	 * Parses a batch and visits each AST as soon as the parser reports it.
+	 *
+	 * @param project the project containing the compilation units
+	 * @param cus the compilation units of the batch
+	 * @param unitCollector the constraint creator
+	 * @param result the status to report problems to
+	 * @param pm the progress monitor of the parser
+	 * @param subTaskMonitor the monitor to show the name of the visited compilation unit in, or
+	 *            <code>null</code> if the batch is not parsed on the calling thread
+	 */
+	private void parseBatch(IJavaProject project, List<ICompilationUnit> cus, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, final IProgressMonitor pm, final IProgressMonitor subTaskMonitor) {
+		ICompilationUnit[] batchCus= cus.toArray(new ICompilationUnit[cus.size()]);
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(project);
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+		parser.setResolveBindings(true);
+		parser.createASTs(batchCus, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
+				if (pm instanceof BatchTurns.Monitor) {
+					// the parser of this batch stops here until the earlier batches have been visited
+					((BatchTurns.Monitor) pm).awaitTurn();
+				}
+				if (subTaskMonitor != null)
+					subTaskMonitor.subTask(BasicElementLabels.getFileName(source));
+				SafeRunner.run(new ISafeRunnable() {
+					@Override
+					public void run() throws Exception {
+						for (IProblem problem : ast.getProblems()) {
+							if (problem.isError()) {
+								String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
+								String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
+								result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
+								return;
+							}
+						}
+						ast.accept(unitCollector);
+					}
+
+					@Override
+					public void handleException(Throwable exception) {
+						String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
+						String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
+						JavaManipulationPlugin.log(new Status(IStatus.ERROR, CorextCore.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
+						String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
+						result.addError(msg2, JavaStatusContext.create(source));
+					}
+				});
+				fTCModel.newCu();
+			}
+
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				//do nothing
+			}
+		}, pm);
+	}
+
+	/**
+	 * Lets the batches parsed on the worker pool visit their ASTs one batch after the other, in
+	 * the order of the batches. Only the work a parser does before it reports its first AST
+	 * overlaps with the visit of an earlier batch.
+	 */
+	private static final class BatchTurns {
+
+		/**
+		 * The parser monitor of a batch, canceled together with the refactoring.
+		 */
+		final class Monitor extends NullProgressMonitor {
+			private final int fBatch;
+
+			Monitor(int batch) {
+				fBatch= batch;
+			}
+
+			@Override
+			public boolean isCanceled() {
+				return fCancelMonitor.isCanceled();
+			}
+
+			void awaitTurn() {
+				BatchTurns.this.awaitTurn(fBatch, true);
+			}
+		}
+
+		private final IProgressMonitor fCancelMonitor;
+		private int fCurrent;
+
+		BatchTurns(IProgressMonitor cancelMonitor) {
+			fCancelMonitor= cancelMonitor;
+		}
+
+		Monitor createMonitor(int batch) {
+			return new Monitor(batch);
+		}
+
+		private synchronized boolean awaitTurn(int batch, boolean throwOnCancel) {
+			while (fCurrent != batch) {
+				if (fCancelMonitor.isCanceled()) {
+					if (throwOnCancel)
+						throw new OperationCanceledException();
+					return false;
+				}
+				try {
+					wait(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					if (throwOnCancel)
+						throw new OperationCanceledException();
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Passes the turn to the next batch, once the given batch has had its turn.
+		 *
+		 * @param batch the batch that is done
+		 */
+		synchronized void finish(int batch) {
+			if (awaitTurn(batch, false)) {
+				fCurrent= batch + 1;
+				notifyAll();
+			}
+		}
+	}
+
 	private void clearGlobalState() {
+		if (JavaManipulationPlugin.DEBUG_TYPE_CONSTRAINTS) {
+			// report the hit rate of the subtype checks shared between refactorings
+			JavaManipulationPlugin.log(new Status(IStatus.INFO, JavaManipulationPlugin.getPluginId(), SharedSubTypeCache.getInstance().toString()));
+		}
 		TypeSet.resetCount();
 		EnumeratedTypeSet.resetCount();
 		fTCModel= null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,9 +67,19 @@ public abstract class HierarchyType extends TType {
 			Boolean value= cache.get(key);
 			if (value != null)
 				return value;
+			SharedSubTypeCache sharedCache= getEnvironment().getSharedSubTypeCache();
+			if (sharedCache != null) {
+				value= sharedCache.get(this, other);
+				if (value != null) {
+					cache.put(key, value);
+					return value;
+				}
+			}
 			boolean isSub= doIsSubType(other);
 			value= isSub;
 			cache.put(key, value);
+			if (sharedCache != null)
+				sharedCache.put(this, other, isSub);
 			return isSub;
 		}
 		return doIsSubType(other);
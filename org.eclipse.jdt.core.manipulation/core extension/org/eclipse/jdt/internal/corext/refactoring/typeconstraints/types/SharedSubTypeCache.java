@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * Subtype relation cache that outlives a single {@link TypeEnvironment}.
+ * <p>
+ * {@link TType}s belong to the environment that created them, but the answer to
+ * "is <code>A</code> a subtype of <code>B</code>" only depends on the types involved and on the
+ * class path of the project that resolved them. This cache remembers those answers by project and
+ * binding keys, so that type constraint based refactorings that run one after another do not walk
+ * the same JDK and library hierarchies again.
+ * </p>
+ * <p>
+ * Entries are discarded when a Java element delta reports a change that can affect type
+ * hierarchies: class path changes, added or removed types, changed super types, or unknown
+ * structural changes in a primary compilation unit. Only environments created with
+ * {@link TypeEnvironment#TypeEnvironment(boolean, boolean, boolean)} and <code>shareSubTypeCache</code>
+ * set use the cache, since bindings from working copies with a custom owner must not leak into it.
+ * </p>
+ */
+public final class SharedSubTypeCache {
+
+	private class HierarchyDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			SharedSubTypeCache cache= SharedSubTypeCache.this;
+			if (processDelta(event.getDelta(), cache)) {
+				cache.clear();
+			}
+		}
+
+		/**
+		 * Computes whether the cached subtype relations may be stale.
+		 *
+		 * @param delta the Java element delta
+		 * @param cache the cache to remove closed or deleted projects from
+		 *
+		 * @return <code>true</code> if all cached relations must be discarded,
+		 *  <code>false</code> otherwise
+		 */
+		private boolean processDelta(IJavaElementDelta delta, SharedSubTypeCache cache) {
+			IJavaElement elem= delta.getElement();
+
+			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
+			boolean isRemoved= delta.getKind() == IJavaElementDelta.REMOVED;
+			boolean isAdded= delta.getKind() == IJavaElementDelta.ADDED;
+			int flags= delta.getFlags();
+
+			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_PROJECT:
+					if (isRemoved || (isChanged && (flags & IJavaElementDelta.F_CLOSED) != 0)) {
+						cache.remove((IJavaProject) elem);
+						return false;
+					}
+					if (isChanged && (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						return true;
+					}
+					return processChildrenDelta(delta, cache);
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (isRemoved || isAdded || (isChanged && (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+							| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ADDED_TO_CLASSPATH)) != 0)) {
+						return true;
+					}
+					return processChildrenDelta(delta, cache);
+				case IJavaElement.TYPE:
+					if (isRemoved || isAdded || (isChanged && (flags & IJavaElementDelta.F_SUPER_TYPES) != 0)) {
+						return true;
+					}
+					return processChildrenDelta(delta, cache);
+				case IJavaElement.JAVA_MODEL:
+				case IJavaElement.PACKAGE_FRAGMENT:
+				case IJavaElement.CLASS_FILE:
+					if (isRemoved || isAdded) {
+						return true;
+					}
+					return processChildrenDelta(delta, cache);
+				case IJavaElement.COMPILATION_UNIT:
+					// Bindings of other working copies never reach the cache
+					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
+						return false;
+					}
+					if (isRemoved || isAdded || (isChanged && isUnknownStructuralChange(flags))) {
+						return true;
+					}
+					return processChildrenDelta(delta, cache);
+				default:
+					// fields, methods, imports etc.
+					return false;
+			}
+		}
+
+		private boolean isUnknownStructuralChange(int flags) {
+			if ((flags & IJavaElementDelta.F_CONTENT) == 0)
+				return false;
+			return (flags & IJavaElementDelta.F_FINE_GRAINED) == 0;
+		}
+
+		private boolean processChildrenDelta(IJavaElementDelta delta, SharedSubTypeCache cache) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (processDelta(child, cache)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final int MAX_ENTRIES_PER_PROJECT= 8192;
+
+	private static SharedSubTypeCache fgInstance;
+
+	private final Map<IJavaProject, Map<String, Boolean>> fProjectCaches= new HashMap<>();
+	private final IElementChangedListener fDeltaListener;
+
+	private long fHits;
+	private long fMisses;
+	private long fInvalidations;
+
+	public static synchronized SharedSubTypeCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new SharedSubTypeCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.clear();
+		fgInstance= null;
+	}
+
+	private SharedSubTypeCache() {
+		fDeltaListener= new HierarchyDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the cached subtype relation between two hierarchy types.
+	 *
+	 * @param subType the candidate subtype
+	 * @param superType the candidate supertype
+	 * @return {@link Boolean#TRUE} or {@link Boolean#FALSE}, or <code>null</code> if the relation is not known
+	 */
+	synchronized Boolean get(HierarchyType subType, HierarchyType superType) {
+		IJavaProject project= getProject(subType);
+		Map<String, Boolean> projectCache= project != null ? fProjectCaches.get(project) : null;
+		Boolean value= projectCache != null && getProject(superType) != null ? projectCache.get(createKey(subType, superType)) : null;
+		if (value != null)
+			fHits++;
+		else
+			fMisses++;
+		return value;
+	}
+
+	synchronized void put(HierarchyType subType, HierarchyType superType, boolean isSubType) {
+		IJavaProject project= getProject(subType);
+		if (project == null || getProject(superType) == null)
+			return; // no Java element to scope the binding keys with
+		Map<String, Boolean> projectCache= fProjectCaches.get(project);
+		if (projectCache == null) {
+			projectCache= new LinkedHashMap<>(256, 0.75f, true) {
+				private static final long serialVersionUID= 1L;
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+					return size() > MAX_ENTRIES_PER_PROJECT;
+				}
+			};
+			fProjectCaches.put(project, projectCache);
+		}
+		projectCache.put(createKey(subType, superType), Boolean.valueOf(isSubType));
+	}
+
+	/**
+	 * Discards all cached relations.
+	 */
+	public synchronized void clear() {
+		if (!fProjectCaches.isEmpty()) {
+			fProjectCaches.clear();
+			fInvalidations++;
+		}
+	}
+
+	synchronized void remove(IJavaProject project) {
+		if (fProjectCaches.remove(project) != null)
+			fInvalidations++;
+	}
+
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	/**
+	 * Returns the ratio of lookups that were answered from the cache.
+	 *
+	 * @return the hit rate between <code>0</code> and <code>1</code>
+	 */
+	public synchronized double getHitRate() {
+		long lookups= fHits + fMisses;
+		return lookups == 0 ? 0 : (double) fHits / lookups;
+	}
+
+	@Override
+	public synchronized String toString() {
+		int entries= 0;
+		for (Map<String, Boolean> projectCache : fProjectCaches.values()) {
+			entries+= projectCache.size();
+		}
+		return "SharedSubTypeCache [hits=" + fHits + ", misses=" + fMisses //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", hitRate=" + Math.round(getHitRate() * 100) + "%, projects=" + fProjectCaches.size() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", entries=" + entries + ", invalidations=" + fInvalidations + ']'; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the project that resolved a type.
+	 *
+	 * @param type the type
+	 * @return the project of the Java element of the type, or <code>null</code> if the type has no
+	 *         Java element
+	 */
+	private static IJavaProject getProject(HierarchyType type) {
+		IType javaElementType= type.getJavaElementType();
+		return javaElementType != null ? javaElementType.getJavaProject() : null;
+	}
+
+	private static String createKey(HierarchyType subType, HierarchyType superType) {
+		// binding keys are only unique within a class path, so qualify the supertype with its project
+		return subType.getBindingKey() + '\n' + superType.getBindingKey() + '\n' + getProject(superType).getElementName();
+	}
+}
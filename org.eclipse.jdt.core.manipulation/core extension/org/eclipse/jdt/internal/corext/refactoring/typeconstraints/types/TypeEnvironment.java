@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -136,6 +136,11 @@ public class TypeEnvironment {
 	 * @since 3.7
 	 */
 	private final boolean fRemoveCapures;
+	/**
+	 * The cache shared with other type environments, or <code>null</code> iff
+	 * sharing was not requested in the constructor.
+	 */
+	private final SharedSubTypeCache fSharedSubTypeCache;
 
 	public static ITypeBinding[] createTypeBindings(TType[] types, IJavaProject project) {
 		final Map<String, Object> mapping= new HashMap<>();
@@ -176,16 +181,34 @@ public class TypeEnvironment {
 	}
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
+		this(rememberSubtypes, removeCapures, false);
+	}
+
+	/**
+	 * Creates a new type environment.
+	 *
+	 * @param rememberSubtypes whether to remember the known subtypes of each created type
+	 * @param removeCapures whether to replace capture types by their wildcard type
+	 * @param shareSubTypeCache whether subtype checks should consult and populate the
+	 *            {@link SharedSubTypeCache}. Only pass <code>true</code> if all bindings
+	 *            come from primary compilation units or class files.
+	 */
+	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures, boolean shareSubTypeCache) {
 		if (rememberSubtypes) {
 			fSubTypes= new HashMap<>();
 		}
 		fRemoveCapures= removeCapures;
+		fSharedSubTypeCache= shareSubTypeCache ? SharedSubTypeCache.getInstance() : null;
 	}
 
 	Map<TypeTuple, Boolean> getSubTypeCache() {
 		return fSubTypeCache;
 	}
 
+	SharedSubTypeCache getSharedSubTypeCache() {
+		return fSharedSubTypeCache;
+	}
+
 	public TType create(ITypeBinding binding) {
 		if (binding.isPrimitive()) {
 			return createPrimitiveType(binding);
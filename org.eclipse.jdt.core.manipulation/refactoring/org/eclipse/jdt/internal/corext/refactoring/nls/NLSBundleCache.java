@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.nls;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IStorage;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+/**
+ * The resource bundle names of accessor classes and the contents of properties files, for
+ * {@link NLSHintHelper}.
+ * <p>
+ * Resolving an NLS key needs the bundle name of its accessor class, which is found by parsing the
+ * accessor class with bindings, and the properties file of that bundle. Hovers, hyperlinks and the
+ * NLS search ask for the same few accessor classes and properties files over and over. Both are
+ * therefore kept together with the modification stamp of the file they were read from, and read
+ * again as soon as that stamp changes. Files with unsaved changes in an editor are never cached.
+ * </p>
+ *
+ * @since 1.22
+ */
+public final class NLSBundleCache {
+
+	private static final int MAX_BUNDLE_NAMES= 1000;
+	private static final int MAX_PROPERTIES= 200;
+
+	private static final class Entry<T> {
+		final long fModificationStamp;
+		final T fValue;
+
+		Entry(long modificationStamp, T value) {
+			fModificationStamp= modificationStamp;
+			fValue= value;
+		}
+	}
+
+	private static NLSBundleCache fgInstance;
+
+	private final Map<ITypeRoot, Entry<String>> fBundleNames= createMap(MAX_BUNDLE_NAMES);
+	private final Map<IFile, Entry<Properties>> fProperties= createMap(MAX_PROPERTIES);
+
+	static synchronized NLSBundleCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new NLSBundleCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		fgInstance= null;
+	}
+
+	private NLSBundleCache() {
+	}
+
+	private static <K, V> Map<K, V> createMap(final int maxSize) {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the name of the resource bundle of an accessor class.
+	 *
+	 * @param typeRoot the type root of the accessor class
+	 * @return the bundle name, or <code>null</code> if none is found
+	 */
+	String getResourceBundleName(ITypeRoot typeRoot) {
+		long stamp= getModificationStamp(typeRoot);
+		if (stamp != IResource.NULL_STAMP) {
+			synchronized (this) {
+				Entry<String> entry= fBundleNames.get(typeRoot);
+				if (entry != null && entry.fModificationStamp == stamp)
+					return entry.fValue;
+			}
+		}
+
+		String bundleName= NLSHintHelper.getResourceBundleName(SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_YES, null));
+		if (stamp != IResource.NULL_STAMP) {
+			synchronized (this) {
+				fBundleNames.put(typeRoot, new Entry<>(stamp, bundleName));
+			}
+		}
+		return bundleName;
+	}
+
+	/**
+	 * Returns the properties of a properties file. The returned properties are shared and must not
+	 * be modified.
+	 *
+	 * @param storage the properties file
+	 * @return the properties or <code>null</code> if they could not be read
+	 */
+	Properties getProperties(IStorage storage) {
+		if (!(storage instanceof IFile) || isOpenInEditor(storage))
+			return NLSHintHelper.readProperties(storage);
+
+		IFile file= (IFile) storage;
+		long stamp= file.getModificationStamp();
+		if (stamp == IResource.NULL_STAMP)
+			return NLSHintHelper.readProperties(storage);
+		synchronized (this) {
+			Entry<Properties> entry= fProperties.get(file);
+			if (entry != null && entry.fModificationStamp == stamp)
+				return entry.fValue;
+		}
+
+		Properties properties= NLSHintHelper.readProperties(storage);
+		if (properties != null) {
+			synchronized (this) {
+				fProperties.put(file, new Entry<>(stamp, properties));
+			}
+		}
+		return properties;
+	}
+
+	private static boolean isOpenInEditor(IStorage storage) {
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		return manager != null && manager.getTextFileBuffer(storage.getFullPath(), LocationKind.NORMALIZE) != null;
+	}
+
+	private static long getModificationStamp(ITypeRoot typeRoot) {
+		try {
+			if (typeRoot instanceof ICompilationUnit) {
+				ICompilationUnit cu= (ICompilationUnit) typeRoot;
+				if (cu.isWorkingCopy() || cu.hasUnsavedChanges())
+					return IResource.NULL_STAMP;
+				IResource resource= cu.getResource();
+				return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+			}
+			IPackageFragmentRoot root= (IPackageFragmentRoot) typeRoot.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root == null)
+				return IResource.NULL_STAMP;
+			IResource resource= root.getResource();
+			if (resource != null)
+				return root.isArchive() ? resource.getModificationStamp() : IResource.NULL_STAMP;
+			File file= root.getPath().toFile();
+			return file.isFile() ? file.lastModified() : IResource.NULL_STAMP;
+		} catch (JavaModelException e) {
+			return IResource.NULL_STAMP;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,7 +64,6 @@ import org.eclipse.jdt.core.dom.SimpleType;
 import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -205,14 +204,11 @@ public class NLSHintHelper {
 		IJavaElement je= accessorClassBinding.getJavaElement();
 		if (!(je instanceof IType))
 			return null;
-		ITypeRoot typeRoot= ((IType) je).getTypeRoot();
-		CompilationUnit astRoot= SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_YES, null);
-
-		return getResourceBundleName(astRoot);
+		return getResourceBundleName(((IType) je).getTypeRoot());
 	}
 
 	public static String getResourceBundleName(ITypeRoot input) {
-		return getResourceBundleName(SharedASTProviderCore.getAST(input, SharedASTProviderCore.WAIT_YES, null));
+		return NLSBundleCache.getInstance().getResourceBundleName(input);
 	}
 
 	public static String getResourceBundleName(CompilationUnit astRoot) {
@@ -419,7 +415,8 @@ public class NLSHintHelper {
 	 *
 	 * @param javaProject the Java project
 	 * @param accessorClassReference the accessor class reference
-	 * @return the properties or <code>null</code> if it was not successfully read
+	 * @return the properties or <code>null</code> if it was not successfully read. The returned
+	 *         properties may be shared and must not be modified.
 	 */
 	public static Properties getProperties(IJavaProject javaProject, AccessorClassReference accessorClassReference) {
 		try {
@@ -433,7 +430,7 @@ public class NLSHintHelper {
 
 	/**
 	 * Reads the properties from the given storage and
-	 * returns it.
+	 * returns it. The returned properties may be shared and must not be modified.
 	 *
 	 * @param storage the storage
 	 * @return the properties or <code>null</code> if it was not successfully read
@@ -442,6 +439,10 @@ public class NLSHintHelper {
 		if (storage == null)
 			return null;
 
+		return NLSBundleCache.getInstance().getProperties(storage);
+	}
+
+	static Properties readProperties(IStorage storage) {
 		Properties props= new Properties();
 		InputStream is= null;
 
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Computes the order in which the failed tests of a session are run when it is rerun with failures
+ * first, from the results of the session and of the last earlier sessions of the same project.
+ * <p>
+ * The tests that failed in the session come first, then the tests that failed in earlier
+ * sessions. Within each group, the tests that failed more often come first, and tests that failed
+ * equally often are ordered by their average elapsed time, quickest first, so that a failure is
+ * reported as early as possible. Tests without a known time and otherwise equal tests keep the
+ * order of the tree. Tests that never failed are not listed; the test runner runs them after the
+ * listed tests, in their original order.
+ * </p>
+ */
+public class FailuresFirstOrder {
+
+	private static class TestHistory {
+		boolean fFailed;
+		int fFailureCount;
+		double fTotalTime;
+		int fTimeCount;
+
+		double getAverageTime() {
+			return fTimeCount == 0 ? Double.NaN : fTotalTime / fTimeCount;
+		}
+	}
+
+	private static final Comparator<TestHistory> ORDER= Comparator
+			.comparing((TestHistory history) -> Boolean.valueOf(!history.fFailed))
+			.thenComparing(history -> Integer.valueOf(-history.fFailureCount))
+			// tests without a time (NaN) are sorted last
+			.thenComparingDouble(TestHistory::getAverageTime);
+
+	/**
+	 * The maximum number of earlier sessions that are read. Sessions that have been swapped out have
+	 * to be read from disk, so only the last few are considered.
+	 */
+	private static final int MAX_EARLIER_SESSIONS= 3;
+
+	private FailuresFirstOrder() {
+	}
+
+	/**
+	 * Returns the names of the tests of a session that failed in the session or in one of the last
+	 * earlier sessions, in the order in which they should be run when the session is rerun with
+	 * failures first. The names are the test names of the test cases and suites that failed
+	 * themselves.
+	 *
+	 * @param session the session to rerun
+	 * @param history the earlier sessions, youngest first, e.g. from
+	 *            {@link JUnitModel#getTestRunSessions()}. Sessions of other projects, running
+	 *            sessions and the session itself are skipped.
+	 * @return the test names
+	 */
+	public static List<String> getTestNames(TestRunSession session, List<TestRunSession> history) {
+		Map<String, TestHistory> tests= new LinkedHashMap<>();
+		collect(session.getTestRoot(), tests, true);
+		int earlierCount= 0;
+		for (TestRunSession earlier : history) {
+			if (earlierCount == MAX_EARLIER_SESSIONS)
+				break;
+			if (earlier == session || earlier.isRunning() || earlier.isStarting() || earlier.isKeptAlive()
+					|| !Objects.equals(earlier.getLaunchedProject(), session.getLaunchedProject()))
+				continue;
+			earlierCount++;
+			boolean swappedOut= earlier.isSwappedOut();
+			collect(earlier.getTestRoot(), tests, false);
+			if (swappedOut)
+				earlier.swapOut();
+		}
+
+		List<Map.Entry<String, TestHistory>> entries= new ArrayList<>();
+		for (Map.Entry<String, TestHistory> entry : tests.entrySet()) {
+			if (entry.getValue().fFailed || entry.getValue().fFailureCount > 0)
+				entries.add(entry);
+		}
+		entries.sort(Map.Entry.comparingByValue(ORDER)); // stable, keeps the tree order of equal tests
+		List<String> names= new ArrayList<>(entries.size());
+		for (Map.Entry<String, TestHistory> entry : entries) {
+			names.add(entry.getKey());
+		}
+		return names;
+	}
+
+	/**
+	 * Adds the results of the tests below a suite.
+	 *
+	 * @param suite the suite
+	 * @param tests the histories of the tests, by test name
+	 * @param current <code>true</code> for the session to rerun, whose tests are added,
+	 *            <code>false</code> for an earlier session, whose tests are only counted if they
+	 *            are also in the session to rerun
+	 */
+	private static void collect(TestSuiteElement suite, Map<String, TestHistory> tests, boolean current) {
+		for (ITestElement child : suite.getChildren()) {
+			if (child instanceof TestSuiteElement) {
+				TestSuiteElement childSuite= (TestSuiteElement) child;
+				if (childSuite.getSuiteStatus().isErrorOrFailure())
+					add(childSuite, childSuite.getSuiteStatus(), tests, current);
+				collect(childSuite, tests, current);
+			} else {
+				TestElement testElement= (TestElement) child;
+				add(testElement, testElement.getStatus(), tests, current);
+			}
+		}
+	}
+
+	private static void add(TestElement testElement, Status status, Map<String, TestHistory> tests, boolean current) {
+		String name= testElement.getTestName();
+		TestHistory test= current ? tests.computeIfAbsent(name, n -> new TestHistory()) : tests.get(name);
+		if (test == null)
+			return;
+		if (status.isErrorOrFailure()) {
+			if (current)
+				test.fFailed= true;
+			else
+				test.fFailureCount++;
+		}
+		double time= testElement.getElapsedTimeInSeconds();
+		if (!Double.isNaN(time)) {
+			test.fTotalTime+= time;
+			test.fTimeCount++;
+		}
+	}
+}
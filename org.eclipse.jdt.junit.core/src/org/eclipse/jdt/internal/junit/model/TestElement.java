@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -196,6 +196,12 @@ public abstract class TestElement implements ITestElement {
 
 	private boolean fAssumptionFailed;
 
+	/**
+	 * The number of children the parent had before this element was added. Orders the element
+	 * among its siblings without looking it up in the parent's children.
+	 */
+	private int fPositionInParent;
+
 	/**
 	 * Running time in seconds. Contents depend on the current {@link #getProgressState()}:
 	 * <ul>
@@ -232,6 +238,44 @@ public abstract class TestElement implements ITestElement {
 			parent.addChild(this);
 	}
 
+	/* default */ void setPositionInParent(int position) {
+		fPositionInParent= position;
+	}
+
+	/**
+	 * Compares two elements of the same test run session by their position in the tree. A suite
+	 * comes before its children.
+	 *
+	 * @param element1 the first element
+	 * @param element2 the second element
+	 * @return a negative number, zero or a positive number as the first element comes before, is
+	 *         the same as or comes after the second element
+	 */
+	public static int compareTreeOrder(TestElement element1, TestElement element2) {
+		int depth1= element1.getDepth();
+		int depth2= element2.getDepth();
+		TestElement ancestor1= element1;
+		TestElement ancestor2= element2;
+		for (int i= depth1; i > depth2; i--)
+			ancestor1= ancestor1.getParent();
+		for (int i= depth2; i > depth1; i--)
+			ancestor2= ancestor2.getParent();
+		if (ancestor1 == ancestor2)
+			return depth1 - depth2;
+		while (ancestor1.getParent() != ancestor2.getParent()) {
+			ancestor1= ancestor1.getParent();
+			ancestor2= ancestor2.getParent();
+		}
+		return Integer.compare(ancestor1.fPositionInParent, ancestor2.fPositionInParent);
+	}
+
+	private int getDepth() {
+		int depth= 0;
+		for (TestElement parent= getParent(); parent != null; parent= parent.getParent())
+			depth++;
+		return depth;
+	}
+
 	@Override
 	public ProgressState getProgressState() {
 		return getStatus().convertToProgressState();
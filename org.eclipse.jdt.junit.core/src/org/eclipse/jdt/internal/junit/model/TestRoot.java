@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,27 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import org.eclipse.jdt.junit.model.ITestRunSession;
 
 public class TestRoot extends TestSuiteElement {
 
 	private final ITestRunSession fSession;
 
+	/**
+	 * The test cases and suites that failed or had an error themselves during the session, and the
+	 * test cases that have been rerun.
+	 */
+	private final HashSet<TestElement> fFailedOrRerunElements= new HashSet<>();
+
+	/**
+	 * The failed or rerun elements in tree order, or <code>null</code> if they have to be sorted
+	 * again.
+	 */
+	private TestElement[] fSortedFailedOrRerunElements;
+
 	public TestRoot(ITestRunSession session) {
 		super(null, "-1", session.getTestRunName(), 1, session.getTestRunName(), null, null); //$NON-NLS-1$
 		fSession= session;
@@ -33,4 +48,40 @@ public class TestRoot extends TestSuiteElement {
 	public ITestRunSession getTestRunSession() {
 		return fSession;
 	}
+
+	/**
+	 * Records that a test element failed or had an error.
+	 *
+	 * @param testElement the failed test element
+	 */
+	public synchronized void addFailedElement(TestElement testElement) {
+		if (fFailedOrRerunElements.add(testElement))
+			fSortedFailedOrRerunElements= null;
+	}
+
+	/**
+	 * Records that a test case is rerun. While it is running, it is shown together with the
+	 * failures.
+	 *
+	 * @param testCaseElement the rerun test case
+	 */
+	public synchronized void addRerunElement(TestCaseElement testCaseElement) {
+		if (fFailedOrRerunElements.add(testCaseElement))
+			fSortedFailedOrRerunElements= null;
+	}
+
+	/**
+	 * Returns the test cases and suites that failed or had an error themselves during the session,
+	 * and the test cases that have been rerun. Elements that have been rerun successfully since are
+	 * still returned, so their current status must be checked.
+	 *
+	 * @return the failed or rerun elements, in the order of the tree
+	 */
+	public synchronized TestElement[] getFailedOrRerunElements() {
+		if (fSortedFailedOrRerunElements == null) {
+			fSortedFailedOrRerunElements= fFailedOrRerunElements.toArray(new TestElement[fFailedOrRerunElements.size()]);
+			Arrays.sort(fSortedFailedOrRerunElements, TestElement::compareTreeOrder);
+		}
+		return fSortedFailedOrRerunElements.clone();
+	}
 }
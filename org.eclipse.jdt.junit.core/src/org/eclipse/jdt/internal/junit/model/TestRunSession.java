@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -403,6 +403,13 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 
+	/**
+	 * @return <code>true</code> if the test tree has been swapped out to disk
+	 */
+	public synchronized boolean isSwappedOut() {
+		return fTestRoot == null;
+	}
+
 	public synchronized void swapIn() {
 		if (fTestRoot != null)
 			return;
@@ -461,12 +468,15 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	public boolean rerunTest(String testId, String className, String testName) {
 		if (isKeptAlive()) {
-			Status status= getTestElement(testId).getStatus();
+			TestElement testElement= getTestElement(testId);
+			Status status= testElement.getStatus();
 			if (status == Status.ERROR) {
 				fErrorCount--;
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
+			if (testElement instanceof TestCaseElement)
+				testElement.getRoot().addRerunElement((TestCaseElement) testElement);
 			fTestRunnerClient.rerunTest(testId, className, testName);
 			return true;
 		}
@@ -814,6 +824,9 @@ public class TestRunSession implements ITestRunSession {
 
 	public void registerTestFailureStatus(TestElement testElement, Status status, String trace, String expected, String actual) {
 		testElement.setStatus(status, trace, expected, actual);
+		if (status.isErrorOrFailure()) {
+			testElement.getRoot().addFailedElement(testElement);
+		}
 		if (!testElement.isAssumptionFailure()) {
 			if (status.isError()) {
 				fErrorCount++;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	private List<TestElement> fChildren;
 	private Status fChildrenStatus;
+	private int fAddedChildrenCount;
 
 	public TestSuiteElement(TestSuiteElement parent, String id, String testName, int childrenCount, String displayName, String[] parameterTypes, String uniqueId) {
 		super(parent, id, testName, displayName, parameterTypes, uniqueId);
@@ -59,7 +60,32 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return new ITestElement[0];
 	}
 
+	/**
+	 * Returns the number of children, as returned by {@link #getChildren()}, without copying them.
+	 *
+	 * @return the number of children
+	 */
+	public int getChildCount() {
+		int count= fChildren.size();
+		if (count == 1 && getSingleDynamicChild() != null) {
+			return 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns a child, without copying the children.
+	 *
+	 * @param index the index of the child, smaller than {@link #getChildCount()}
+	 * @return the child at the given index
+	 * @throws IndexOutOfBoundsException if there is no child at the given index
+	 */
+	public TestElement getChild(int index) {
+		return fChildren.get(index);
+	}
+
 	public void addChild(TestElement child) {
+		child.setPositionInParent(fAddedChildrenCount++);
 		fChildren.add(child);
 	}
 
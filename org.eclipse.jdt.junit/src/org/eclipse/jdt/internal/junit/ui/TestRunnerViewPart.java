@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -146,6 +146,7 @@ import org.eclipse.jdt.internal.junit.Messages;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.model.FailuresFirstOrder;
 import org.eclipse.jdt.internal.junit.model.ITestRunSessionListener;
 import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
@@ -1482,14 +1483,23 @@ public class TestRunnerViewPart extends ViewPart {
 		DebugUITools.launch(configuration, launchMode);
 	}
 
+	/**
+	 * Writes the names of the tests of the current session that failed in this or in one of the last
+	 * earlier sessions to a file, for the test runner to run them first, in the order of the file.
+	 * The order is computed by {@link FailuresFirstOrder} from the failures and elapsed times of the
+	 * sessions, so that a failure is reported as early as possible.
+	 *
+	 * @return the absolute path of the file
+	 * @throws CoreException if the file cannot be written
+	 */
 	private String createFailureNamesFile() throws CoreException {
 		try {
 			File file= File.createTempFile("testFailures", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
 			file.deleteOnExit();
-			TestElement[] failures= fTestRunSession.getAllFailedTestElements();
+			List<String> testNames= FailuresFirstOrder.getTestNames(fTestRunSession, JUnitCorePlugin.getModel().getTestRunSessions());
 			try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))){
-				for (TestElement testElement : failures) {
-					bw.write(testElement.getTestName());
+				for (String testName : testNames) {
+					bw.write(testName);
 					bw.newLine();
 				}
 			}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.ui;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Content provider for the hierarchical layout of the test viewer when it is neither filtered nor
+ * sorted. Only the children of the visible rows are looked up, by index, so that expanding a
+ * suite with many children does not create an item for each of them.
+ */
+public class TestSessionLazyTreeContentProvider implements ILazyTreeContentProvider {
+
+	private TreeViewer fViewer;
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		fViewer= (TreeViewer) viewer;
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		TestSuiteElement suite= (TestSuiteElement) parent;
+		if (index >= suite.getChildCount())
+			return;
+		TestElement child= suite.getChild(index);
+		fViewer.replace(parent, index, child);
+		fViewer.setChildCount(child, getChildCount(child));
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		int childCount= getChildCount(element);
+		if (childCount != currentChildCount)
+			fViewer.setChildCount(element, childCount);
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return ((TestElement) element).getParent();
+	}
+
+	private static int getChildCount(Object element) {
+		if (element instanceof TestSuiteElement)
+			return ((TestSuiteElement) element).getChildCount();
+		else
+			return 0;
+	}
+
+	@Override
+	public void dispose() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,28 +15,115 @@
 package org.eclipse.jdt.internal.junit.ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 
 import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.Viewer;
 
 import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
 import org.eclipse.jdt.internal.junit.model.TestRoot;
 import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
 
 
 public class TestSessionTableContentProvider implements IStructuredContentProvider {
 
+	private TableViewer fViewer;
+
+	private Predicate<TestElement> fFilter;
+	private boolean fFailuresOnly;
+
+	/**
+	 * The elements shown while the table is filtered, in the order of the tree.
+	 */
+	private final ArrayList<TestElement> fShownElements= new ArrayList<>();
+
+	/**
+	 * Sets the filter of the shown elements. The table filters in its content provider, so that an
+	 * element whose status changed can be inserted at its position in the tree or removed, without
+	 * refreshing the table.
+	 *
+	 * @param filter selects the shown elements, or <code>null</code> to show all elements
+	 * @param failuresOnly whether the filter only selects elements that failed or are being rerun.
+	 *            If set, the elements are taken from the failed and rerun elements recorded by the
+	 *            test root instead of the whole tree
+	 */
+	public void setFilter(Predicate<TestElement> filter, boolean failuresOnly) {
+		fFilter= filter;
+		fFailuresOnly= failuresOnly;
+		fShownElements.clear();
+	}
+
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		fViewer= (TableViewer) viewer;
+		fShownElements.clear();
 	}
 
 	@Override
 	public Object[] getElements(Object inputElement) {
+		TestRoot testRoot= (TestRoot) inputElement;
+		fShownElements.clear();
+		if (fFilter != null && fFailuresOnly) {
+			for (TestElement element : testRoot.getFailedOrRerunElements()) {
+				if (isShown(element))
+					fShownElements.add(element);
+			}
+			return fShownElements.toArray();
+		}
+
 		ArrayList<ITestElement> all= new ArrayList<>();
-		addAll(all, (TestRoot) inputElement);
-		return all.toArray();
+		addAll(all, testRoot);
+		if (fFilter == null)
+			return all.toArray();
+
+		for (ITestElement element : all) {
+			if (fFilter.test((TestElement) element))
+				fShownElements.add((TestElement) element);
+		}
+		return fShownElements.toArray();
+	}
+
+	/**
+	 * Inserts, updates or removes the row of an element whose status changed while the table is
+	 * filtered.
+	 *
+	 * @param element the changed element
+	 */
+	public void elementChanged(TestElement element) {
+		int index= Collections.binarySearch(fShownElements, element, TestElement::compareTreeOrder);
+		if (isShown(element)) {
+			if (index < 0) {
+				index= -index - 1;
+				fShownElements.add(index, element);
+				fViewer.insert(element, index);
+			} else {
+				fViewer.update(element, null);
+			}
+		} else if (index >= 0) {
+			fShownElements.remove(index);
+			fViewer.remove(element);
+		}
+	}
+
+	/**
+	 * Tells whether an element is listed by {@link #addAll(ArrayList, TestSuiteElement)} and
+	 * selected by the filter.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element is shown
+	 */
+	private boolean isShown(TestElement element) {
+		TestSuiteElement parent= element.getParent();
+		if (parent == null || parent.getChildCount() == 0)
+			return false; // the root, or a single dynamic test hidden in its suite
+		if (element instanceof TestSuiteElement && !((TestSuiteElement) element).getSuiteStatus().isErrorOrFailure())
+			return false;
+		return fFilter.test(element);
 	}
 
 	private void addAll(ArrayList<ITestElement> all, TestSuiteElement suite) {
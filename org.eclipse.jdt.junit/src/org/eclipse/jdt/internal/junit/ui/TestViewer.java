@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,7 +40,6 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Menu;
-import org.eclipse.swt.widgets.TableItem;
 
 import org.eclipse.core.runtime.CoreException;
 
@@ -49,6 +48,7 @@ import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
@@ -205,6 +205,7 @@ public class TestViewer {
 	private PageBook fViewerbook;
 	private TreeViewer fTreeViewer;
 	private TestSessionTreeContentProvider fTreeContentProvider;
+	private TestSessionLazyTreeContentProvider fLazyTreeContentProvider;
 	private TestSessionLabelProvider fTreeLabelProvider;
 	private TableViewer fTableViewer;
 	private TestSessionTableContentProvider fTableContentProvider;
@@ -242,15 +243,16 @@ public class TestViewer {
 	private void createTestViewers(Composite parent) {
 		fViewerbook= new PageBook(parent, SWT.NULL);
 
-		fTreeViewer= new TreeViewer(fViewerbook, SWT.V_SCROLL | SWT.SINGLE);
+		fTreeViewer= new TreeViewer(fViewerbook, SWT.V_SCROLL | SWT.SINGLE | SWT.VIRTUAL);
 		fTreeViewer.setUseHashlookup(true);
 		WorkbenchViewerSetup.setupViewer(fTreeViewer);
 		fTreeContentProvider= new TestSessionTreeContentProvider();
-		fTreeViewer.setContentProvider(fTreeContentProvider);
+		fLazyTreeContentProvider= new TestSessionLazyTreeContentProvider();
+		fTreeViewer.setContentProvider(fLazyTreeContentProvider);
 		fTreeLabelProvider= new TestSessionLabelProvider(fTestRunnerPart, TestRunnerViewPart.LAYOUT_HIERARCHICAL);
 		fTreeViewer.setLabelProvider(new ColoringLabelProvider(fTreeLabelProvider));
 
-		fTableViewer= new TableViewer(fViewerbook, SWT.V_SCROLL | SWT.H_SCROLL | SWT.SINGLE);
+		fTableViewer= new TableViewer(fViewerbook, SWT.V_SCROLL | SWT.H_SCROLL | SWT.SINGLE | SWT.VIRTUAL);
 		fTableViewer.setUseHashlookup(true);
 		fTableContentProvider= new TestSessionTableContentProvider();
 		fTableViewer.setContentProvider(fTableContentProvider);
@@ -508,6 +510,21 @@ public class TestViewer {
 		}
 		fTableViewer.setComparator(viewerComparator);
 		fTreeViewer.setComparator(viewerComparator);
+		updateTreeContentProvider();
+	}
+
+	/**
+	 * Uses the lazy content provider for the tree unless the tree is filtered or sorted, which the
+	 * lazy content provider does not support.
+	 */
+	private void updateTreeContentProvider() {
+		IContentProvider contentProvider;
+		if (fTreeHasFilter || fTreeViewer.getComparator() != null)
+			contentProvider= fTreeContentProvider;
+		else
+			contentProvider= fLazyTreeContentProvider;
+		if (fTreeViewer.getContentProvider() != contentProvider)
+			fTreeViewer.setContentProvider(contentProvider);
 	}
 
 	private final class TestNameComparator extends ViewerComparator {
@@ -612,11 +629,20 @@ public class TestViewer {
 				setActiveViewerHasFilter(true);
 				viewer.setInput(null);
 				//Set either the failures or the skipped tests filter
-				ViewerFilter filter= fFailuresOnlyFilter;
-				if (ignoredOnly == true) {
-					filter= fIgnoredOnlyFilter;
+				if (viewer == fTableViewer) {
+					// the table is filtered by its content provider, which inserts rows at their position
+					if (ignoredOnly)
+						fTableContentProvider.setFilter(fIgnoredOnlyFilter::select, false);
+					else
+						fTableContentProvider.setFilter(fFailuresOnlyFilter::select, true);
+				} else {
+					ViewerFilter filter= fFailuresOnlyFilter;
+					if (ignoredOnly == true) {
+						filter= fIgnoredOnlyFilter;
+					}
+					updateTreeContentProvider();
+					viewer.addFilter(filter);
 				}
-				viewer.addFilter(filter);
 				setActiveViewerNeedsRefresh(true);
 
 			} else {
@@ -624,6 +650,10 @@ public class TestViewer {
 					setActiveViewerNeedsRefresh(true);
 					setActiveViewerHasFilter(false);
 					viewer.setInput(null);
+					if (viewer == fTableViewer)
+						fTableContentProvider.setFilter(null, false);
+					else
+						updateTreeContentProvider();
 					viewer.removeFilter(fIgnoredOnlyFilter);
 					viewer.removeFilter(fFailuresOnlyFilter);
 				}
@@ -724,7 +754,7 @@ public class TestViewer {
 			if (! fTableNeedsRefresh && toUpdate.length > 0) {
 				if (fTableHasFilter)
 					for (Object element : toUpdate)
-						updateElementInTable((TestElement) element);
+						fTableContentProvider.elementChanged((TestElement) element);
 				else
 					fTableViewer.update(toUpdate, null);
 			}
@@ -764,25 +794,6 @@ public class TestViewer {
 		}
 	}
 
-	private void updateElementInTable(TestElement element) {
-		if (isShown(element)) {
-			if (fTableViewer.testFindItem(element) == null) {
-				TestElement previous= getNextFailure(element, false);
-				int insertionIndex= -1;
-				if (previous != null) {
-					TableItem item= (TableItem) fTableViewer.testFindItem(previous);
-					if (item != null)
-						insertionIndex= fTableViewer.getTable().indexOf(item);
-				}
-				fTableViewer.insert(element, insertionIndex);
-			} else  {
-				fTableViewer.update(element, null);
-			}
-		} else {
-			fTableViewer.remove(element);
-		}
-	}
-
 	private boolean isShown(TestElement current) {
 		return fFailuresOnlyFilter.select(current);
 	}
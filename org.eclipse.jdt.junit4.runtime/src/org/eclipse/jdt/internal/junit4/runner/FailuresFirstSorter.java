@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 SpringSource and others.
+ * Copyright (c) 2009, 2026 SpringSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,65 +15,68 @@
 
 package org.eclipse.jdt.internal.junit4.runner;
 
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.junit.runner.Description;
 
 /**
  * Comparator for descriptions to sort according to inclusion in a failure list.
  * A description is considered to have failures if its name or one of its transitive
- * children's names are in the failures list.
- * If neither or both have failures, returns 0.
+ * children's names are in the failures list. Descriptions with failures are sorted
+ * by the position of their first failure in the list, before the descriptions
+ * without failures. Descriptions without failures keep their order.
  *
  * @since 3.6
  */
 public class FailuresFirstSorter implements Comparator<Description> {
 
-	private final Set<String> failuresList;
+	private static final int NO_FAILURE= Integer.MAX_VALUE;
+
+	private final Map<String, Integer> failuresList;
+
+	private final Map<Description, Integer> ranks= new IdentityHashMap<>();
 
 	/**
 	 * Creates a sorter.
 	 *
-	 * @param failuresList list of failed tests based on the description's display string
+	 * @param failuresList list of tests based on the description's display string, in the order
+	 *            they should be run, starting with the failed tests
 	 */
 	public FailuresFirstSorter(String[] failuresList) {
-		this.failuresList = new HashSet<>(Arrays.asList(failuresList));
+		this.failuresList = new HashMap<>();
+		for (int i= 0; i < failuresList.length; i++) {
+			this.failuresList.putIfAbsent(failuresList[i], Integer.valueOf(i));
+		}
 	}
 
 	/**
 	 * Compares two descriptions based on the failure list.
 	 * @param d1 the first Description to compare with
 	 * @param d2 the second Description to compare with
-	 * @return -1 if only d1 has failures, 1 if only d2 has failures, 0 otherwise
+	 * @return a negative number if the first failure of d1 comes first in the failure list or
+	 *         only d1 has failures, a positive number if the first failure of d2 comes first
+	 *         or only d2 has failures, 0 if neither has failures
 	 */
 	@Override
 	public int compare(Description d1, Description d2) {
-		boolean d1HasFailures = hasFailures(d1);
-		boolean d2HasFailures = hasFailures(d2);
-
-		if (d1HasFailures) {
-			return -1;
-		} else if (d2HasFailures) {
-			return 1;
-		} else { // ((d1HasFailures && d2HasFailures) || (!d1HasFailures && !d2HasFailures))
-			return 0;
-		}
+		return Integer.compare(getRank(d1), getRank(d2));
 	}
 
-	private boolean hasFailures(Description d) {
-		if (failuresList.contains(d.getDisplayName())) {
-			return true;
-		} else {
-			for (Description child : d.getChildren()) {
-				if (hasFailures(child)) {
-					return true;
-				}
-			}
+	private int getRank(Description d) {
+		Integer cached= ranks.get(d);
+		if (cached != null) {
+			return cached.intValue();
+		}
+		Integer index= failuresList.get(d.getDisplayName());
+		int rank= index != null ? index.intValue() : NO_FAILURE;
+		for (Description child : d.getChildren()) {
+			rank= Math.min(rank, getRank(child));
 		}
-		return false;
+		ranks.put(d, Integer.valueOf(rank));
+		return rank;
 	}
 
 }
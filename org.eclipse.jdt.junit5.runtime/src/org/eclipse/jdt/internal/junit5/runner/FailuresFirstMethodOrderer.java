@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 SpringSource and others.
+ * Copyright (c) 2022, 2026 SpringSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit5.runner;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.MethodDescriptor;
@@ -25,7 +24,17 @@ import org.junit.jupiter.api.MethodOrdererContext;
 
 public class FailuresFirstMethodOrderer implements MethodOrderer {
 
-	private List<String> failuresList= new ArrayList<>();
+	private static final int NO_FAILURE= Integer.MAX_VALUE;
+
+	/**
+	 * The failure names string that {@link #fgFailuresList} was parsed from. The same string is
+	 * passed for every test class of a launch, so it is only parsed once.
+	 */
+	private static String fgFailureNamesString;
+
+	private static Map<String, Integer> fgFailuresList= new HashMap<>();
+
+	private Map<String, Integer> failuresList= new HashMap<>();
 
 	public FailuresFirstMethodOrderer() {
 	}
@@ -36,48 +45,50 @@ public class FailuresFirstMethodOrderer implements MethodOrderer {
 		 * Compares two descriptions based on the failure list.
 		 * @param d1 the first MethodDescriptor to compare with
 		 * @param d2 the second MethodDescriptor to compare with
-		 * @return -1 if only d1 has failures, 1 if only d2 has failures, 0 otherwise
+		 * @return a negative number if d1 comes first in the failure list or only d1 has failures,
+		 *         a positive number if d2 comes first or only d2 has failures, 0 if neither has failures
 		 */
 		@Override
 		public int compare(MethodDescriptor d1, MethodDescriptor d2) {
-			boolean d1HasFailures = hasFailures(d1);
-			boolean d2HasFailures = hasFailures(d2);
-
-			if (d1HasFailures) {
-				return -1;
-			} else if (d2HasFailures) {
-				return 1;
-			} else { // ((d1HasFailures && d2HasFailures) || (!d1HasFailures && !d2HasFailures))
-				return 0;
-			}
+			return Integer.compare(getRank(d1), getRank(d2));
 		}
 
-		private boolean hasFailures(MethodDescriptor d) {
+		private int getRank(MethodDescriptor d) {
 			// failure names are of form METHOD_NAME(CLASS_NAME) so translate MethodDescriptor
 			String methodId= d.getMethod().getName() + "(" + d.getMethod().getDeclaringClass().getName() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
-			if (failuresList.contains(methodId)) {
-				return true;
-			}
-			return false;
+			Integer index= failuresList.get(methodId);
+			return index != null ? index.intValue() : NO_FAILURE;
 		}
 
 	};
 
 	/**
 	 * Sort the methods encapsulated in the supplied
-	 * {@link MethodOrdererContext} with failures first
-	 * and formal parameter lists.
+	 * {@link MethodOrdererContext} with failures first,
+	 * in the order of the failure list.
 	 */
 	@Override
 	public void orderMethods(MethodOrdererContext context) {
 		Optional<String> failureNamesParm= context.getConfigurationParameter(JUnit5TestLoader.FAILURE_NAMES);
 		String failureNamesString= failureNamesParm.orElse(null);
 		if (failureNamesString != null) {
-			String[] failureNames= failureNamesString.split(";"); //$NON-NLS-1$
-			failuresList= Arrays.asList(failureNames);
+			failuresList= parseFailureNames(failureNamesString);
 		}
 		context.getMethodDescriptors().sort(comparator);
 	}
 
+	private static synchronized Map<String, Integer> parseFailureNames(String failureNamesString) {
+		if (!failureNamesString.equals(fgFailureNamesString)) {
+			String[] failureNames= failureNamesString.split(";"); //$NON-NLS-1$
+			Map<String, Integer> ranks= new HashMap<>();
+			for (int i= 0; i < failureNames.length; i++) {
+				ranks.putIfAbsent(failureNames[i], Integer.valueOf(i));
+			}
+			fgFailuresList= ranks;
+			fgFailureNamesString= failureNamesString;
+		}
+		return fgFailuresList;
+	}
+
 }
 
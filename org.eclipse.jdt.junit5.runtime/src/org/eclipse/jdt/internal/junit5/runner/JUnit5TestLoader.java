@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,21 +52,33 @@ public class JUnit5TestLoader implements ITestLoader {
 			}
 		} else {
 			refs= new ITestReference[testClasses.length];
+			String failureNamesString= joinFailureNames(failureNames);
 			for (int i= 0; i < testClasses.length; i++) {
-				refs[i]= createTest(testClasses[i], testName, includeExcludeTags, failureNames);
+				refs[i]= createTest(testClasses[i], testName, includeExcludeTags, failureNamesString);
 			}
 		}
 		return refs;
 	}
 
-	private ITestReference createTest(Class<?> clazz, String testName, String[][] includeExcludeTags, String[] failureNames) {
+	private static String joinFailureNames(String[] failureNames) {
+		if (failureNames == null || failureNames.length == 0) {
+			return null;
+		}
+		StringBuilder buf= new StringBuilder();
+		for (String failureName : failureNames) {
+			buf.append(failureName).append(';');
+		}
+		return buf.toString();
+	}
+
+	private ITestReference createTest(Class<?> clazz, String testName, String[][] includeExcludeTags, String failureNamesString) {
 		if (clazz == null) {
 			return null;
 		}
 		if (testName != null) {
 			return createFilteredTest(clazz, testName, includeExcludeTags);
 		}
-		return createUnfilteredTest(clazz, includeExcludeTags, failureNames);
+		return createUnfilteredTest(clazz, includeExcludeTags, failureNamesString);
 	}
 
 	private ITestReference createFilteredTest(Class<?> clazz, String testName, String[][] includeExcludeTags) {
@@ -74,13 +86,9 @@ public class JUnit5TestLoader implements ITestLoader {
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
-	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String[] failureNames) {
+	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String failureNamesString) {
 		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectClass(clazz)).filters(getTagFilters(includeExcludeTags));
-		if (failureNames != null && failureNames.length > 0) {
-			String failureNamesString= ""; //$NON-NLS-1$
-			for (String failureName : failureNames) {
-				failureNamesString += failureName + ";"; //$NON-NLS-1$
-			}
+		if (failureNamesString != null) {
 			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
 			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import org.junit.platform.suite.api.Suite;
 
 import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
+import org.eclipse.jdt.text.tests.codemining.ReferenceCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
 import org.eclipse.jdt.text.tests.folding.FoldingTest;
 import org.eclipse.jdt.text.tests.semantictokens.SemanticTokensProviderTest;
@@ -71,6 +72,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
 	ParameterNamesCodeMiningTest.class,
+	ReferenceCodeMiningTest.class,
 	FoldingTest.class,
 })
 public class JdtTextTestSuite {
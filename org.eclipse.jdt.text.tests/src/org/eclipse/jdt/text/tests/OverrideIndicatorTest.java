@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 
 import org.junit.After;
@@ -42,6 +43,7 @@ import org.eclipse.text.tests.Accessor;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.jface.text.source.SourceViewer;
 
 import org.eclipse.ui.PartInitException;
 
@@ -137,6 +139,26 @@ public class OverrideIndicatorTest {
 		}
 	}
 
+	@Test
+	public void keepOverrideIndicatorsOnBodyChange() throws Exception {
+		countOverrideIndicators();
+		Annotation[] before= fOverrideAnnotations;
+
+		String methodStart= "public int countTestCases() {";
+		int offset= fDocument.get().indexOf(methodStart);
+		assertTrue(offset > 0);
+		fDocument.replace(offset + methodStart.length(), 0, " int unused= 0;");
+		SourceViewer sourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		EditorTestHelper.forceReconcile(sourceViewer);
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+
+		computeOverrideIndicators();
+		assertEquals(before.length, fOverrideAnnotations.length);
+		for (Annotation annotation : before) {
+			assertTrue(Arrays.asList(fOverrideAnnotations).contains(annotation));
+		}
+	}
+
 	private void computeOverrideIndicators() {
 		ArrayList<Annotation> annotations= new ArrayList<>();
 		Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.codemining.ICodeMining;
+import org.eclipse.jface.text.tests.util.DisplayHelper;
+
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.Signature;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaElementCodeMiningProvider;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCodeMining;
+
+public class ReferenceCodeMiningTest {
+	private static final String[] PREFERENCES= {
+			PreferenceConstants.EDITOR_CODEMINING_ENABLED,
+			PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_REFERENCES,
+			PreferenceConstants.EDITOR_JAVA_CODEMINING_SHOW_REFERENCES_ON_METHODS };
+
+	private static final String FOO= """
+		package p;
+		public class Foo {
+			public void m(int i) {
+			}
+			public void m(String s) {
+			}
+			public void n() {
+			}
+		}
+		""";
+
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar_17(fProject, true);
+		Map<String, String> options= fProject.getOptions(false);
+		JavaProjectHelper.set17_CompilerOptions(options);
+		fProject.setOptions(options);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		for (String preference : PREFERENCES) {
+			store.setValue(preference, true);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		for (String preference : PREFERENCES) {
+			store.setToDefault(preference);
+		}
+		IWorkbenchPage workbenchPage= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		for (IEditorReference ref : workbenchPage.getEditorReferences()) {
+			workbenchPage.closeEditor(ref.getEditor(false), false);
+		}
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void waitReconciled(JavaSourceViewer viewer) {
+		assertTrue("Editor not reconciled", new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return JavaCodeMiningReconciler.isReconciled(viewer);
+			}
+		}.waitForCondition(viewer.getTextWidget().getDisplay(), 2000));
+	}
+
+	/**
+	 * Returns the labels of the resolved reference minings of an editor, by method.
+	 */
+	private Map<String, String> getReferenceLabels(JavaEditor editor) throws Exception {
+		JavaSourceViewer viewer= (JavaSourceViewer) editor.getViewer();
+		waitReconciled(viewer);
+		JavaElementCodeMiningProvider provider= new JavaElementCodeMiningProvider();
+		provider.setContext(editor);
+		Map<String, String> labels= new HashMap<>();
+		for (ICodeMining mining : provider.provideCodeMinings(viewer, new NullProgressMonitor()).get()) {
+			if (mining instanceof JavaReferenceCodeMining) {
+				mining.resolve(viewer, new NullProgressMonitor()).get();
+				IMethod method= (IMethod) ((JavaReferenceCodeMining) mining).getElement();
+				labels.put(Signature.toString(method.getSignature(), method.getElementName(), null, false, false), mining.getLabel());
+			}
+		}
+		return labels;
+	}
+
+	@Test
+	public void testOverloadedMethods() throws Exception {
+		String bar= """
+			package p;
+			public class Bar {
+				void bar(Foo foo) {
+					foo.m(1);
+					foo.m(2);
+					foo.m("");
+					foo.n();
+				}
+			}
+			""";
+		ICompilationUnit foo= fPackage.createCompilationUnit("Foo.java", FOO, true, null);
+		fPackage.createCompilationUnit("Bar.java", bar, true, null);
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(foo);
+
+		Map<String, String> labels= getReferenceLabels(editor);
+		assertEquals("2 references", labels.get("m(int)"));
+		assertEquals("1 reference", labels.get("m(String)"));
+		assertEquals("1 reference", labels.get("n()"));
+	}
+
+	@Test
+	public void testCountsInvalidated() throws Exception {
+		String bar= """
+			package p;
+			public class Bar {
+				void bar(Foo foo) {
+					foo.m(1);
+				}
+			}
+			""";
+		ICompilationUnit foo= fPackage.createCompilationUnit("Foo.java", FOO, true, null);
+		fPackage.createCompilationUnit("Bar.java", bar, true, null);
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(foo);
+
+		Map<String, String> labels= getReferenceLabels(editor);
+		assertEquals("1 reference", labels.get("m(int)"));
+		assertEquals("", labels.get("n()")); // hidden while there are no references
+
+		// a saved change in another compilation unit
+		fPackage.createCompilationUnit("Bar.java", bar.replace("foo.m(1);", "foo.m(1);\n\t\tfoo.m(2);"), true, null);
+		labels= getReferenceLabels(editor);
+		assertEquals("2 references", labels.get("m(int)"));
+
+		// an unsaved change in the edited compilation unit
+		ICompilationUnit workingCopy= (ICompilationUnit) EditorUtility.getEditorInputJavaElement(editor, false);
+		String source= workingCopy.getBuffer().getContents();
+		int offset= source.indexOf("public void n() {") + "public void n() {".length();
+		workingCopy.getBuffer().replace(offset, 0, " n();");
+		workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		labels= getReferenceLabels(editor);
+		assertEquals("1 reference", labels.get("n()"));
+	}
+}
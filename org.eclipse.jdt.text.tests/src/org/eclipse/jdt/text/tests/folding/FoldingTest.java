@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Vector Informatik GmbH and others.
+ * Copyright (c) 2025, 2026 Vector Informatik GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.text.tests.folding;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
 import java.util.List;
@@ -28,12 +30,17 @@ import org.junit.runners.Parameterized.Parameters;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.source.SourceViewer;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -42,6 +49,8 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 
 @RunWith(Parameterized.class)
 public class FoldingTest {
@@ -163,6 +172,34 @@ public class FoldingTest {
 		FoldingTestUtils.assertContainsRegionUsingStartAndEndLine(regions, str, 5, 6); // bar Methode
 	}
 
+	@Test
+	public void testMethodBodyChange() throws Exception {
+		String str= """
+				package org.example.test;
+				public class MultipleMethodTest {
+				    public void foo() {					//here should be an annotation
+
+				    }
+				    public void bar() {					//here should be an annotation
+
+				    }
+				}
+				""";
+		ICompilationUnit cu= packageFragment.createCompilationUnit("TestFolding.java", str, true, null);
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(cu);
+		IDocument document= editor.getDocumentProvider().getDocument(editor.getEditorInput());
+		document.replace(str.indexOf('\n', str.indexOf("foo()")), 0, "\n        int i= 0;");
+		SourceViewer viewer= EditorTestHelper.getSourceViewer(editor);
+		EditorTestHelper.forceReconcile(viewer);
+		assertTrue(EditorTestHelper.joinReconciler(viewer, 0, 10000, 100));
+
+		String changed= document.get();
+		List<IRegion> regions= FoldingTestUtils.getProjectionRanges(editor);
+		assertEquals(2, regions.size());
+		FoldingTestUtils.assertContainsRegionUsingStartAndEndLine(regions, changed, 2, 4); // foo Methode
+		FoldingTestUtils.assertContainsRegionUsingStartAndEndLine(regions, changed, 6, 7); // bar Methode
+	}
+
 	@Test
 	public void testInnerClassFolding() throws Exception {
 		String str= """
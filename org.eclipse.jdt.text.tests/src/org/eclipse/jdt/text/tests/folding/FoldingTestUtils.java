@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Vector Informatik GmbH and others.
+ * Copyright (c) 2025, 2026 Vector Informatik GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,10 @@ public final class FoldingTestUtils {
 	public static List<IRegion> getProjectionRangesOfFile(IPackageFragment packageFragment, String fileName, String code) throws Exception {
 		ICompilationUnit cu= packageFragment.createCompilationUnit(fileName, code, true, null);
 		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(cu);
+		return getProjectionRanges(editor);
+	}
+
+	public static List<IRegion> getProjectionRanges(JavaEditor editor) {
 		ProjectionAnnotationModel model= editor.getAdapter(ProjectionAnnotationModel.class);
 
 		List<IRegion> regions= new ArrayList<>();
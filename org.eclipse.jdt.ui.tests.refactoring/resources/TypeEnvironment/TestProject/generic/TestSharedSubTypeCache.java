@@ -0,0 +1,25 @@
+package generic;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Vector;
+
+public class TestSharedSubTypeCache {
+	Object object;
+	String string;
+	Vector vector;
+	Cloneable cloneable;
+	Collection collection;
+	Serializable serializable;
+	RandomAccess randomAccess;
+	AbstractList abstractList;
+
+	List<String> list_string;
+	ArrayList<String> arrayList_string;
+	Collection<String> collection_string;
+	List<? extends Number> list_extends_number;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.zip.ZipInputStream;
 
 import org.junit.Ignore;
@@ -57,6 +59,8 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 	private boolean fAssumeCloneReturnsSameType= true;
 	private boolean fLeaveUnconstrainedRaw= true;
+	private int fBatchSize;
+	private int fParserThreads;
 
 	public InferTypeArgumentsTests() {
 		rts= new Java1d6Setup();
@@ -97,6 +101,10 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 		refactoring.setAssumeCloneReturnsSameType(fAssumeCloneReturnsSameType);
 		refactoring.setLeaveUnconstrainedRaw(fLeaveUnconstrainedRaw);
+		if (fBatchSize > 0)
+			refactoring.setBatchSize(fBatchSize);
+		if (fParserThreads > 0)
+			refactoring.setParserThreads(fParserThreads);
 
 		PerformRefactoringOperation op= new PerformRefactoringOperation(
 				refactoring, CheckConditionsOperation.FINAL_CONDITIONS);
@@ -299,6 +307,48 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 	}
 
+	@Test
+	public void testJUnitInConcurrentBatches() throws Exception {
+		fAssumeCloneReturnsSameType= false;
+		fLeaveUnconstrainedRaw= true;
+		fBatchSize= 10;
+
+		fParserThreads= 1;
+		Map<String, String> sequential= performOnJUnit();
+		fParserThreads= 4;
+		Map<String, String> concurrent= performOnJUnit();
+
+		assertEquals(sequential, concurrent);
+	}
+
+	private Map<String, String> performOnJUnit() throws Exception {
+		IJavaProject javaProject= JavaProjectHelper.createJavaProject("InferTypeArguments", "bin");
+		try {
+			IPackageFragmentRoot jdk= JavaProjectHelper.addRTJar(javaProject);
+			assertNotNull(jdk);
+
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			assertNotNull(junitSrcArchive);
+			assertTrue(junitSrcArchive.exists());
+
+			IPackageFragmentRoot src= JavaProjectHelper.addSourceContainerWithImport(javaProject, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+
+			boolean performed= perform(new IJavaElement[] { javaProject }, RefactoringStatus.OK, RefactoringStatus.OK);
+			assertTrue(performed);
+
+			Map<String, String> sources= new TreeMap<>();
+			for (IJavaElement element : src.getChildren()) {
+				for (ICompilationUnit cu : ((IPackageFragment) element).getCompilationUnits()) {
+					sources.put(element.getElementName() + '/' + cu.getElementName(), cu.getSource());
+				}
+			}
+			return sources;
+		} finally {
+			if (javaProject != null && javaProject.exists())
+				JavaProjectHelper.delete(javaProject);
+		}
+	}
+
 	@Test
 	public void testCuTwoVectorElements() throws Exception {
 		performCuOK();
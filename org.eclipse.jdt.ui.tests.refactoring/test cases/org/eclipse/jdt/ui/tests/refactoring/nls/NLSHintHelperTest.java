@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.util.Properties;
 
@@ -251,6 +252,20 @@ public class NLSHintHelperTest {
 		}
 	}
 
+	@Test
+	public void readPropertiesAgainAfterChange() throws Exception {
+		IFile file= fJProject.getProject().getFile("changed.properties");
+		file.create(new ByteArrayInputStream("key= value1".getBytes()), true, null);
+
+		Properties properties= NLSHintHelper.getProperties(file);
+		assertEquals("value1", properties.getProperty("key"));
+
+		file.setContents(new ByteArrayInputStream("key= value2".getBytes()), true, false, null);
+
+		properties= NLSHintHelper.getProperties(file);
+		assertEquals("value2", properties.getProperty("key"));
+	}
+
 	@Test
 	public void findResourceBundleName1f() throws Exception {
 	    String source=
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 
 import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SharedSubTypeCache;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
 
@@ -340,6 +341,30 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		testBindings(collector.getResult());
 	}
 
+	@Test
+	public void testSharedSubTypeCache() throws Exception {
+		ASTNode node= createAST(MyTestSetup.getGenericPackage());
+		TypeBindingCollector collector= new TypeBindingCollector();
+		node.accept(collector);
+		ITypeBinding[] bindings= collector.getResult();
+
+		SharedSubTypeCache cache= SharedSubTypeCache.getInstance();
+		cache.clear();
+		checkAllAssignments(bindings, new TypeEnvironment(false, false, true));
+		long hits= cache.getHits();
+		checkAllAssignments(bindings, new TypeEnvironment(false, false, true));
+		assertTrue("Second environment did not use shared cache: " + cache, cache.getHits() > hits);
+	}
+
+	private void checkAllAssignments(ITypeBinding[] bindings, TypeEnvironment environment) {
+		TType[] types= environment.create(bindings);
+		for (int o= 0; o < bindings.length; o++) {
+			for (int i= 0; i < bindings.length; i++) {
+				checkCanAssignTo(bindings[o], bindings[i], types[o], types[i]);
+			}
+		}
+	}
+
 	public void _testAssignment() throws Exception {
 		ASTNode node= createAST(MyTestSetup.getGenericPackage());
 		TypeBindingCollector collector= new TypeBindingCollector();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009 SpringSource and others.
+ * Copyright (c) 2009, 2026 SpringSource and others.
  *
  * This program and the accompanying materials 
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,7 +123,16 @@ public class RerunFailFirstTests {
 				new String[] { "m1(" + Data.T2.class.getName() + ")", 
 							   "m1(" + Data.T3.class.getName() + ")", 
 							   "m3(" + Data.T2.class.getName() + ")" })));
-		Assert.assertEquals("M0 T2 m3 m1 m2 T3 m1 m2 m3 T1 m2 m3 m1 ", buildDescriptionOrder(runner.getDescription()));
+		Assert.assertEquals("M0 T2 m1 m3 m2 T3 m1 m2 m3 T1 m2 m3 m1 ", buildDescriptionOrder(runner.getDescription()));
+	}
+
+	@Test
+	public void failuresWithSorterInListOrder() throws Exception {
+		runner.sort(new Sorter(new FailuresFirstSorter(
+				new String[] { "m3(" + Data.T3.class.getName() + ")",
+							   "m2(" + Data.T1.class.getName() + ")",
+							   "m1(" + Data.T3.class.getName() + ")" })));
+		Assert.assertEquals("M0 T3 m3 m1 m2 T1 m2 m3 m1 T2 m2 m3 m1 ", buildDescriptionOrder(runner.getDescription()));
 	}
 
 	private String buildDescriptionOrder(Description description) {
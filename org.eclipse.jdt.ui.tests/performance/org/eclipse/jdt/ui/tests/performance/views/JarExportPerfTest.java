@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.ui.jarpackager.IJarExportRunnable;
+import org.eclipse.jdt.ui.jarpackager.JarPackageData;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+
+import org.eclipse.jdt.internal.ui.util.CoreUtility;
+
+/**
+ * Measures the throughput of the JAR writer by exporting the sources of a large project.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JarExportPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		private SWTTestProject fTestProject;
+		private boolean fAutoBuilding;
+
+		@Override
+		public void before() throws Throwable {
+			fAutoBuilding= CoreUtility.setAutoBuilding(false);
+			fTestProject= new SWTTestProject();
+		}
+
+		@Override
+		public void after() {
+			try {
+				fTestProject.delete();
+				CoreUtility.setAutoBuilding(fAutoBuilding);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		public SWTTestProject getTestProject() {
+			return fTestProject;
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testACompressed() throws Exception {
+		measureExport(true);
+	}
+
+	@Test
+	public void testBStored() throws Exception {
+		measureExport(false);
+	}
+
+	private void measureExport(boolean compress) throws Exception {
+		JarPackageData data= new JarPackageData();
+		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append("JarExportPerfTest.jar"));
+		data.setOverwrite(true);
+		data.setCompress(compress);
+		data.setExportClassFiles(false);
+		data.setExportJavaFiles(true);
+		data.setElements(new Object[] { stup.getTestProject().getProject().getProject() });
+
+		// warm up the file system
+		export(data);
+
+		for (int i= 0; i < 5; i++) {
+			joinBackgroudActivities();
+			System.gc();
+			startMeasuring();
+			export(data);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+		assertPerformanceInRelativeBand(Dimension.USED_JAVA_HEAP, -100, +10);
+	}
+
+	private static void export(JarPackageData data) throws Exception {
+		IJarExportRunnable op= data.createJarExportRunnable(null);
+		op.run(new NullProgressMonitor());
+		assertNotEquals(IStatus.ERROR, op.getStatus().getSeverity());
+	}
+}
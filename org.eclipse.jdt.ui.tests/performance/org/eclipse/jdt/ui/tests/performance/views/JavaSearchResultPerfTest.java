@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.util.CoreUtility;
+
+/**
+ * Measures the time and the memory used by a reference search with many matches, for the
+ * {@link JavaSearchResult} holding them.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JavaSearchResultPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		private SWTTestProject fTestProject;
+		private boolean fAutoBuilding;
+
+		@Override
+		public void before() throws Throwable {
+			fAutoBuilding= CoreUtility.setAutoBuilding(false);
+			fTestProject= new SWTTestProject();
+		}
+
+		@Override
+		public void after() {
+			try {
+				fTestProject.delete();
+				CoreUtility.setAutoBuilding(fAutoBuilding);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		public SWTTestProject getTestProject() {
+			return fTestProject;
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testAReferencesToSWT() throws Exception {
+		IType type= stup.getTestProject().getProject().findType("org.eclipse.swt.SWT");
+		assertNotNull(type);
+		// warm up the search index
+		runReferenceQuery(type);
+
+		for (int i= 0; i < 5; i++) {
+			joinBackgroudActivities();
+			System.gc();
+			startMeasuring();
+			JavaSearchResult result= runReferenceQuery(type);
+			stopMeasuring();
+			assertTrue(result.getMatchCount() > 1000);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+		assertPerformanceInRelativeBand(Dimension.USED_JAVA_HEAP, -100, +10);
+	}
+
+	private static JavaSearchResult runReferenceQuery(IType type) {
+		JavaSearchQuery query= new JavaSearchQuery(new ElementQuerySpecification(type, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		query.run(new NullProgressMonitor());
+		return (JavaSearchResult) query.getSearchResult();
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.dialogs.TypeNameIndex;
+import org.eclipse.jdt.internal.ui.util.CoreUtility;
+
+/**
+ * Measures type name searches of the Open Type dialog for typical patterns, answered by the
+ * {@link TypeNameIndex} and by the search engine.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TypeNameIndexPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final String[] PATTERNS= { "S", "Str", "*Exception", "NPE", "SWTE", "Dis*y", "org.eclipse.swt.w", "Shell<" };
+
+	private static class MyTestSetup extends ExternalResource {
+		private SWTTestProject fTestProject;
+		private boolean fAutoBuilding;
+
+		@Override
+		public void before() throws Throwable {
+			fAutoBuilding= CoreUtility.setAutoBuilding(false);
+			fTestProject= new SWTTestProject();
+			JavaPlugin.getDefault().getPreferenceStore().setValue(TypeNameIndex.PREF_USE_TYPE_NAME_INDEX, true);
+		}
+
+		@Override
+		public void after() {
+			try {
+				JavaPlugin.getDefault().getPreferenceStore().setToDefault(TypeNameIndex.PREF_USE_TYPE_NAME_INDEX);
+				fTestProject.delete();
+				CoreUtility.setAutoBuilding(fAutoBuilding);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testAIndexSameResults() throws Exception {
+		joinBackgroudActivities();
+		waitForIndex();
+		for (String pattern : PATTERNS) {
+			TypeInfoFilter filter= createFilter(pattern);
+			Set<String> indexResult= new HashSet<>();
+			assertTrue(TypeNameIndex.getInstance().search(filter, createRequestor(indexResult), null));
+			Set<String> searchResult= new HashSet<>();
+			searchAllTypeNames(filter, searchResult);
+			assertEquals(pattern, searchResult, indexResult);
+		}
+	}
+
+	@Test
+	public void testBIndexSearch10() throws Exception {
+		joinBackgroudActivities();
+		waitForIndex();
+		for (int i= 0; i < 10; i++) {
+			startMeasuring();
+			for (String pattern : PATTERNS) {
+				TypeNameIndex.getInstance().search(createFilter(pattern), createRequestor(new HashSet<>()), null);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testCSearchEngine10() throws Exception {
+		joinBackgroudActivities();
+		for (int i= 0; i < 10; i++) {
+			startMeasuring();
+			for (String pattern : PATTERNS) {
+				searchAllTypeNames(createFilter(pattern), new HashSet<>());
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static TypeInfoFilter createFilter(String pattern) {
+		return new TypeInfoFilter(pattern, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+	}
+
+	private static TypeNameMatchRequestor createRequestor(Set<String> result) {
+		return new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				result.add(match.getFullyQualifiedName());
+			}
+		};
+	}
+
+	private static void searchAllTypeNames(TypeInfoFilter filter, Set<String> result) throws Exception {
+		String packagePattern= filter.getPackagePattern();
+		new SearchEngine().searchAllTypeNames(packagePattern == null ? null : packagePattern.toCharArray(),
+				filter.getPackageFlags(),
+				filter.getNamePattern().toCharArray(),
+				filter.getSearchFlags(),
+				filter.getElementKind(),
+				filter.getSearchScope(),
+				createRequestor(result),
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+				null);
+	}
+
+	private static void waitForIndex() throws InterruptedException {
+		TypeInfoFilter filter= createFilter("Object<");
+		long end= System.currentTimeMillis() + 60 * 1000;
+		while (!TypeNameIndex.getInstance().search(filter, createRequestor(new HashSet<>()), null)) {
+			assertTrue("type name index not built", System.currentTimeMillis() < end);
+			Thread.sleep(50);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,10 @@ import org.junit.platform.suite.api.Suite;
 	PackageExplorerWarmPerfTest.class,
 	PackageExplorerWorkspacePerfTest.class,
 	PackageExplorerWorkspaceWarmPerfTest.class,
-	TypeHierarchyPerfTest.class
+	TypeHierarchyPerfTest.class,
+	TypeNameIndexPerfTest.class,
+	JarExportPerfTest.class,
+	JavaSearchResultPerfTest.class
 })
 public class ViewPerformanceTestSuite {
 }
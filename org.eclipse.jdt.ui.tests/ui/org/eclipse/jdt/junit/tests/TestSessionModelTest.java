@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.FailuresFirstOrder;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestSessionModelTest {
+
+	@Test
+	public void testChildrenByIndex() {
+		TestRunSession session= new TestRunSession("testChildrenByIndex", null);
+		TestRoot root= session.getTestRoot();
+		TestSuiteElement suite= new TestSuiteElement(root, "1", "pack.ATestCase", 3, "ATestCase", null, null);
+		TestCaseElement first= new TestCaseElement(suite, "2", "testA(pack.ATestCase)", "testA", false, null, null);
+		TestCaseElement second= new TestCaseElement(suite, "3", "testB(pack.ATestCase)", "testB", false, null, null);
+
+		assertEquals(1, root.getChildCount());
+		assertSame(suite, root.getChild(0));
+		assertEquals(2, suite.getChildCount());
+		assertSame(first, suite.getChild(0));
+		assertSame(second, suite.getChild(1));
+	}
+
+	@Test
+	public void testSingleDynamicChildIsHidden() {
+		TestRunSession session= new TestRunSession("testSingleDynamicChildIsHidden", null);
+		TestSuiteElement template= new TestSuiteElement(session.getTestRoot(), "1", "testTemplate(pack.ATestCase)", 1, "testTemplate()", null, null);
+		new TestCaseElement(template, "2", "testTemplate(pack.ATestCase)", "[1]", true, null, null);
+
+		assertEquals(template.getChildren().length, template.getChildCount());
+		assertEquals(0, template.getChildCount());
+	}
+
+	@Test
+	public void testFailedElements() {
+		TestRunSession session= new TestRunSession("testFailedElements", null);
+		TestRoot root= session.getTestRoot();
+		TestSuiteElement suite= new TestSuiteElement(root, "1", "pack.ATestCase", 3, "ATestCase", null, null);
+		TestCaseElement first= new TestCaseElement(suite, "2", "testA(pack.ATestCase)", "testA", false, null, null);
+		TestCaseElement second= new TestCaseElement(suite, "3", "testB(pack.ATestCase)", "testB", false, null, null);
+		TestCaseElement third= new TestCaseElement(suite, "4", "testC(pack.ATestCase)", "testC", false, null, null);
+
+		session.registerTestFailureStatus(third, Status.ERROR, "trace", null, null);
+		session.registerTestFailureStatus(first, Status.FAILURE, "trace", null, null);
+		session.registerTestFailureStatus(first, Status.FAILURE, "trace", null, null);
+		session.registerTestFailureStatus(second, Status.OK, null, null, null);
+
+		assertArrayEquals(new TestElement[] { first, third }, root.getFailedOrRerunElements());
+
+		root.addRerunElement(second);
+		assertArrayEquals(new TestElement[] { first, second, third }, root.getFailedOrRerunElements());
+	}
+
+	@Test
+	public void testTreeOrder() {
+		TestRunSession session= new TestRunSession("testTreeOrder", null);
+		TestRoot root= session.getTestRoot();
+		TestSuiteElement suite1= new TestSuiteElement(root, "1", "pack.ATestCase", 2, "ATestCase", null, null);
+		TestCaseElement test1= new TestCaseElement(suite1, "2", "testA(pack.ATestCase)", "testA", false, null, null);
+		TestSuiteElement suite2= new TestSuiteElement(root, "3", "pack.BTestCase", 1, "BTestCase", null, null);
+		TestCaseElement test2= new TestCaseElement(suite2, "4", "testB(pack.BTestCase)", "testB", false, null, null);
+		// a dynamic test added to the first suite after the second suite
+		TestCaseElement test3= new TestCaseElement(suite1, "5", "testC(pack.ATestCase)", "testC", true, null, null);
+
+		TestElement[] elements= { test2, suite2, test3, suite1, test1 };
+		Arrays.sort(elements, TestElement::compareTreeOrder);
+		assertArrayEquals(new TestElement[] { suite1, test1, test3, suite2, test2 }, elements);
+	}
+
+	@Test
+	public void testFailuresFirstOrder() {
+		TestRunSession earlier1= createSession("earlier1", new String[] { "testA", "testD", "testE", "testG", "testX" },
+				new Status[] { Status.OK, Status.FAILURE, Status.ERROR, Status.OK, Status.FAILURE },
+				new double[] { 9.0, 3.0, 4.0, 2.0, 0.1 });
+		TestRunSession earlier2= createSession("earlier2", new String[] { "testE" },
+				new Status[] { Status.FAILURE },
+				new double[] { 4.0 });
+		TestRunSession session= createSession("session", new String[] { "testA", "testB", "testC", "testD", "testE", "testF", "testG" },
+				new Status[] { Status.OK, Status.FAILURE, Status.ERROR, Status.OK, Status.OK, Status.OK, Status.OK },
+				new double[] { 1.0, 2.0, 0.5, 3.0, 4.0, Double.NaN, 2.0 });
+
+		// failed now by time, then by earlier failures; tests that never failed are not listed
+		assertEquals(Arrays.asList("testC(pack.ATestCase)", "testB(pack.ATestCase)", "testE(pack.ATestCase)", "testD(pack.ATestCase)"),
+				FailuresFirstOrder.getTestNames(session, Arrays.asList(session, earlier2, earlier1)));
+
+		// only the last earlier sessions are read
+		TestRunSession passed= createSession("passed", new String[] { "testE" }, new Status[] { Status.OK }, new double[] { 4.0 });
+		assertEquals(Arrays.asList("testC(pack.ATestCase)", "testB(pack.ATestCase)", "testE(pack.ATestCase)"),
+				FailuresFirstOrder.getTestNames(session, Arrays.asList(session, passed, passed, earlier2, earlier1)));
+	}
+
+	private static TestRunSession createSession(String name, String[] methodNames, Status[] statuses, double[] times) {
+		TestRunSession session= new TestRunSession(name, null);
+		TestSuiteElement suite= new TestSuiteElement(session.getTestRoot(), "1", "pack.ATestCase", methodNames.length, "ATestCase", null, null);
+		for (int i= 0; i < methodNames.length; i++) {
+			TestCaseElement testCase= new TestCaseElement(suite, String.valueOf(i + 2), methodNames[i] + "(pack.ATestCase)", methodNames[i], false, null, null);
+			testCase.setStatus(statuses[i]);
+			testCase.setElapsedTimeInSeconds(times[i]);
+		}
+		return session;
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+import org.eclipse.jdt.internal.junit.ui.JUnitPlugin;
+import org.eclipse.jdt.internal.junit.ui.TestRunnerViewPart;
+import org.eclipse.jdt.internal.junit.ui.TestRunnerViewPart.SortingCriterion;
+import org.eclipse.jdt.internal.junit.ui.TestViewer;
+
+public class TestViewerTest {
+
+	private static final int CHILD_COUNT= 1000;
+
+	private TestRunnerViewPart fTestRunnerViewPart;
+	private TestViewer fTestViewer;
+	private TestRunSession fTestRunSession;
+	private TestSuiteElement fSuite;
+	private TestCaseElement[] fTestCases;
+
+	@Before
+	public void setUp() throws Exception {
+		fTestRunnerViewPart= (TestRunnerViewPart) JUnitPlugin.getActivePage().showView(TestRunnerViewPart.NAME);
+		fTestRunnerViewPart.setSortingCriterion(SortingCriterion.SORT_BY_EXECUTION_ORDER);
+		fTestViewer= fTestRunnerViewPart.getTestViewer();
+
+		fTestRunSession= new TestRunSession("TestViewerTest", null);
+		TestRoot root= fTestRunSession.getTestRoot();
+		fSuite= new TestSuiteElement(root, "1", "pack.ATestCase", CHILD_COUNT, "ATestCase", null, null);
+		fTestCases= new TestCaseElement[CHILD_COUNT];
+		for (int i= 0; i < CHILD_COUNT; i++) {
+			fTestCases[i]= new TestCaseElement(fSuite, String.valueOf(i + 2), "test" + i + "(pack.ATestCase)", "test" + i, false, null, null);
+		}
+		fTestViewer.registerActiveSession(fTestRunSession);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fTestViewer.setShowFailuresOrIgnoredOnly(false, false, TestRunnerViewPart.LAYOUT_HIERARCHICAL);
+		fTestViewer.registerActiveSession(fTestRunnerViewPart.getTestRunSession());
+		fTestViewer.processChangesInUI();
+		fTestRunnerViewPart.setLayoutMode(TestRunnerViewPart.LAYOUT_HIERARCHICAL);
+	}
+
+	@Test
+	public void testLazyTree() {
+		fTestRunSession.registerTestFailureStatus(fTestCases[500], Status.FAILURE, "trace", null, null);
+		fTestRunSession.registerTestFailureStatus(fTestCases[900], Status.ERROR, "trace", null, null);
+		fTestViewer.setShowFailuresOrIgnoredOnly(false, false, TestRunnerViewPart.LAYOUT_HIERARCHICAL);
+		fTestViewer.processChangesInUI();
+		TreeViewer viewer= (TreeViewer) fTestViewer.getActiveViewer();
+
+		// expand: the suite gets an item for each child, which are populated when they are shown
+		viewer.expandToLevel(fSuite, 1);
+		TreeItem suiteItem= viewer.getTree().getItem(0);
+		suiteItem.getText();
+		assertSame(fSuite, suiteItem.getData());
+		assertEquals(CHILD_COUNT, suiteItem.getItemCount());
+
+		// reveal
+		viewer.reveal(fTestCases[CHILD_COUNT - 1]);
+		assertNotNull(viewer.testFindItem(fTestCases[CHILD_COUNT - 1]));
+
+		// next failure navigation
+		fTestViewer.selectFirstFailure();
+		assertSelection(viewer, fTestCases[500]);
+		fTestViewer.selectFailure(true);
+		assertSelection(viewer, fTestCases[900]);
+		fTestViewer.selectFailure(false);
+		assertSelection(viewer, fTestCases[500]);
+
+		// add
+		TestCaseElement added= new TestCaseElement(fSuite, String.valueOf(CHILD_COUNT + 2), "test" + CHILD_COUNT + "(pack.ATestCase)", "test" + CHILD_COUNT, true, null, null);
+		fTestViewer.registerTestAdded(added);
+		fTestViewer.processChangesInUI();
+		viewer.expandToLevel(fSuite, 1);
+		assertEquals(CHILD_COUNT + 1, viewer.getTree().getItem(0).getItemCount());
+		viewer.reveal(added);
+		assertNotNull(viewer.testFindItem(added));
+	}
+
+	@Test
+	public void testFailuresOnlyTable() {
+		fTestRunSession.registerTestFailureStatus(fTestCases[3], Status.FAILURE, "trace", null, null);
+		fTestRunSession.registerTestFailureStatus(fTestCases[1], Status.ERROR, "trace", null, null);
+		fTestViewer.setShowFailuresOrIgnoredOnly(true, false, TestRunnerViewPart.LAYOUT_FLAT);
+		Table table= ((TableViewer) fTestViewer.getActiveViewer()).getTable();
+
+		// in the order of the tree
+		assertEquals(Arrays.asList(fTestCases[1], fTestCases[3]), getRows(table));
+
+		// a new failure is inserted at its position
+		fTestRunSession.registerTestFailureStatus(fTestCases[2], Status.FAILURE, "trace", null, null);
+		fTestViewer.registerViewerUpdate(fTestCases[2]);
+		fTestViewer.processChangesInUI();
+		assertEquals(Arrays.asList(fTestCases[1], fTestCases[2], fTestCases[3]), getRows(table));
+
+		// a passed test is shown while it is rerun
+		fTestRunSession.getTestRoot().addRerunElement(fTestCases[0]);
+		fTestCases[0].setStatus(Status.RUNNING, null, null, null);
+		fTestViewer.registerViewerUpdate(fTestCases[0]);
+		fTestViewer.processChangesInUI();
+		assertEquals(Arrays.asList(fTestCases[0], fTestCases[1], fTestCases[2], fTestCases[3]), getRows(table));
+
+		// and removed when it passed again, like a failed test that passes when it is rerun
+		fTestCases[0].setStatus(Status.OK, null, null, null);
+		fTestRunSession.registerTestFailureStatus(fTestCases[2], Status.OK, null, null, null);
+		fTestViewer.registerViewerUpdate(fTestCases[0]);
+		fTestViewer.registerViewerUpdate(fTestCases[2]);
+		fTestViewer.processChangesInUI();
+		assertEquals(Arrays.asList(fTestCases[1], fTestCases[3]), getRows(table));
+	}
+
+	private static void assertSelection(TreeViewer viewer, Object expected) {
+		IStructuredSelection selection= viewer.getStructuredSelection();
+		assertEquals(1, selection.size());
+		assertSame(expected, selection.getFirstElement());
+	}
+
+	private static List<Object> getRows(Table table) {
+		List<Object> rows= new ArrayList<>();
+		for (TableItem item : table.getItems()) {
+			item.getText(); // populates the virtual row
+			rows.add(item.getData());
+		}
+		return rows;
+	}
+}
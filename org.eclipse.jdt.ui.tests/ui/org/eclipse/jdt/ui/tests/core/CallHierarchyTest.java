@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,13 +29,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphIndex;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -96,6 +99,90 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedSecondLevelMethods, wrapper2.getCalls(new NullProgressMonitor()));
     }
 
+	@Test
+	public void prefetchCallers() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method= helper.getMethod1();
+        IMethod secondLevelMethod= helper.getMethod3();
+
+        MethodWrapper wrapper= getSingleCallerRoot(method);
+        MethodWrapper[] calls= wrapper.getCalls(new NullProgressMonitor());
+        MethodWrapper wrapper2= helper.findMethodWrapper(secondLevelMethod, calls);
+        assertFalse(wrapper2.hasCachedCalls());
+
+        MethodWrapper.prefetchCalls(calls, new NullProgressMonitor());
+        assertTrue(wrapper2.hasCachedCalls());
+
+        Collection<IMember> expectedSecondLevelMethods= new ArrayList<>();
+        expectedSecondLevelMethods.add(helper.getMethod4());
+        helper.assertCalls(expectedSecondLevelMethods, wrapper2.getCalls(new NullProgressMonitor()));
+    }
+
+	@Test
+	public void noCallersAreCached() throws Exception {
+        helper.createSimpleClasses();
+
+        MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod3());
+        MethodWrapper leaf= helper.findMethodWrapper(helper.getMethod4(), wrapper.getCalls(new NullProgressMonitor()));
+        assertFalse(leaf.hasCachedCalls());
+        assertEquals(0, leaf.getCalls(new NullProgressMonitor()).length);
+
+        // a new wrapper for the same member, as created when the parent is expanded again
+        MethodWrapper sameLeaf= helper.findMethodWrapper(helper.getMethod4(), wrapper.getCalls(new NullProgressMonitor()));
+        assertTrue(sameLeaf.hasCachedCalls());
+        assertEquals(0, sameLeaf.getCalls(new NullProgressMonitor()).length);
+    }
+
+	@Test
+	public void indexedCallers() throws Exception {
+        JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, true);
+        try {
+            helper.createSimpleClasses();
+
+            IMethod method= helper.getMethod1();
+
+            Collection<IMember> expectedMethods= new ArrayList<>();
+            expectedMethods.add(helper.getMethod2());
+            expectedMethods.add(helper.getMethod3());
+
+            // the first query falls back to search and starts indexing
+            helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+            Job.getJobManager().join(CallGraphIndex.class, new NullProgressMonitor());
+
+            helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+            Collection<IMember> expectedSecondLevelMethods= new ArrayList<>();
+            expectedSecondLevelMethods.add(helper.getMethod4());
+            helper.assertCalls(expectedSecondLevelMethods, getSingleCallerRoot(helper.getMethod3()).getCalls(new NullProgressMonitor()));
+        } finally {
+            JavaPlugin.getDefault().getPreferenceStore().setToDefault(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX);
+        }
+    }
+
+	@Test
+	public void indexedCallersAfterStructuralChange() throws Exception {
+        JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, true);
+        try {
+            helper.createSimpleClasses();
+
+            IMethod method= helper.getMethod1();
+            getSingleCallerRoot(method).getCalls(new NullProgressMonitor());
+            Job.getJobManager().join(CallGraphIndex.class, new NullProgressMonitor());
+
+            // adds a method to B, which re-indexes B and the units calling into it
+            IMethod method5= helper.getType2().createMethod("public void method5() { method1(); }\n", null, true, null);
+
+            Collection<IMember> expectedMethods= new ArrayList<>();
+            expectedMethods.add(helper.getMethod2());
+            expectedMethods.add(helper.getMethod3());
+            expectedMethods.add(method5);
+            helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+        } finally {
+            JavaPlugin.getDefault().getPreferenceStore().setToDefault(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX);
+        }
+    }
+
 	@Test
 	public void callersNoResults() throws Exception {
         helper.createSimpleClasses();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -23,11 +26,14 @@ import org.junit.Test;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jface.text.IDocument;
 
 import org.eclipse.ui.IEditorPart;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -41,6 +47,8 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyViewPart;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -86,6 +94,110 @@ public class TypeHierarchyTest {
 		assertNotNull("Type not found", type);
 	}
 
+	@Test
+	public void lifeCycleRefreshAfterChanges() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("A.java");
+		IType type1= cu1.createType("public class A {\n}\n", null, true, null);
+		ICompilationUnit cu2= pack1.getCompilationUnit("B.java");
+		cu2.createType("public class B extends A {\n}\n", null, true, null);
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		try {
+			IJavaElement[] input= new IJavaElement[] { type1 };
+			assertTrue(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(1, lifeCycle.getHierarchy().getSubtypes(type1).length);
+
+			// does not change any supertype
+			cu2.getBuffer().setContents("package pack1;\npublic class B extends A {\npublic void foo() {\n}\n}\n");
+			cu2.save(null, true);
+			assertFalse(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(1, lifeCycle.getHierarchy().getSubtypes(type1).length);
+
+			// must still be noticed after a skipped refresh
+			cu2.getBuffer().setContents("package pack1;\npublic class B {\n}\n");
+			cu2.save(null, true);
+			assertTrue(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(0, lifeCycle.getHierarchy().getSubtypes(type1).length);
+
+			ICompilationUnit cu3= pack1.getCompilationUnit("C.java");
+			IType type3= cu3.createType("public class C extends A {\n}\n", null, true, null);
+			assertTrue(lifeCycle.doHierarchyRefresh(input, null));
+			assertArrayEquals(new IType[] { type3 }, lifeCycle.getHierarchy().getSubtypes(type1));
+
+			// anonymous and local subtypes are not returned by ICompilationUnit#getAllTypes()
+			String foo= "public Object foo() {\nreturn new A() {};\n}\n";
+			cu3.getBuffer().setContents("package pack1;\npublic class C extends A {\n" + foo + "}\n");
+			cu3.save(null, true);
+			assertTrue(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(2, lifeCycle.getHierarchy().getSubtypes(type1).length);
+
+			String bar= "public void bar() {\nclass L extends A {}\n}\n";
+			cu3.getBuffer().setContents("package pack1;\npublic class C extends A {\n" + foo + bar + "}\n");
+			cu3.save(null, true);
+			assertTrue(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(3, lifeCycle.getHierarchy().getSubtypes(type1).length);
+
+			// does not change any supertype of a unit with local types
+			cu3.getBuffer().setContents("package pack1;\npublic class C extends A {\n" + foo + bar + "public void baz() {\n}\n}\n");
+			cu3.save(null, true);
+			assertFalse(lifeCycle.doHierarchyRefresh(input, null));
+			assertEquals(3, lifeCycle.getHierarchy().getSubtypes(type1).length);
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void lifeCycleLazySubtypes() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		IType type1= pack1.getCompilationUnit("A.java").createType("public class A {\n}\n", null, true, null);
+		IType type2= pack1.getCompilationUnit("B.java").createType("public class B extends A {\n}\n", null, true, null);
+		IType type3= pack1.getCompilationUnit("C.java").createType("public class C extends B {\n}\n", null, true, null);
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(TypeHierarchyLifeCycle.PREF_LAZY_SUBTYPES, true);
+		TypeHierarchyViewPart part= (TypeHierarchyViewPart) JavaPlugin.getActivePage().showView(JavaUI.ID_TYPE_HIERARCHY);
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(part);
+		try {
+			lifeCycle.doHierarchyRefresh(new IJavaElement[] { type1 }, null);
+			assertTrue(lifeCycle.isLazySubtypes());
+			assertFalse(lifeCycle.getHierarchy().contains(type2));
+			assertFalse(lifeCycle.hasKnownSubtypes(type1));
+
+			// pending until found in the background
+			assertEquals(0, lifeCycle.getSubtypes(type1).length);
+			waitForSubtypes(lifeCycle, type1);
+			assertArrayEquals(new IType[] { type2 }, lifeCycle.getSubtypes(type1));
+			assertEquals(type1, lifeCycle.getLazyParentType(type2));
+
+			// prefetched
+			waitForSubtypes(lifeCycle, type2);
+			assertArrayEquals(new IType[] { type3 }, lifeCycle.getSubtypes(type2));
+			waitForSubtypes(lifeCycle, type3);
+			assertEquals(0, lifeCycle.getSubtypes(type3).length);
+
+			assertFalse(lifeCycle.getCompleteHierarchy().contains(type2));
+			lifeCycle.ensureCompleteHierarchy(JavaPlugin.getActiveWorkbenchWindow());
+			assertArrayEquals(new IType[] { type2 }, lifeCycle.getCompleteHierarchy().getSubtypes(type1));
+		} finally {
+			lifeCycle.freeHierarchy();
+			JavaPlugin.getActivePage().hideView(part);
+			store.setToDefault(TypeHierarchyLifeCycle.PREF_LAZY_SUBTYPES);
+		}
+	}
+
+	private static void waitForSubtypes(TypeHierarchyLifeCycle lifeCycle, IType type) throws InterruptedException {
+		for (int i= 0; i < 1000 && !lifeCycle.hasKnownSubtypes(type); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue("Subtypes of " + type.getElementName() + " not found", lifeCycle.hasKnownSubtypes(type));
+	}
+
 	@Test
 	public void hierarchyWithWorkingCopy1() throws Exception {
 
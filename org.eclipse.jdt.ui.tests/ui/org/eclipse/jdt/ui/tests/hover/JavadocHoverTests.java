@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 GK Software SE and others.
+ * Copyright (c) 2020, 2026 GK Software SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.ui.tests.hover;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -38,6 +39,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
@@ -50,6 +52,7 @@ import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.text.java.hover.JavadocBrowserInformationControlInput;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavadocHover;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocHtmlCache;
 
 public class JavadocHoverTests extends CoreTests {
 
@@ -325,5 +328,35 @@ public class JavadocHoverTests extends CoreTests {
 		}
 	}
 
-}
+	@Test
+	public void testCachedJavadocFollowsChanges() throws Exception {
+		String source=
+				"""
+			package p;
+			public class TestClass {
+			  /**
+			   * First version.
+			   */
+			  public void foo() {
+			  }
+			}
+			""";
+		ICompilationUnit cu= getWorkingCopy("/TestSetupProject/src/p/TestClass.java", source, null);
+		try {
+			IMethod method= cu.getType("TestClass").getMethod("foo", new String[0]);
+
+			String content= JavadocHtmlCache.getInstance().getHTMLContent(method);
+			assertTrue(content, content.contains("First version."));
+			assertSame(content, JavadocHtmlCache.getInstance().getHTMLContent(method));
+
+			cu.getBuffer().setContents(source.replace("First version.", "Second version."));
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
 
+			content= JavadocHtmlCache.getInstance().getHTMLContent(method);
+			assertTrue(content, content.contains("Second version."));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -253,6 +254,20 @@ public class FatJarExportTests {
 			}
 			assertEquals("loader is a class file", 0xCAFEBABE, magic); //$NON-NLS-1$
 			assertEquals("loader compiled with JDK 1.8", "52.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			// libraries are compressed already and must not be deflated again
+			for (Enumeration<? extends ZipEntry> entries= generatedArchive.entries(); entries.hasMoreElements();) {
+				ZipEntry entry= entries.nextElement();
+				if (entry.getName().endsWith(".jar")) { //$NON-NLS-1$
+					assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+					// and keep the time of the library file
+					for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+						if (root.isArchive() && root.getPath().lastSegment().equals(entry.getName())) {
+							File library= root.getResource() != null ? root.getResource().getLocation().toFile() : root.getPath().toFile();
+							assertEquals(entry.getName(), library.lastModified() / 2000, entry.getTime() / 2000);
+						}
+					}
+				}
+			}
 		}
 
 		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
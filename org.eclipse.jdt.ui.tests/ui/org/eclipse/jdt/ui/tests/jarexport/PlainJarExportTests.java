@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.jarexport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +42,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.ui.IWorkbenchWindow;
@@ -150,6 +153,77 @@ public class PlainJarExportTests {
 		assertEquals(expected.toString(), entries.toString());
 	}
 
+	@Test
+	public void exportCuAfterTypeMoved() throws Exception {
+		IPackageFragment fragment= (IPackageFragment) fCU.getParent();
+		String str= """
+			package org.eclipse.jdt.ui.test;
+			public class Main {
+			}
+			class Helper {
+			}
+			""";
+		fCU= fragment.createCompilationUnit("Main.java", str, true, null);
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+
+		JarPackageData data= createJarPackageData();
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+
+		ArrayList<String> entries;
+		try (ZipFile jar= createArchive(data)) {
+			entries= getSortedEntries(jar);
+		}
+		List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Helper.class\n", "org/eclipse/jdt/ui/test/Main.class\n");
+		assertEquals(expected.toString(), entries.toString());
+
+		// Helper.class is compiled from Helper.java now, its source file name must be read again
+		String str1= """
+			package org.eclipse.jdt.ui.test;
+			public class Main {
+			}
+			""";
+		fCU= fragment.createCompilationUnit("Main.java", str1, true, null);
+		String str2= """
+			package org.eclipse.jdt.ui.test;
+			class Helper {
+			}
+			""";
+		fragment.createCompilationUnit("Helper.java", str2, true, null);
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+
+		data.setElements(new Object[] { fCU });
+		try (ZipFile jar= createArchive(data)) {
+			entries= getSortedEntries(jar);
+		}
+		expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Main.class\n");
+		assertEquals(expected.toString(), entries.toString());
+	}
+
+	@Test
+	public void exportReproducible() throws Exception {
+		JarPackageData data= createJarPackageData();
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+		data.setIncludeDirectoryEntries(true);
+		data.setReproducible(true);
+
+		try (ZipFile jar= createArchive(data)) {
+			for (Enumeration<? extends ZipEntry> entriesEnum= jar.entries(); entriesEnum.hasMoreElements(); ) {
+				ZipEntry entry= entriesEnum.nextElement();
+				assertEquals(entry.getName(), JarPackagerUtil.REPRODUCIBLE_ENTRY_TIME, entry.getTime());
+			}
+		}
+		File jarFile= data.getAbsoluteJarLocation().toFile();
+		byte[] first= Files.readAllBytes(jarFile.toPath());
+
+		// the class files are written again, with new modification times
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		createArchive(data).close();
+		assertArrayEquals(first, Files.readAllBytes(jarFile.toPath()));
+	}
+
 	private JarPackageData createJarPackageData() {
 		JarPackageData data= new JarPackageData();
 		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar"));
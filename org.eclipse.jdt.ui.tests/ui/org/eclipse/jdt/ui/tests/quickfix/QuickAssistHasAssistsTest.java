@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Statement;
+
+import org.eclipse.jdt.ui.tests.core.rules.Java17ProjectTestSetup;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.text.java.IQuickAssistProcessor;
+
+import org.eclipse.jdt.internal.ui.text.correction.AdvancedQuickAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.QuickAssistProcessor;
+
+/**
+ * Checks that the quick assist processors answer <code>hasAssists</code> wherever
+ * <code>getAssists</code> finds a proposal, with the caret at the start of every node, with every
+ * statement selected and with every two consecutive statements of a block selected.
+ */
+@RunWith(Parameterized.class)
+public class QuickAssistHasAssistsTest extends QuickFixTest {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new Java17ProjectTestSetup(false);
+
+	@Parameter(value= 0)
+	public String name;
+
+	@Parameter(value= 1)
+	public String source;
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Parameters(name= "{0}")
+	public static Collection<String[]> data() {
+		return Arrays.asList(new String[][] {
+				{ "statements", """
+					package test1;
+					import java.util.List;
+					public class E {
+					    private int count;
+					    public E(int count, String name) {
+					        this.count= count;
+					    }
+					    public void foo(List<String> list, Object o) {
+					        getClass();
+					        int i;
+					        i= 1;
+					        int j= 2, k= 3;
+					        if (i == j)
+					            k++;
+					        while (k > 0)
+					            k--;
+					        String s= "a" + "b" + i;
+					        boolean b= !(i > 0 && j > 0);
+					        System.out.println(s.equals("a") ? b : !b);
+					        for (int x= 0; x < list.size(); x++) {
+					            System.out.println(list.get(x));
+					        }
+					        for (String e : list) {
+					            System.out.println(e);
+					        }
+					        if (o instanceof String) {
+					            System.out.println(o);
+					        }
+					    }
+					}
+					""" },
+				{ "conditions", """
+					package test1;
+					public class E {
+					    public int foo(int a, int b, boolean c) {
+					        if (a > 0 && b > 0) {
+					            return 1;
+					        }
+					        if (a == 1)
+					            return 2;
+					        if (b == 1)
+					            return 2;
+					        if (c) {
+					            if (a < b) {
+					                a= b;
+					            }
+					        } else {
+					            b= a;
+					        }
+					        int d;
+					        if (c) {
+					            d= a;
+					        } else {
+					            d= b;
+					        }
+					        return c ? a : b;
+					    }
+					    public void bar(int i) {
+					        switch (i) {
+					            case 1:
+					            case 2:
+					                System.out.println(i);
+					                break;
+					            default:
+					                break;
+					        }
+					    }
+					}
+					""" },
+				{ "exceptions", """
+					package test1;
+					import java.io.FileInputStream;
+					import java.io.IOException;
+					public class E {
+					    public void foo() {
+					        try {
+					            FileInputStream f= new FileInputStream("a");
+					            f.close();
+					        } catch (IOException | IllegalArgumentException e) {
+					            e.printStackTrace();
+					        }
+					        try (FileInputStream f1= new FileInputStream("a"); FileInputStream f2= new FileInputStream("b")) {
+					            f1.read();
+					            f2.read();
+					        } catch (IOException e) {
+					        }
+					    }
+					}
+					""" },
+				{ "lambdas", """
+					package test1;
+					import java.util.ArrayList;
+					import java.util.List;
+					import java.util.function.Function;
+					public class E {
+					    public void foo() {
+					        List<String> list= new ArrayList<String>();
+					        Runnable r= new Runnable() {
+					            @Override
+					            public void run() {
+					                System.out.println();
+					            }
+					        };
+					        Function<String, Integer> f= s -> s.length();
+					        Function<String, Integer> g= (String s) -> {
+					            return s.length();
+					        };
+					        Function<String, Integer> h= String::length;
+					        list.forEach(System.out::println);
+					    }
+					}
+					""" },
+				{ "declarations", """
+					package test1;
+					import java.util.ArrayList;
+					public class E extends ArrayList<String> {
+					    private static final long serialVersionUID= 1L;
+					    private final int fValue;
+					    private String fName;
+					    public E(int value) {
+					        fValue= value;
+					    }
+					    @Override
+					    public boolean add(String e) {
+					        var list= new ArrayList<String>();
+					        ArrayList<String> other= new ArrayList<>();
+					        list.addAll(other);
+					        return super.add(e);
+					    }
+					    public static int max(int a, int b) {
+					        return Math.max(a, b);
+					    }
+					    interface I {
+					        void m();
+					    }
+					    enum Kind {
+					        A, B
+					    }
+					}
+					""" },
+				{ "switches", """
+					package test1;
+					public class E {
+					    enum Kind { A, B, C }
+					    public int foo(Kind kind, Object o) {
+					        int i;
+					        switch (kind) {
+					            case A:
+					                i= 1;
+					                break;
+					            case B:
+					                i= 2;
+					                break;
+					            default:
+					                i= 3;
+					                break;
+					        }
+					        if (o instanceof Integer n) {
+					            i+= n;
+					        } else if (o instanceof String s) {
+					            i+= s.length();
+					        }
+					        String text= "line1\\n" +
+					            "line2\\n";
+					        return i + text.length();
+					    }
+					}
+					""" },
+		});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		fJProject1.setRawClasspath(projectSetup.getDefaultClasspath(), null);
+		JavaProjectHelper.set17CompilerOptions(fJProject1, false);
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fJProject1 != null) {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	@Test
+	public void hasAssistsAgreesWithGetAssists() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", source, false, null);
+
+		TreeSet<Integer> offsets= new TreeSet<>();
+		List<int[]> selections= new ArrayList<>();
+		CompilationUnit astRoot= getASTRoot(cu);
+		astRoot.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				offsets.add(node.getStartPosition());
+				if (node instanceof Statement) {
+					selections.add(new int[] { node.getStartPosition(), node.getLength() });
+				}
+			}
+
+			@Override
+			public boolean visit(Block node) {
+				List<Statement> blockStatements= node.statements();
+				for (int i= 0; i < blockStatements.size() - 1; i++) {
+					int start= blockStatements.get(i).getStartPosition();
+					Statement next= blockStatements.get(i + 1);
+					selections.add(new int[] { start, next.getStartPosition() + next.getLength() - start });
+				}
+				return true;
+			}
+		});
+
+		IQuickAssistProcessor[] processors= { new QuickAssistProcessor(), new AdvancedQuickAssistProcessor() };
+		for (IQuickAssistProcessor processor : processors) {
+			for (int offset : offsets) {
+				assertAgreement(processor, cu, offset, 0);
+			}
+			for (int[] selection : selections) {
+				assertAgreement(processor, cu, selection[0], selection[1]);
+			}
+		}
+	}
+
+	private static void assertAgreement(IQuickAssistProcessor processor, ICompilationUnit cu, int offset, int length) throws Exception {
+		AssistContext context= getCorrectionContext(cu, offset, length);
+		IJavaCompletionProposal[] proposals= processor.getAssists(context, new IProblemLocation[0]);
+		if (proposals != null && proposals.length > 0) {
+			String message= processor.getClass().getSimpleName() + " has assists at " + offset + ", length " + length + ": " + proposals[0].getDisplayString();
+			assertTrue(message, processor.hasAssists(context));
+		}
+	}
+}
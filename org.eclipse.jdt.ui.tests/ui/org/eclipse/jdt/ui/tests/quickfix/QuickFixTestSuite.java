@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,7 @@ import org.junit.platform.suite.api.Suite;
 	AssistQuickFixTest14.class,
 	AssistQuickFixTest15.class,
 	AssistQuickFixTest21.class,
+	QuickAssistHasAssistsTest.class,
 	ChangeNonStaticToStaticTest.class,
 	MarkerResolutionTest.class,
 	JavadocQuickFixTest.class,
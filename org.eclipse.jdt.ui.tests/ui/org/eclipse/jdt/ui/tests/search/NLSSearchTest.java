@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -721,4 +721,55 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertNumberOfProblems(accessor, propertiesFile, 1);
 	}
 
+	@Test
+	public void testAccessorsWithSameName() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			import org.eclipse.osgi.util.NLS;
+			public class Accessor extends NLS {
+			    public static String Client_s1;
+			    private Accessor() {}
+			    private static final String BUNDLE_NAME = "test1.Accessor"; //$NON-NLS-1$
+			    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}
+			}
+			""";
+		ICompilationUnit accessor1= pack1.createCompilationUnit("Accessor.java", str, false, null);
+		IFile propertiesFile1= write((IFolder)pack1.getCorrespondingResource(), "Client_s1=s1\n", "Accessor.properties");
+
+		IPackageFragment pack2= fSourceFolder.createPackageFragment("test2", false, null);
+		String str1= """
+			package test2;
+			import org.eclipse.osgi.util.NLS;
+			public class Accessor extends NLS {
+			    public static String Client_s1;
+			    private Accessor() {}
+			    private static final String BUNDLE_NAME = "test2.Accessor"; //$NON-NLS-1$
+			    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}
+			}
+			""";
+		ICompilationUnit accessor2= pack2.createCompilationUnit("Accessor.java", str1, false, null);
+		IFile propertiesFile2= write((IFolder)pack2.getCorrespondingResource(), "", "Accessor.properties");
+
+		String str2= """
+			package test1;
+			public class Client {
+			    public String s1= Accessor.Client_s1;
+			    public String s2= test2.Accessor.Client_s1;
+			}
+			""";
+		ICompilationUnit client= pack1.createCompilationUnit("Client.java", str2, false, null);
+
+		ICompilationUnit[] accessors= new ICompilationUnit[] {accessor1, accessor2};
+		IFile[] propertiesFiles= new IFile[] {propertiesFile1, propertiesFile2};
+		NLSSearchTestHelper.assertNumberOfProblems(accessors, propertiesFiles, 2);
+		NLSSearchTestHelper.assertNumberOfProblems(accessors, propertiesFiles, (IFile)client.getResource(), 1);
+		NLSSearchTestHelper.assertHasUndefinedKey(accessors, propertiesFiles, "Client_s1", (IFile)client.getResource(), false);
+		NLSSearchTestHelper.assertHasUndefinedKey(accessors, propertiesFiles, "Client_s1", (IFile)accessor2.getResource(), true);
+
+		// the undefined key of the client is the one of test2's bundle
+		NLSSearchTestHelper.assertNumberOfProblems(accessor1, propertiesFile1, 0);
+		NLSSearchTestHelper.assertNumberOfProblems(accessor2, propertiesFile2, 2);
+	}
+
 }
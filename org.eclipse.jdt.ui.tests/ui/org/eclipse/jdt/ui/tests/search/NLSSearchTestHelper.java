@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2013 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,10 +41,24 @@ public class NLSSearchTestHelper {
 		assertNumberResults(searchProblems(accessor, propertiesFile), expected);
 	}
 
+	public static void assertNumberOfProblems(ICompilationUnit[] accessors, IFile[] propertiesFiles, int expected) {
+		assertNumberResults(searchProblems(accessors, propertiesFiles), expected);
+	}
+
+	public static void assertNumberOfProblems(ICompilationUnit[] accessors, IFile[] propertiesFiles, IFile file, int expected) {
+		NLSSearchResult result= searchProblems(accessors, propertiesFiles);
+		int is= result.getFileMatchAdapter().computeContainedMatches(result, file).length;
+		Assert.assertEquals("Expected number of problems in " + file.getName() + " is " + expected + " but was " + is, expected, is);
+	}
+
 	public static void assertHasUndefinedKey(ICompilationUnit accessor, IFile propertiesFile, String key, IFile file, boolean isAccessor) throws CoreException {
 		assertResultHasUndefinedKey(key, file, isAccessor, searchProblems(accessor, propertiesFile));
 	}
 
+	public static void assertHasUndefinedKey(ICompilationUnit[] accessors, IFile[] propertiesFiles, String key, IFile file, boolean isAccessor) throws CoreException {
+		assertResultHasUndefinedKey(key, file, isAccessor, searchProblems(accessors, propertiesFiles));
+	}
+
 	public static void assertHasUnusedKey(ICompilationUnit accessor, IFile propertiesFile, String key, IFile file, boolean isAccessor) throws IOException, CoreException {
 		assertResultHasUnusedKey(key, file, isAccessor, searchProblems(accessor, propertiesFile));
 	}
@@ -54,8 +68,15 @@ public class NLSSearchTestHelper {
 	}
 
 	private static NLSSearchResult searchProblems(ICompilationUnit accessor, IFile propertiesFile) {
-		IType type= accessor.getType("Accessor");
-		NLSSearchQuery query= new NLSSearchQuery((new IType[] {type}), (new IFile[] {propertiesFile}), SearchEngine.createWorkspaceScope(), ""); //$NON-NLS-1$
+		return searchProblems(new ICompilationUnit[] {accessor}, new IFile[] {propertiesFile});
+	}
+
+	private static NLSSearchResult searchProblems(ICompilationUnit[] accessors, IFile[] propertiesFiles) {
+		IType[] types= new IType[accessors.length];
+		for (int i= 0; i < accessors.length; i++) {
+			types[i]= accessors[i].getType("Accessor");
+		}
+		NLSSearchQuery query= new NLSSearchQuery(types, propertiesFiles, SearchEngine.createWorkspaceScope(), ""); //$NON-NLS-1$
 		NewSearchUI.runQueryInForeground(new BusyIndicatorRunnableContext(), query);
 		NLSSearchResult result= (NLSSearchResult)query.getSearchResult();
 		return result;
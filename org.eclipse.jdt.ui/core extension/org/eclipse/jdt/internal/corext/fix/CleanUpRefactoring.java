@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -502,6 +503,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/cleanup/createFix"; //$NON-NLS-1$
+
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -764,13 +769,23 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		do {
 			ICleanUp cleanUp= cleanUps[i];
 			ICleanUpFix fix;
-			if (slowCleanUps != null) {
-				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
-					slowCleanUps.add(cleanUp);
-			} else {
-				fix= cleanUp.createFix(context);
+			PerformanceStats stats= null;
+			if (MEASURE_PERFORMANCE) {
+				stats= PerformanceStats.getStats(PERFORMANCE_EVENT, cleanUp.getClass().getName());
+				stats.startRun(context.getCompilationUnit().getElementName());
+			}
+			try {
+				if (slowCleanUps != null) {
+					long timeBefore= System.currentTimeMillis();
+					fix= cleanUp.createFix(context);
+					if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
+						slowCleanUps.add(cleanUp);
+				} else {
+					fix= cleanUp.createFix(context);
+				}
+			} finally {
+				if (stats != null)
+					stats.endRun();
 			}
 			if (fix != null) {
 				CompilationUnitChange current= fix.createChange(null);
@@ -796,7 +811,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 			}
 			i++;
-		} while (i < cleanUps.length && (context.getAST() == null || !cleanUps[i].getRequirements().requiresFreshAST()));
+			// as long as no clean up produced an edit, the AST is still fresh
+		} while (i < cleanUps.length && (context.getAST() == null || solution == null || !cleanUps[i].getRequirements().requiresFreshAST()));
 
 		for (; i < cleanUps.length; i++) {
 			undoneCleanUps.add(cleanUps[i]);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -279,21 +279,50 @@ public class TypeInfoFilter {
 	}
 
 	private boolean matchesPackage(TypeNameMatch type) {
+		return matchesTypeContainerName(type.getTypeContainerName());
+	}
+
+	/**
+	 * Tests the name of the package or enclosing type of a type against the package pattern.
+	 *
+	 * @param typeContainerName the type container name
+	 * @return <code>true</code> if the name matches or there is no package pattern
+	 * @since 3.34
+	 */
+	public boolean matchesTypeContainerName(String typeContainerName) {
 		if (fPackageMatcher == null)
 			return true;
-		return fPackageMatcher.matches(type.getTypeContainerName());
+		return fPackageMatcher.matches(typeContainerName);
 	}
 
-	private boolean matchesScope(TypeNameMatch type) {
+	/**
+	 * Tests whether the search scope encloses a type.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type is in the scope
+	 * @since 3.34
+	 */
+	public boolean matchesScope(TypeNameMatch type) {
 		if (fIsWorkspaceScope)
 			return true;
 		return fSearchScope.encloses(type.getType());
 	}
 
 	private boolean matchesModifiers(TypeNameMatch type) {
+		return matchesModifiers(type.getModifiers());
+	}
+
+	/**
+	 * Tests type modifiers against the element kind.
+	 *
+	 * @param typeModifiers the modifiers of a type
+	 * @return <code>true</code> if a type with these modifiers is of the element kind
+	 * @since 3.34
+	 */
+	public boolean matchesModifiers(int typeModifiers) {
 		if (fElementKind == IJavaSearchConstants.TYPE)
 			return true;
-		int modifiers= type.getModifiers() & TYPE_MODIFIERS;
+		int modifiers= typeModifiers & TYPE_MODIFIERS;
 		switch (fElementKind) {
 			case IJavaSearchConstants.CLASS:
 				return modifiers == 0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,20 @@
 
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IFile;
@@ -36,8 +47,10 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSRefactoring;
@@ -83,6 +96,8 @@ public class NLSSearchQuery implements ISearchQuery {
 			final AbstractTextSearchResult textResult= (AbstractTextSearchResult) getSearchResult();
 			textResult.removeAll();
 
+			List<Bundle> bundles= new ArrayList<>(fWrapperClass.length);
+			SearchPattern pattern= null;
 			for (int i= 0; i < fWrapperClass.length; i++) {
 				IJavaElement wrapperClass= fWrapperClass[i];
 				IFile propertieFile= fPropertiesFile[i];
@@ -91,42 +106,24 @@ public class NLSSearchQuery implements ISearchQuery {
 				if (! propertieFile.exists())
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_propertiesNotExists, BasicElementLabels.getResourceName(propertieFile)), null);
 
-				SearchPattern pattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				if (pattern == null) {
+				SearchPattern wrapperPattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+				if (wrapperPattern == null) {
 					continue;
 				}
-				SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+				pattern= pattern == null ? wrapperPattern : SearchPattern.createOrPattern(pattern, wrapperPattern);
+				bundles.add(new Bundle((IType) wrapperClass, propertieFile));
+			}
+			if (pattern == null)
+				return Status.OK_STATUS;
 
-				NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertieFile, fResult);
-				try {
-					SearchEngine engine= new SearchEngine();
-					engine.search(pattern, participants, fScope, requestor, Progress.subMonitor(monitor, 4));
-					requestor.reportUnusedPropertyNames(Progress.subMonitor(monitor, 1));
-
-					ICompilationUnit compilationUnit= ((IType)wrapperClass).getCompilationUnit();
-					CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
-
-					boolean hasUnusedPropertie= false;
-					for (IField field : ((IType)wrapperClass).getFields()) {
-						if (isNLSField(field)) {
-							ISourceRange sourceRange= field.getSourceRange();
-							if (sourceRange != null) {
-								String fieldName= field.getElementName();
-								if (!requestor.hasPropertyKey(fieldName)) {
-									fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
-								}
-								if (!requestor.isUsedPropertyKey(fieldName) && !requestor.isSpecifiedAsUsed(fieldName)) {
-									hasUnusedPropertie= true;
-									fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
-								}
-							}
-						}
-					}
-					if (hasUnusedPropertie)
-						fResult.addCompilationUnitGroup(groupElement);
-				} catch (CoreException e) {
-					return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
-				}
+			try {
+				// one search for the references to all accessor classes, then check the keys of every bundle
+				SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+				SearchEngine engine= new SearchEngine();
+				engine.search(pattern, participants, fScope, new AccessorReferenceCollector(bundles), Progress.subMonitor(monitor, 4 * fWrapperClass.length));
+				checkBundles(bundles, monitor);
+			} catch (CoreException e) {
+				return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 			}
 		} finally {
 			monitor.done();
@@ -134,6 +131,99 @@ public class NLSSearchQuery implements ISearchQuery {
 		return 	Status.OK_STATUS;
 	}
 
+	/**
+	 * Checks the keys of the bundles, in parallel if there are several. The problems of a bundle are
+	 * added to the search result as soon as the bundle is checked.
+	 *
+	 * @param bundles the bundles to check
+	 * @param monitor the progress monitor, expecting one work unit per bundle
+	 * @throws CoreException if checking a bundle fails
+	 */
+	private void checkBundles(List<Bundle> bundles, final IProgressMonitor monitor) throws CoreException {
+		int workers= Math.min(bundles.size(), Runtime.getRuntime().availableProcessors());
+		if (workers <= 1) {
+			for (Bundle bundle : bundles) {
+				checkBundle(bundle, Progress.subMonitor(monitor, 1));
+			}
+			return;
+		}
+
+		IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executor= Executors.newFixedThreadPool(workers);
+		try {
+			List<Future<Void>> checks= new ArrayList<>(bundles.size());
+			for (Bundle bundle : bundles) {
+				checks.add(executor.submit(() -> {
+					checkBundle(bundle, cancelMonitor);
+					return null;
+				}));
+			}
+			for (Future<Void> check : checks) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				waitFor(check);
+				monitor.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void waitFor(Future<Void> check) throws CoreException {
+		try {
+			check.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new CoreException(JavaUIStatus.createError(IStatus.ERROR, cause));
+		}
+	}
+
+	private void checkBundle(Bundle bundle, IProgressMonitor monitor) throws CoreException {
+		NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(bundle.fPropertiesFile, fResult);
+		requestor.beginReporting();
+		for (SearchMatch match : bundle.fMatches) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			requestor.acceptSearchMatch(match);
+		}
+		requestor.endReporting();
+		requestor.reportUnusedPropertyNames(monitor);
+
+		ICompilationUnit compilationUnit= bundle.fAccessor.getCompilationUnit();
+		CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
+
+		boolean hasUnusedPropertie= false;
+		for (IField field : bundle.fAccessor.getFields()) {
+			if (isNLSField(field)) {
+				ISourceRange sourceRange= field.getSourceRange();
+				if (sourceRange != null) {
+					String fieldName= field.getElementName();
+					if (!requestor.hasPropertyKey(fieldName)) {
+						fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
+					}
+					if (!requestor.isUsedPropertyKey(fieldName) && !requestor.isSpecifiedAsUsed(fieldName)) {
+						hasUnusedPropertie= true;
+						fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
+					}
+				}
+			}
+		}
+		if (hasUnusedPropertie)
+			fResult.addCompilationUnitGroup(groupElement);
+	}
+
 	private boolean isNLSField(IField field) throws JavaModelException {
 		int flags= field.getFlags();
 		if (!Flags.isPublic(flags))
@@ -201,4 +291,92 @@ public class NLSSearchQuery implements ISearchQuery {
 			fResult= new NLSSearchResult(this);
 		return fResult;
 	}
+
+	/**
+	 * An accessor class with its properties file, and the references to the accessor class.
+	 */
+	private static final class Bundle {
+		final IType fAccessor;
+		final IFile fPropertiesFile;
+		final List<SearchMatch> fMatches= new ArrayList<>();
+
+		Bundle(IType accessor, IFile propertiesFile) {
+			fAccessor= accessor;
+			fPropertiesFile= propertiesFile;
+		}
+	}
+
+	/**
+	 * Sorts the references found by the combined search to the bundles of the referenced accessor
+	 * classes.
+	 * <p>
+	 * The accessor class of a reference is recognized by its simple name. Only if several accessor
+	 * classes share a simple name, or if the reference is not written as a plain name, is the
+	 * reference resolved.
+	 * </p>
+	 */
+	private static final class AccessorReferenceCollector extends SearchRequestor {
+
+		private final List<Bundle> fBundles;
+		private final Map<String, List<Bundle>> fBundlesBySimpleName;
+
+		AccessorReferenceCollector(List<Bundle> bundles) {
+			fBundles= bundles;
+			fBundlesBySimpleName= new HashMap<>();
+			for (Bundle bundle : bundles) {
+				fBundlesBySimpleName.computeIfAbsent(bundle.fAccessor.getElementName(), name -> new ArrayList<>()).add(bundle);
+			}
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			// ignored by NLSSearchResultRequestor as well:
+			if (match.getAccuracy() == SearchMatch.A_INACCURATE)
+				return;
+			int offset= match.getOffset();
+			int length= match.getLength();
+			if (offset == -1 || length == -1)
+				return;
+			if (!(match.getElement() instanceof IJavaElement))
+				return;
+
+			ICompilationUnit unit= (ICompilationUnit) ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (unit == null)
+				return; // keys are only searched in source
+			String source= unit.getSource();
+			if (source == null || offset + length > source.length())
+				return;
+
+			String reference= source.substring(offset, offset + length);
+			String simpleName= reference.substring(reference.lastIndexOf('.') + 1);
+			List<Bundle> bundles= fBundlesBySimpleName.get(simpleName);
+			if (bundles == null || !hasSingleAccessor(bundles)) {
+				bundles= resolve(unit, offset, length);
+			}
+			for (Bundle bundle : bundles) {
+				bundle.fMatches.add(match);
+			}
+		}
+
+		private static boolean hasSingleAccessor(List<Bundle> bundles) {
+			IType accessor= bundles.get(0).fAccessor;
+			for (Bundle bundle : bundles) {
+				if (!accessor.equals(bundle.fAccessor))
+					return false;
+			}
+			return true;
+		}
+
+		private List<Bundle> resolve(ICompilationUnit unit, int offset, int length) throws JavaModelException {
+			List<Bundle> result= new ArrayList<>(1);
+			IJavaElement[] elements= unit.codeSelect(offset, length);
+			if (elements.length == 1) {
+				for (Bundle bundle : fBundles) {
+					if (bundle.fAccessor.equals(elements[0]))
+						result.add(bundle);
+				}
+			}
+			return result;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,17 @@
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -66,6 +73,52 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
 
     private DeferredTreeContentManager fManager;
     private CallHierarchyViewPart fPart;
+    private final AtomicInteger fActiveFetches= new AtomicInteger();
+    private PrefetchJob fPrefetchJob;
+
+    /**
+     * Searches the calls of the children of a node that has just been expanded, so that
+     * expanding one of them is answered from the method wrapper cache.
+     */
+    private final class PrefetchJob extends Job {
+        private final MethodWrapper[] fCalls;
+
+        PrefetchJob(MethodWrapper[] calls) {
+            super(CallHierarchyMessages.CallHierarchyContentProvider_prefetchJob_name);
+            fCalls= calls;
+            setSystem(true);
+            setPriority(Job.DECORATE);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            List<MethodWrapper> candidates= new ArrayList<>(fCalls.length);
+            for (MethodWrapper call : fCalls) {
+                if (call instanceof CallerMethodWrapper) {
+                    // children of these nodes are constructors, not the calls of the wrapper
+                    ensureDefaultExpandWithConstructors((CallerMethodWrapper) call);
+                    if (isExpandWithConstructors(call))
+                        continue;
+                }
+                if (!shouldStopTraversion(call))
+                    candidates.add(call);
+            }
+            try {
+                MethodWrapper.prefetchCalls(candidates.toArray(new MethodWrapper[candidates.size()]), monitor);
+            } catch (OperationCanceledException e) {
+                return Status.CANCEL_STATUS;
+            } catch (RuntimeException e) {
+                // speculative search only, the real expansion will report problems
+                JavaPlugin.log(e);
+            }
+            return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+        }
+
+        @Override
+        public boolean belongsTo(Object family) {
+            return family == CallHierarchyContentProvider.this;
+        }
+    }
 
     private static class MethodWrapperRunnable implements IRunnableWithProgress {
         private MethodWrapper fMethodWrapper;
@@ -399,7 +452,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      */
     @Override
 	public void dispose() {
-        // Nothing to dispose
+        Job.getJobManager().cancel(this);
     }
 
     /**
@@ -447,11 +500,30 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
         }
     }
 
+    /**
+     * Searches the calls of the given children in the background. A prefetch for the children of
+     * a previously expanded node is canceled, the user has moved on from that node.
+     *
+     * @param calls the children of a node that has just been expanded
+     */
+    void prefetchChildren(MethodWrapper[] calls) {
+        if (calls.length > 0) {
+            PrefetchJob job= new PrefetchJob(calls);
+            synchronized (this) {
+                if (fPrefetchJob != null)
+                    fPrefetchJob.cancel();
+                fPrefetchJob= job;
+            }
+            job.schedule();
+        }
+    }
+
     /**
      * Cancel all current jobs.
      * @param wrappers the parents to cancel jobs for
      */
     void cancelJobs(MethodWrapper[] wrappers) {
+        Job.getJobManager().cancel(this);
         if (fManager != null && wrappers != null) {
         	for (MethodWrapper wrapper : wrappers) {
         		fManager.cancel(wrapper);
@@ -463,12 +535,13 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
     }
 
     public void doneFetching() {
-        if (fPart != null) {
+        if (fActiveFetches.decrementAndGet() <= 0 && fPart != null) {
             fPart.setCancelEnabled(false);
         }
     }
 
     public void startFetching() {
+        fActiveFetches.incrementAndGet();
         if (fPart != null) {
             fPart.setCancelEnabled(true);
         }
@@ -78,6 +78,7 @@ public final class CallHierarchyMessages extends NLS {
 	public static String FiltersDialog_filterTestCode;
 	public static String CallHierarchyContentProvider_searchError_title;
 	public static String CallHierarchyContentProvider_searchError_message;
+	public static String CallHierarchyContentProvider_prefetchJob_name;
 	public static String CallHierarchyLabelProvider_constructor_label;
 	public static String CallHierarchyLabelProvider_declaration_label;
 	public static String CallHierarchyLabelProvider_expandWithConstructorsAction_realCallers;
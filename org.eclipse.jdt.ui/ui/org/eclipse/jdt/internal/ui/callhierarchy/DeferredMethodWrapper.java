@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,12 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter implements IDeferredWorkbenchAdapter {
     private final CallHierarchyContentProvider fProvider;
 
+    /**
+     * Number of deferred searches that may run at the same time, e.g. when several
+     * sibling nodes are expanded one after another.
+     */
+    private static final int PARALLEL_SEARCHES= 4;
+
     /**
      * A simple job scheduling rule for serializing jobs that shouldn't be run
      * concurrently.
@@ -68,7 +74,7 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         this.fProvider = provider;
     }
 
-    private Object getCalls(IProgressMonitor monitor) {
+    private MethodWrapper[] getCalls(IProgressMonitor monitor) {
         return getMethodWrapper().getCalls(monitor);
     }
 
@@ -77,8 +83,10 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
     	final DeferredMethodWrapper deferredMethodWrapper= (DeferredMethodWrapper)object;
     	try {
             fProvider.startFetching();
-            JavaCore.runReadOnly(() -> collector.add((Object[]) deferredMethodWrapper.getCalls(monitor), monitor));
+            MethodWrapper[] calls= JavaCore.callReadOnly(() -> deferredMethodWrapper.getCalls(monitor));
+            collector.add(calls, monitor);
             collector.done();
+            fProvider.prefetchChildren(calls);
         } catch (OperationCanceledException e) {
         	final MethodWrapper methodWrapper= deferredMethodWrapper.getMethodWrapper();
 			if (!CallHierarchyContentProvider.isExpandWithConstructors(methodWrapper)) {
@@ -102,7 +110,9 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
 
     @Override
 	public ISchedulingRule getRule(Object o) {
-        return new BatchSimilarSchedulingRule("org.eclipse.jdt.ui.callhierarchy.methodwrapper"); //$NON-NLS-1$
+        // Searches for different nodes are independent, but limit how many run at once
+        int slot= Math.floorMod(getMethodWrapper().hashCode(), PARALLEL_SEARCHES);
+        return new BatchSimilarSchedulingRule("org.eclipse.jdt.ui.callhierarchy.methodwrapper." + slot); //$NON-NLS-1$
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -486,6 +486,9 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		typeSearchFilter.setMatchEverythingMode(true);
 
 		try {
+			if (TypeNameIndex.isEnabled() && TypeNameIndex.getInstance().search(typeSearchFilter.fTypeInfoFilter, requestor, progressMonitor)) {
+				return;
+			}
 			engine.searchAllTypeNames(packPattern == null ? null : packPattern.toCharArray(),
 					typeSearchFilter.getPackageFlags(),
 					typePattern.toCharArray(),
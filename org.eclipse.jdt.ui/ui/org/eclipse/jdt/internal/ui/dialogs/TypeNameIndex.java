@@ -0,0 +1,578 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.dialogs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+/**
+ * A resident table of the names of all types in the workspace and its libraries, to answer the
+ * type name searches of the {@link FilteredTypesSelectionDialog} without reading the search
+ * indexes for every pattern.
+ * <p>
+ * The names are kept in one <code>char[]</code> and the other attributes of a type in
+ * <code>int[]</code> columns, so that a pattern is matched against all types without creating
+ * objects. Only the matching types are reported as {@link TypeNameMatch}es. The table is built
+ * with one search on first use and kept up to date from Java element deltas: compilation units
+ * whose types changed are indexed again in the background, class path changes rebuild the table.
+ * Until the table is available, {@link #search(TypeInfoFilter, TypeNameMatchRequestor, IProgressMonitor)}
+ * returns <code>false</code> and the caller has to use the search engine.
+ * </p>
+ * <p>
+ * The table is only used if enabled with the preference {@link #PREF_USE_TYPE_NAME_INDEX}.
+ * </p>
+ *
+ * @since 3.34
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * Preference key: whether the Open Type dialog searches types in the resident type name
+	 * table.
+	 */
+	public static final String PREF_USE_TYPE_NAME_INDEX= "org.eclipse.jdt.ui.typeNameIndex"; //$NON-NLS-1$
+
+	/**
+	 * The number of compilation units indexed again since the table was built, after which the
+	 * table is rebuilt.
+	 */
+	private static final int MAX_CHANGED_UNITS= 1000;
+
+	/**
+	 * An immutable table of type names.
+	 */
+	private static final class Table {
+		final char[] fChars;
+		/** start of the type qualified name, e.g. <code>Map.Entry</code> */
+		final int[] fStart;
+		/** start of the simple name */
+		final int[] fSimpleStart;
+		/** end of both names */
+		final int[] fEnd;
+		final int[] fModifiers;
+		final int[] fPackage;
+		final int[] fRoot;
+		/** the compilation unit of a source type, -1 for a binary type */
+		final int[] fUnit;
+		final int fSize;
+
+		final String[] fPackages;
+		final IPackageFragmentRoot[] fRoots;
+		final ICompilationUnit[] fUnits;
+		final Map<ICompilationUnit, Integer> fUnitIndexes;
+
+		Table(TableBuilder builder) {
+			fChars= Arrays.copyOf(builder.fChars, builder.fCharCount);
+			fSize= builder.fSize;
+			fStart= Arrays.copyOf(builder.fStart, fSize);
+			fSimpleStart= Arrays.copyOf(builder.fSimpleStart, fSize);
+			fEnd= Arrays.copyOf(builder.fEnd, fSize);
+			fModifiers= Arrays.copyOf(builder.fModifiers, fSize);
+			fPackage= Arrays.copyOf(builder.fPackage, fSize);
+			fRoot= Arrays.copyOf(builder.fRoot, fSize);
+			fUnit= Arrays.copyOf(builder.fUnit, fSize);
+			fPackages= builder.fPackages.toArray(new String[builder.fPackages.size()]);
+			fRoots= builder.fRoots.toArray(new IPackageFragmentRoot[builder.fRoots.size()]);
+			fUnits= builder.fUnits.toArray(new ICompilationUnit[builder.fUnits.size()]);
+			fUnitIndexes= builder.fUnitIndexes;
+		}
+
+		String getTypeQualifiedName(int i) {
+			return new String(fChars, fStart[i], fEnd[i] - fStart[i]);
+		}
+
+		String getContainerName(int i) {
+			String packageName= fPackages[fPackage[i]];
+			if (fSimpleStart[i] == fStart[i])
+				return packageName;
+			String enclosingName= new String(fChars, fStart[i], fSimpleStart[i] - fStart[i] - 1);
+			return packageName.isEmpty() ? enclosingName : packageName + '.' + enclosingName;
+		}
+
+		TypeNameMatch createMatch(int i) {
+			String typeQualifiedName= getTypeQualifiedName(i);
+			IType type;
+			if (fUnit[i] == -1) {
+				String classFileName= typeQualifiedName.replace('.', '$') + ".class"; //$NON-NLS-1$
+				type= fRoots[fRoot[i]].getPackageFragment(fPackages[fPackage[i]]).getOrdinaryClassFile(classFileName).getType();
+			} else {
+				String[] names= typeQualifiedName.split("\\."); //$NON-NLS-1$
+				type= fUnits[fUnit[i]].getType(names[0]);
+				for (int k= 1; k < names.length; k++) {
+					type= type.getType(names[k]);
+				}
+			}
+			return SearchEngine.createTypeNameMatch(type, fModifiers[i]);
+		}
+	}
+
+	private static final class TableBuilder {
+		char[] fChars= new char[1 << 16];
+		int fCharCount;
+		int[] fStart= new int[1 << 12];
+		int[] fSimpleStart= new int[1 << 12];
+		int[] fEnd= new int[1 << 12];
+		int[] fModifiers= new int[1 << 12];
+		int[] fPackage= new int[1 << 12];
+		int[] fRoot= new int[1 << 12];
+		int[] fUnit= new int[1 << 12];
+		int fSize;
+
+		final List<String> fPackages= new ArrayList<>();
+		final Map<String, Integer> fPackageIndexes= new HashMap<>();
+		final List<IPackageFragmentRoot> fRoots= new ArrayList<>();
+		final Map<IPackageFragmentRoot, Integer> fRootIndexes= new HashMap<>();
+		final List<ICompilationUnit> fUnits= new ArrayList<>();
+		final Map<ICompilationUnit, Integer> fUnitIndexes= new HashMap<>();
+
+		void add(IType type, int modifiers) {
+			IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root == null)
+				return;
+			if (fSize == fStart.length) {
+				int capacity= fSize * 2;
+				fStart= Arrays.copyOf(fStart, capacity);
+				fSimpleStart= Arrays.copyOf(fSimpleStart, capacity);
+				fEnd= Arrays.copyOf(fEnd, capacity);
+				fModifiers= Arrays.copyOf(fModifiers, capacity);
+				fPackage= Arrays.copyOf(fPackage, capacity);
+				fRoot= Arrays.copyOf(fRoot, capacity);
+				fUnit= Arrays.copyOf(fUnit, capacity);
+			}
+			String typeQualifiedName= type.getTypeQualifiedName('.');
+			int length= typeQualifiedName.length();
+			if (fCharCount + length > fChars.length)
+				fChars= Arrays.copyOf(fChars, Math.max(fChars.length * 2, fCharCount + length));
+			typeQualifiedName.getChars(0, length, fChars, fCharCount);
+
+			fStart[fSize]= fCharCount;
+			fSimpleStart[fSize]= fCharCount + typeQualifiedName.lastIndexOf('.') + 1;
+			fEnd[fSize]= fCharCount + length;
+			fModifiers[fSize]= modifiers;
+			fPackage[fSize]= indexOf(type.getPackageFragment().getElementName(), fPackages, fPackageIndexes);
+			fRoot[fSize]= indexOf(root, fRoots, fRootIndexes);
+			ICompilationUnit unit= type.getCompilationUnit();
+			fUnit[fSize]= unit != null ? indexOf(unit, fUnits, fUnitIndexes) : -1;
+			fCharCount+= length;
+			fSize++;
+		}
+
+		private static <T> int indexOf(T element, List<T> elements, Map<T, Integer> indexes) {
+			Integer index= indexes.get(element);
+			if (index == null) {
+				index= Integer.valueOf(elements.size());
+				elements.add(element);
+				indexes.put(element, index);
+			}
+			return index.intValue();
+		}
+	}
+
+	/**
+	 * The table and the types of the compilation units indexed again since the table was built.
+	 */
+	private static final class State {
+		final Table fTable;
+		/** for each compilation unit of the table whether its types are in {@link #fChangedUnits} */
+		final boolean[] fReplacedUnits;
+		final Map<ICompilationUnit, TypeNameMatch[]> fChangedUnits;
+
+		State(Table table, boolean[] replacedUnits, Map<ICompilationUnit, TypeNameMatch[]> changedUnits) {
+			fTable= table;
+			fReplacedUnits= replacedUnits;
+			fChangedUnits= changedUnits;
+		}
+
+		State withChangedUnits(Map<ICompilationUnit, TypeNameMatch[]> changedUnits) {
+			boolean[] replacedUnits= fReplacedUnits.clone();
+			Map<ICompilationUnit, TypeNameMatch[]> allChangedUnits= new HashMap<>(fChangedUnits);
+			for (Map.Entry<ICompilationUnit, TypeNameMatch[]> entry : changedUnits.entrySet()) {
+				Integer index= fTable.fUnitIndexes.get(entry.getKey());
+				if (index != null)
+					replacedUnits[index.intValue()]= true;
+				allChangedUnits.put(entry.getKey(), entry.getValue());
+			}
+			return new State(fTable, replacedUnits, allChangedUnits);
+		}
+	}
+
+	/**
+	 * Matches simple type names like the {@link TypeInfoFilter}, on ranges of a <code>char[]</code>.
+	 */
+	private static final class NameMatcher {
+		private final char[] fPattern;
+		private final int fMatchKind;
+		private final boolean fMatchAll;
+
+		NameMatcher(TypeInfoFilter filter) {
+			fMatchAll= filter.getText().isEmpty();
+			fMatchKind= filter.getSearchFlags();
+			char[] pattern= filter.getNamePattern().toCharArray();
+			// CharOperation.match expects a lower case pattern when ignoring case
+			fPattern= fMatchKind == SearchPattern.R_PATTERN_MATCH ? CharOperation.toLowerCase(pattern) : pattern;
+		}
+
+		boolean matches(char[] name, int start, int end) {
+			if (fMatchAll)
+				return true;
+			switch (fMatchKind) {
+				case SearchPattern.R_PATTERN_MATCH:
+					return CharOperation.match(fPattern, 0, fPattern.length, name, start, end, false);
+				case SearchPattern.R_EXACT_MATCH:
+					return end - start == fPattern.length && startsWithIgnoreCase(name, start, end);
+				case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH:
+					return SearchPattern.camelCaseMatch(fPattern, 0, fPattern.length, name, start, end, true);
+				case SearchPattern.R_CAMELCASE_MATCH:
+					// fall back to prefix match like the PatternMatcher
+					return SearchPattern.camelCaseMatch(fPattern, 0, fPattern.length, name, start, end, false)
+							|| startsWithIgnoreCase(name, start, end);
+				default:
+					return startsWithIgnoreCase(name, start, end);
+			}
+		}
+
+		private boolean startsWithIgnoreCase(char[] name, int start, int end) {
+			if (end - start < fPattern.length)
+				return false;
+			for (int i= 0; i < fPattern.length; i++) {
+				char c1= fPattern[i];
+				char c2= name[start + i];
+				if (c1 != c2 && Character.toLowerCase(c1) != Character.toLowerCase(c2))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	private class TypeDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<ICompilationUnit> changedUnits= new HashSet<>();
+			if (processDelta(event.getDelta(), changedUnits)) {
+				invalidate();
+			} else if (!changedUnits.isEmpty()) {
+				addChangedUnits(changedUnits);
+			}
+		}
+
+		/**
+		 * Collects the primary compilation units whose types may have changed.
+		 *
+		 * @param delta the delta
+		 * @param changedUnits the set to add the changed compilation units to
+		 * @return <code>true</code> if the table has to be rebuilt
+		 */
+		private boolean processDelta(IJavaElementDelta delta, Set<ICompilationUnit> changedUnits) {
+			IJavaElement element= delta.getElement();
+			int kind= delta.getKind();
+			int flags= delta.getFlags();
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+				case IJavaElement.JAVA_PROJECT:
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				case IJavaElement.PACKAGE_FRAGMENT:
+					if (kind != IJavaElementDelta.CHANGED)
+						return true;
+					if ((flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+							| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0)
+						return true;
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						if (processDelta(child, changedUnits))
+							return true;
+					}
+					return false;
+				case IJavaElement.COMPILATION_UNIT:
+					ICompilationUnit unit= (ICompilationUnit) element;
+					if (!JavaModelUtil.isPrimary(unit))
+						return false;
+					if (kind != IJavaElementDelta.CHANGED
+							|| (flags & (IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0
+							|| ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+							|| hasTypeChanges(delta)) {
+						changedUnits.add(unit);
+					}
+					return false;
+				case IJavaElement.CLASS_FILE:
+					// class folders
+					return true;
+				default:
+					return false;
+			}
+		}
+
+		private boolean hasTypeChanges(IJavaElementDelta delta) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (child.getElement().getElementType() != IJavaElement.TYPE)
+					continue;
+				if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0)
+					return true;
+				if (hasTypeChanges(child))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static TypeNameIndex fgInstance;
+
+	private final IElementChangedListener fDeltaListener;
+	private final Job fUpdateJob;
+
+	/**
+	 * The current state, or <code>null</code> while the table has to be built.
+	 */
+	private volatile State fState;
+
+	/**
+	 * The compilation units to index again.
+	 */
+	private final Set<ICompilationUnit> fChangedUnits= new HashSet<>();
+
+	/**
+	 * Incremented whenever the table has to be rebuilt, so that a table built concurrently is
+	 * not used.
+	 */
+	private int fGeneration;
+
+	/**
+	 * Tells whether the Open Type dialog uses the type name table.
+	 *
+	 * @return <code>true</code> if enabled by {@link #PREF_USE_TYPE_NAME_INDEX}
+	 */
+	public static boolean isEnabled() {
+		return JavaPlugin.getDefault().getPreferenceStore().getBoolean(PREF_USE_TYPE_NAME_INDEX);
+	}
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.fUpdateJob.cancel();
+		fgInstance.fState= null;
+		fgInstance= null;
+	}
+
+	private TypeNameIndex() {
+		fUpdateJob= new Job(JavaUIMessages.TypeNameIndex_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					update(monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					JavaPlugin.log(e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fUpdateJob.setSystem(true);
+		fUpdateJob.setPriority(Job.DECORATE);
+		fDeltaListener= new TypeDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		fUpdateJob.schedule();
+	}
+
+	/**
+	 * Reports the types that match the filter's name pattern, package, element kind and scope,
+	 * like {@link SearchEngine#searchAllTypeNames(char[], int, char[], int, int, org.eclipse.jdt.core.search.IJavaSearchScope, TypeNameMatchRequestor, int, IProgressMonitor)}
+	 * with primary working copies.
+	 *
+	 * @param filter the filter
+	 * @param requestor the requestor to report the matching types to
+	 * @param monitor the progress monitor
+	 * @return <code>false</code> if the table is not available yet and nothing has been reported
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public boolean search(TypeInfoFilter filter, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		State state= fState;
+		if (state == null)
+			return false;
+		Table table= state.fTable;
+		NameMatcher nameMatcher= new NameMatcher(filter);
+		boolean hasPackagePattern= filter.getPackagePattern() != null;
+		// whether the packages match the package pattern: 0 unknown, 1 matches, 2 does not match
+		byte[] packageMatches= new byte[table.fPackages.length];
+		char[] chars= table.fChars;
+		for (int i= 0; i < table.fSize; i++) {
+			if ((i & 0xFFF) == 0 && monitor != null && monitor.isCanceled())
+				throw new OperationCanceledException();
+			if (!nameMatcher.matches(chars, table.fSimpleStart[i], table.fEnd[i]))
+				continue;
+			int unit= table.fUnit[i];
+			if (unit != -1 && state.fReplacedUnits[unit])
+				continue;
+			if (!filter.matchesModifiers(table.fModifiers[i]))
+				continue;
+			if (hasPackagePattern) {
+				if (table.fStart[i] != table.fSimpleStart[i]) {
+					if (!filter.matchesTypeContainerName(table.getContainerName(i)))
+						continue;
+				} else {
+					int packageIndex= table.fPackage[i];
+					if (packageMatches[packageIndex] == 0)
+						packageMatches[packageIndex]= filter.matchesTypeContainerName(table.fPackages[packageIndex]) ? (byte) 1 : (byte) 2;
+					if (packageMatches[packageIndex] == 2)
+						continue;
+				}
+			}
+			TypeNameMatch match= table.createMatch(i);
+			if (filter.matchesScope(match))
+				requestor.acceptTypeNameMatch(match);
+		}
+		for (TypeNameMatch[] matches : state.fChangedUnits.values()) {
+			for (TypeNameMatch match : matches) {
+				char[] name= match.getSimpleTypeName().toCharArray();
+				if (nameMatcher.matches(name, 0, name.length)
+						&& filter.matchesModifiers(match.getModifiers())
+						&& filter.matchesTypeContainerName(match.getTypeContainerName())
+						&& filter.matchesScope(match))
+					requestor.acceptTypeNameMatch(match);
+			}
+		}
+		return true;
+	}
+
+	private synchronized void invalidate() {
+		fGeneration++;
+		fState= null;
+		fChangedUnits.clear();
+		fUpdateJob.schedule();
+	}
+
+	private synchronized void addChangedUnits(Set<ICompilationUnit> changedUnits) {
+		fChangedUnits.addAll(changedUnits);
+		fUpdateJob.schedule();
+	}
+
+	private void update(IProgressMonitor monitor) throws CoreException {
+		int generation;
+		boolean build;
+		synchronized (this) {
+			generation= fGeneration;
+			build= fState == null;
+			if (build) {
+				// the new table contains the current types of all compilation units
+				fChangedUnits.clear();
+			}
+		}
+		if (build) {
+			Table table= buildTable(monitor);
+			synchronized (this) {
+				if (generation != fGeneration)
+					return; // rescheduled by the invalidation
+				fState= new State(table, new boolean[table.fUnits.length], new HashMap<>());
+			}
+		}
+
+		Set<ICompilationUnit> changedUnits;
+		synchronized (this) {
+			changedUnits= new HashSet<>(fChangedUnits);
+			fChangedUnits.clear();
+		}
+		if (changedUnits.isEmpty())
+			return;
+		Map<ICompilationUnit, TypeNameMatch[]> matches= new HashMap<>();
+		for (ICompilationUnit unit : changedUnits) {
+			matches.put(unit, getTypes(unit));
+		}
+		synchronized (this) {
+			State state= fState;
+			if (generation != fGeneration || state == null)
+				return;
+			if (state.fChangedUnits.size() + matches.size() > MAX_CHANGED_UNITS) {
+				invalidate();
+			} else {
+				fState= state.withChangedUnits(matches);
+			}
+		}
+	}
+
+	private static Table buildTable(IProgressMonitor monitor) throws JavaModelException {
+		TableBuilder builder= new TableBuilder();
+		new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(
+				null,
+				SearchPattern.R_EXACT_MATCH,
+				null,
+				SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.TYPE,
+				SearchEngine.createWorkspaceScope(),
+				new TypeNameMatchRequestor() {
+					@Override
+					public void acceptTypeNameMatch(TypeNameMatch match) {
+						builder.add(match.getType(), match.getModifiers());
+					}
+				},
+				IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+				monitor);
+		return new Table(builder);
+	}
+
+	private static TypeNameMatch[] getTypes(ICompilationUnit unit) {
+		List<TypeNameMatch> matches= new ArrayList<>();
+		try {
+			if (unit.exists()) {
+				for (IType type : unit.getAllTypes()) {
+					matches.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+				}
+			}
+		} catch (JavaModelException e) {
+			// removed in the meantime
+		}
+		return matches.toArray(new TypeNameMatch[matches.size()]);
+	}
+}
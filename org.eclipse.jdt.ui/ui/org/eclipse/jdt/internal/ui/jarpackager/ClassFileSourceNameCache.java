@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The source file names of class files, as read from their <code>SourceFile</code> attribute,
+ * remembered across JAR exports.
+ * <p>
+ * To export the class files of a Java file, the JAR exporter reads every class file of the output
+ * folder to find the ones compiled from it. When the same JAR is exported again, most class files
+ * are unchanged. Their source file names are therefore kept together with the modification stamp
+ * they were read at, and only class files whose stamp changed are read again. Entries of class
+ * files that are changed, replaced or removed, and of projects that are closed or removed, are
+ * discarded when the workspace reports the change.
+ * </p>
+ *
+ * @since 3.34
+ */
+public final class ClassFileSourceNameCache {
+
+	private static final int MAX_SIZE= 100000;
+
+	private static final class Entry {
+		final long fModificationStamp;
+		final String fSourceFileName;
+
+		Entry(long modificationStamp, String sourceFileName) {
+			fModificationStamp= modificationStamp;
+			fSourceFileName= sourceFileName;
+		}
+	}
+
+	private class ClassFileDeltaListener implements IResourceChangeListener, IResourceDeltaVisitor {
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			synchronized (ClassFileSourceNameCache.this) {
+				if (fEntries.isEmpty())
+					return;
+			}
+			IResourceDelta delta= event.getDelta();
+			if (delta == null)
+				return;
+			try {
+				delta.accept(this);
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			}
+		}
+
+		@Override
+		public boolean visit(IResourceDelta delta) {
+			IResource resource= delta.getResource();
+			int kind= delta.getKind();
+			switch (resource.getType()) {
+				case IResource.PROJECT:
+					if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+						removeAll(resource.getFullPath());
+						return false;
+					}
+					return kind == IResourceDelta.CHANGED;
+				case IResource.FILE:
+					if (kind == IResourceDelta.REMOVED
+							|| kind == IResourceDelta.CHANGED && (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+						remove((IFile) resource);
+					}
+					return false;
+				default:
+					return kind != IResourceDelta.ADDED;
+			}
+		}
+	}
+
+	private static ClassFileSourceNameCache fgInstance;
+
+	private final Map<IFile, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IFile, Entry> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private final ClassFileDeltaListener fDeltaListener;
+
+	static synchronized ClassFileSourceNameCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new ClassFileSourceNameCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgInstance.fDeltaListener);
+		fgInstance= null;
+	}
+
+	private ClassFileSourceNameCache() {
+		fDeltaListener= new ClassFileDeltaListener();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fDeltaListener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Returns the source file name of a class file, if it was read at the given modification stamp.
+	 *
+	 * @param classFile the class file
+	 * @param modificationStamp the current modification stamp of the class file
+	 * @return the source file name, or <code>null</code> if the class file has to be read
+	 */
+	synchronized String get(IFile classFile, long modificationStamp) {
+		if (modificationStamp == IResource.NULL_STAMP)
+			return null;
+		Entry entry= fEntries.get(classFile);
+		if (entry == null || entry.fModificationStamp != modificationStamp)
+			return null;
+		return entry.fSourceFileName;
+	}
+
+	/**
+	 * Remembers the source file name of a class file.
+	 *
+	 * @param classFile the class file
+	 * @param modificationStamp the modification stamp of the class file when it was read
+	 * @param sourceFileName the source file name read from the class file
+	 */
+	synchronized void put(IFile classFile, long modificationStamp, String sourceFileName) {
+		if (modificationStamp != IResource.NULL_STAMP)
+			fEntries.put(classFile, new Entry(modificationStamp, sourceFileName));
+	}
+
+	private synchronized void remove(IFile classFile) {
+		fEntries.remove(classFile);
+	}
+
+	private synchronized void removeAll(IPath projectPath) {
+		for (Iterator<IFile> iterator= fEntries.keySet().iterator(); iterator.hasNext();) {
+			if (projectPath.isPrefixOf(iterator.next().getFullPath()))
+				iterator.remove();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -833,44 +833,51 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		/*
 		 * XXX: Bug 6584: Need a way to get class files for a java file (or CU)
 		 */
-		IClassFileReader cfReader= null;
+		ClassFileSourceNameCache cache= ClassFileSourceNameCache.getInstance();
 		IResource[] members= container.members();
 		Map<String, ArrayList<IResource>> map= new HashMap<>(members.length);
 		for (IResource member : members) {
-			if (isClassFile(member)) {
-				IFile classFile = (IFile) member;
+			if (!isClassFile(member))
+				continue;
+			IFile classFile = (IFile) member;
+			// only read the class files that changed since the last export
+			long modificationStamp= classFile.getModificationStamp();
+			String javaName= cache.get(classFile, modificationStamp);
+			if (javaName == null) {
 				URI location= classFile.getLocationURI();
-				if (location != null) {
-					try (InputStream contents= EFS.getStore(location).openInputStream(EFS.NONE, monitor)) {
-						cfReader= ToolFactory.createDefaultClassFileReader(contents, IClassFileReader.CLASSFILE_ATTRIBUTES);
-					} catch (IOException e) {
-						throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR,
-							Messages.format(JarPackagerMessages.JarFileExportOperation_errorCannotCloseConnection, BasicElementLabels.getURLPart(Resources.getLocationString(classFile))),
-							e));
-					}
-					if (cfReader != null) {
-						ISourceAttribute sourceAttribute= cfReader.getSourceFileAttribute();
-						if (sourceAttribute == null) {
-							/*
-							* Can't fully build the map because one or more
-							* class file does not contain the name of its
-							* source file.
-							*/
-							addWarning(Messages.format(
-								JarPackagerMessages.JarFileExportOperation_classFileWithoutSourceFileAttribute,
-								BasicElementLabels.getURLPart(Resources.getLocationString(classFile))), null);
-							return null;
-						}
-						String javaName= new String(sourceAttribute.getSourceFileName());
-						ArrayList<IResource> classFiles= map.get(javaName);
-						if (classFiles == null) {
-							classFiles= new ArrayList<>(3);
-							map.put(javaName, classFiles);
-						}
-						classFiles.add(classFile);
-					}
+				if (location == null)
+					continue;
+				IClassFileReader cfReader;
+				try (InputStream contents= EFS.getStore(location).openInputStream(EFS.NONE, monitor)) {
+					cfReader= ToolFactory.createDefaultClassFileReader(contents, IClassFileReader.CLASSFILE_ATTRIBUTES);
+				} catch (IOException e) {
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR,
+						Messages.format(JarPackagerMessages.JarFileExportOperation_errorCannotCloseConnection, BasicElementLabels.getURLPart(Resources.getLocationString(classFile))),
+						e));
+				}
+				if (cfReader == null)
+					continue;
+				ISourceAttribute sourceAttribute= cfReader.getSourceFileAttribute();
+				if (sourceAttribute == null) {
+					/*
+					* Can't fully build the map because one or more
+					* class file does not contain the name of its
+					* source file.
+					*/
+					addWarning(Messages.format(
+						JarPackagerMessages.JarFileExportOperation_classFileWithoutSourceFileAttribute,
+						BasicElementLabels.getURLPart(Resources.getLocationString(classFile))), null);
+					return null;
 				}
+				javaName= new String(sourceAttribute.getSourceFileName());
+				cache.put(classFile, modificationStamp, javaName);
+			}
+			ArrayList<IResource> classFiles= map.get(javaName);
+			if (classFiles == null) {
+				classFiles= new ArrayList<>(3);
+				map.put(javaName, classFiles);
 			}
+			classFiles.add(classFile);
 		}
 		return map;
 	}
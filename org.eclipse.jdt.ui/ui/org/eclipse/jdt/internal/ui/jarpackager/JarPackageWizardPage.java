@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 	private Button		fCompressCheckbox;
 	private Button		fOverwriteCheckbox;
 	private Button		fIncludeDirectoryEntriesCheckbox;
+	private Button		fReproducibleCheckbox;
 	private boolean	fInitiallySelecting= true;
 
 	// dialog store id constants
@@ -120,6 +121,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 	private static final String STORE_COMPRESS= PAGE_NAME + ".COMPRESS"; //$NON-NLS-1$
 	private final static String STORE_OVERWRITE= PAGE_NAME + ".OVERWRITE"; //$NON-NLS-1$
 	private final static String STORE_INCLUDE_DIRECTORY_ENTRIES= PAGE_NAME + ".INCLUDE_DIRECTORY_ENTRIES"; //$NON-NLS-1$
+	private final static String STORE_REPRODUCIBLE= PAGE_NAME + ".REPRODUCIBLE"; //$NON-NLS-1$
 
 	// other constants
 	private static final int SIZING_SELECTION_WIDGET_WIDTH= 480;
@@ -200,6 +202,10 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 		fIncludeDirectoryEntriesCheckbox.setText(JarPackagerMessages.JarPackageWizardPage_includeDirectoryEntries_text);
 		fIncludeDirectoryEntriesCheckbox.addListener(SWT.Selection, this);
 
+		fReproducibleCheckbox= new Button(optionsGroup, SWT.CHECK | SWT.LEFT);
+		fReproducibleCheckbox.setText(JarPackagerMessages.JarPackageWizardPage_reproducible_text);
+		fReproducibleCheckbox.addListener(SWT.Selection, this);
+
 		fOverwriteCheckbox= new Button(optionsGroup, SWT.CHECK | SWT.LEFT);
 		fOverwriteCheckbox.setText(JarPackagerMessages.JarPackageWizardPage_overwrite_text);
 		fOverwriteCheckbox.addListener(SWT.Selection, this);
@@ -237,6 +243,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 			settings.put(STORE_REFACTORINGS, fJarPackage.isRefactoringAware());
 			settings.put(STORE_COMPRESS, fJarPackage.isCompressed());
 			settings.put(STORE_INCLUDE_DIRECTORY_ENTRIES, fJarPackage.areDirectoryEntriesIncluded());
+			settings.put(STORE_REPRODUCIBLE, fJarPackage.isReproducible());
 			settings.put(STORE_OVERWRITE, fJarPackage.allowOverwrite());
 		}
 		// Allow subclasses to save values
@@ -270,6 +277,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 			fExportRefactoringsCheckbox.setSelection(fJarPackage.isRefactoringAware());
 		fCompressCheckbox.setSelection(fJarPackage.isCompressed());
 		fIncludeDirectoryEntriesCheckbox.setSelection(fJarPackage.areDirectoryEntriesIncluded());
+		fReproducibleCheckbox.setSelection(fJarPackage.isReproducible());
 		fOverwriteCheckbox.setSelection(fJarPackage.allowOverwrite());
 	}
 
@@ -292,6 +300,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 			fJarPackage.setRefactoringAware(settings.getBoolean(STORE_REFACTORINGS));
 			fJarPackage.setCompress(settings.getBoolean(STORE_COMPRESS));
 			fJarPackage.setIncludeDirectoryEntries(settings.getBoolean(STORE_INCLUDE_DIRECTORY_ENTRIES));
+			fJarPackage.setReproducible(settings.getBoolean(STORE_REPRODUCIBLE));
 			fJarPackage.setOverwrite(settings.getBoolean(STORE_OVERWRITE));
 		}
 	}
@@ -322,6 +331,7 @@ class JarPackageWizardPage extends AbstractJarDestinationWizardPage {
 			fJarPackage.setRefactoringAware(false);
 		fJarPackage.setCompress(fCompressCheckbox.getSelection());
 		fJarPackage.setIncludeDirectoryEntries(fIncludeDirectoryEntriesCheckbox.getSelection());
+		fJarPackage.setReproducible(fReproducibleCheckbox.getSelection());
 		fJarPackage.setOverwrite(fOverwriteCheckbox.getSelection());
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,12 +18,17 @@ package org.eclipse.jdt.internal.ui.jarpackager;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -71,6 +76,24 @@ public final class JarPackagerUtil {
 	private static final String META_INF_ENTRY= "META-INF"; //$NON-NLS-1$
 	private static final String REFACTORINGS_ENTRY= META_INF_ENTRY + "/REFACTORINGS.XML"; //$NON-NLS-1$
 
+	/**
+	 * The size in bytes above which a file stored without compression is read twice, once for its
+	 * CRC and size and once for its content, instead of being held in memory. Compressed files are
+	 * always streamed, as their entries need no CRC and size up front.
+	 *
+	 * @since 3.34
+	 */
+	public static final long STREAMING_THRESHOLD= 1024 * 1024;
+
+	/**
+	 * The modification time of all entries of a reproducible JAR. The time is stored in local
+	 * time in the archive, and the earliest time a ZIP entry can have is used.
+	 *
+	 * @see JarPackageData#isReproducible()
+	 * @since 3.34
+	 */
+	public static final long REPRODUCIBLE_ENTRY_TIME= LocalDateTime.of(1980, 2, 1, 0, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
 	private JarPackagerUtil() {
 		// Do nothing
 	}
@@ -81,6 +104,20 @@ public final class JarPackagerUtil {
 		return queryDialog(parent, JarPackagerMessages.JarPackage_confirmCreate_title, Messages.format(JarPackagerMessages.JarPackage_confirmCreate_message, BasicElementLabels.getPathLabel(directory)));
 	}
 
+	/**
+	 * Returns the modification time to write on an entry of a JAR.
+	 *
+	 * @param jarPackage the JAR specification
+	 * @param time the modification time of the exported file
+	 * @return {@link #REPRODUCIBLE_ENTRY_TIME} if the JAR is reproducible, <code>time</code>
+	 *         otherwise
+	 *
+	 * @since 3.34
+	 */
+	public static long getEntryTime(JarPackageData jarPackage, long time) {
+		return jarPackage.isReproducible() ? REPRODUCIBLE_ENTRY_TIME : time;
+	}
+
 	/**
 	 * Returns the name of the refactorings zip entry.
 	 *
@@ -249,6 +286,22 @@ public final class JarPackagerUtil {
 		entry.setCrc(crc.getValue());
 	}
 
+	/**
+	 * Sets the CRC and the size of a stored entry by reading its content once, without holding it
+	 * in memory.
+	 *
+	 * @param entry the entry
+	 * @param content the content of the entry, closed by this method
+	 * @throws IOException if the content cannot be read
+	 * @since 3.34
+	 */
+	public static void setCrcAndSize(final ZipEntry entry, final InputStream content) throws IOException {
+		try (CheckedInputStream in= new CheckedInputStream(content, new CRC32())) {
+			entry.setSize(in.transferTo(OutputStream.nullOutputStream()));
+			entry.setCrc(in.getChecksum().getValue());
+		}
+	}
+
 	/**
 	 * Opens the archive file at the given location.<br>
 	 * <em>Note: It is the caller's responsibility to close the returned
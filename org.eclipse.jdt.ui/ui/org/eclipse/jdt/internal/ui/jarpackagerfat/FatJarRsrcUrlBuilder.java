@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,8 @@ package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.jar.JarEntry;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -39,7 +37,6 @@ import org.eclipse.jdt.ui.jarpackager.IManifestProvider;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
-import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
 /**
  * A jar builder which copies the referenced libraries into the generated jar and adds a special
@@ -53,7 +50,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	public static final String JAR_RSRC_LOADER_ZIP= "jar-in-jar-loader.zip"; //$NON-NLS-1$
 
 	private Set<String> jarNames;
-	private JarPackageData fJarPackage;
 
 	@Override
 	public String getId() {
@@ -91,7 +87,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	@Override
 	public void open(JarPackageData jarPackage, Shell displayShell, MultiStatus status) throws CoreException {
 		super.open(jarPackage, displayShell, status);
-		fJarPackage= jarPackage;
 		jarNames= new HashSet<>();
 		try {
 			writeRsrcUrlClasses();
@@ -108,14 +103,9 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 			jarName= FatJarPackagerUtil.nextNumberedFileName(jarName);
 		}
 		jarNames.add(jarName);
-		JarEntry newEntry = new JarEntry(jarName);
-		newEntry.setMethod(ZipEntry.STORED);
 		try {
-			byte[] allBytes= Files.readAllBytes(jarPathFile.toPath());
-			if (!fJarPackage.isCompressed()) {
-				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-			}
-			getJarWriter().addZipEntryStream(newEntry, allBytes, jarName);
+			// the library is compressed already, copy it as it is instead of deflating it again
+			getJarWriter().addStoredFile(jarPathFile, jarName);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,7 +70,7 @@ public class JarWriter4 extends JarWriter3 {
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= this.getJarOutputStream();
 		JarPackagerUtilCore.addZipEntry(zipEntry, zipFile, path, fJarPackage.areDirectoryEntriesIncluded(),
-				fJarPackage.isCompressed(), jarOutputStream, this.getDirectories());
+				fJarPackage.isCompressed(), JarPackagerUtil.getEntryTime(fJarPackage, System.currentTimeMillis()), jarOutputStream, this.getDirectories());
 	}
 
 	public void addZipEntryStream(ZipEntry zipEntry, byte[] content, String path) throws IOException {
@@ -85,7 +85,7 @@ public class JarWriter4 extends JarWriter3 {
 			newEntry.setSize(zipEntry.getSize());
 			newEntry.setCrc(zipEntry.getCrc());
 		}
-		long lastModified= System.currentTimeMillis();
+		long lastModified= JarPackagerUtil.getEntryTime(fJarPackage, System.currentTimeMillis());
 		// Set modification time
 		newEntry.setTime(lastModified);
 		@SuppressWarnings("resource")
@@ -94,6 +94,27 @@ public class JarWriter4 extends JarWriter3 {
 		jarOutputStream.write(content);
 	}
 
+	/**
+	 * Writes the given file without compressing it, for content that is compressed already, like a
+	 * library. This avoids deflating the content again.
+	 *
+	 * @param file the file to write
+	 * @param path the path of the entry
+	 * @throws IOException if an I/O error occurred
+	 * @since 3.34
+	 */
+	public void addStoredFile(File file, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		newEntry.setMethod(ZipEntry.STORED);
+		JarPackagerUtil.setCrcAndSize(newEntry, Files.newInputStream(file.toPath()));
+		newEntry.setTime(JarPackagerUtil.getEntryTime(fJarPackage, file.lastModified()));
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		JarPackagerUtilCore.addEntry(newEntry, Files.newInputStream(file.toPath()), jarOutputStream);
+	}
+
 	public void write(File file, IPath destinationPath) throws CoreException {
 		try {
 			addFile(file, destinationPath);
@@ -115,20 +136,28 @@ public class JarWriter4 extends JarWriter3 {
 			addDirectories(path);
 
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
+		newEntry.setTime(JarPackagerUtil.getEntryTime(fJarPackage, file.lastModified()));
 
-		byte[] allBytes= Files.readAllBytes(file.toPath());
-		if (fJarPackage.isCompressed())
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		if (fJarPackage.isCompressed()) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+			JarPackagerUtilCore.addEntry(newEntry, Files.newInputStream(file.toPath()), jarOutputStream);
+			return;
 		}
 
-		newEntry.setTime(file.lastModified());
+		newEntry.setMethod(ZipEntry.STORED);
+		if (file.length() > JarPackagerUtil.STREAMING_THRESHOLD) {
+			// don't hold large files in memory, read them once for the CRC and once for the content
+			JarPackagerUtil.setCrcAndSize(newEntry, Files.newInputStream(file.toPath()));
+			JarPackagerUtilCore.addEntry(newEntry, Files.newInputStream(file.toPath()), jarOutputStream);
+			return;
+		}
+
+		byte[] allBytes= Files.readAllBytes(file.toPath());
+		JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
 
-		@SuppressWarnings("resource")
-		JarOutputStream jarOutputStream= getJarOutputStream();
 		jarOutputStream.putNextEntry(newEntry);
 		jarOutputStream.write(allBytes);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,8 @@ import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 import org.eclipse.jdt.ui.jarpackager.IManifestProvider;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 
+import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
+
 /**
  * A jar builder wich unpacks all referenced libraries into the generated jar.
  *
@@ -67,7 +69,7 @@ public class UnpackFatJarBuilder extends FatJarBuilder {
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= JarWriter.getJarOutputStream();
 		JarPackagerUtilCore.writeArchive(zipFile, JarPackage.areDirectoryEntriesIncluded(),
-				JarPackage.isCompressed(), jarOutputStream, JarWriter.getDirectories(), getStatus(), progressMonitor);
+				JarPackage.isCompressed(), JarPackagerUtil.getEntryTime(JarPackage, System.currentTimeMillis()), jarOutputStream, JarWriter.getDirectories(), getStatus(), progressMonitor);
 	}
 
 }
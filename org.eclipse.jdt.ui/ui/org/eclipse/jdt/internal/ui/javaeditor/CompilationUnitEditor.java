@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,7 @@ import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
 import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
 import org.eclipse.jdt.internal.ui.text.java.JavaFormattingContext;
 import org.eclipse.jdt.internal.ui.text.java.OverrideCompletionProposal;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocHtmlCache;
 
 
 /**
@@ -1019,6 +1020,12 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 
 	private CorrectionCommandInstaller fCorrectionCommands;
 
+	/**
+	 * Renders the Javadoc of the visible members for the hover in the background.
+	 * @since 3.34
+	 */
+	private JavadocWarmer fJavadocWarmer;
+
 	/**
 	 * Reconciling listeners.
 	 * @since 3.0
@@ -1509,6 +1516,8 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 			fCorrectionCommands= null;
 		}
 
+		uninstallJavadocWarmer();
+
 		super.dispose();
 	}
 
@@ -1531,10 +1540,27 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 		if (sourceViewer instanceof ITextViewerExtension)
 			((ITextViewerExtension) sourceViewer).prependVerifyKeyListener(fBracketInserter);
 
+		if (preferenceStore.getBoolean(JavadocHtmlCache.PREF_PREFETCH))
+			installJavadocWarmer();
+
 		if (isMarkingOccurrences())
 			installOccurrencesFinder(false);
 	}
 
+	private void installJavadocWarmer() {
+		if (fJavadocWarmer != null)
+			return;
+		fJavadocWarmer= new JavadocWarmer(this);
+		fJavadocWarmer.install(getSourceViewer());
+	}
+
+	private void uninstallJavadocWarmer() {
+		if (fJavadocWarmer != null) {
+			fJavadocWarmer.uninstall();
+			fJavadocWarmer= null;
+		}
+	}
+
 	private static char getEscapeCharacter(char character) {
 		switch (character) {
 			case '"':
@@ -1601,6 +1627,12 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 							else
 								uninstallTabsToSpacesConverter();
 							return;
+						case JavadocHtmlCache.PREF_PREFETCH:
+							if (getPreferenceStore().getBoolean(p))
+								installJavadocWarmer();
+							else
+								uninstallJavadocWarmer();
+							return;
 						case PreferenceConstants.EDITOR_SMART_TAB:
 							if (getPreferenceStore().getBoolean(PreferenceConstants.EDITOR_SMART_TAB)) {
 								setActionActivationCode("IndentOnTab", '\t', -1, SWT.NONE); //$NON-NLS-1$
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocHtmlCache;
+
+/**
+ * Renders the Javadoc of the members referenced in the visible part of a Java editor into the
+ * {@link JavadocHtmlCache} in the background, so that the first hover over one of them does not
+ * have to wait for it.
+ * <p>
+ * Only members from source and from libraries with a source attachment are warmed, and attached
+ * Javadoc is never read, since it may have to be fetched from a remote location. Such Javadoc is
+ * left to the hover. The warmer is only installed if {@link JavadocHtmlCache#PREF_PREFETCH} is
+ * enabled.
+ * </p>
+ *
+ * @since 3.34
+ */
+final class JavadocWarmer implements IJavaReconcilingListener, IViewportListener {
+
+	/**
+	 * The maximal number of members warmed for one visible range.
+	 */
+	private static final int MAX_MEMBERS= 50;
+
+	/**
+	 * Delay before warming, so that scrolling and typing do not start a job for every step.
+	 */
+	private static final long DELAY= 500;
+
+	private final CompilationUnitEditor fEditor;
+	private ISourceViewer fViewer;
+	private final Job fJob;
+
+	private volatile int fVisibleStart;
+	private volatile int fVisibleEnd;
+
+	JavadocWarmer(CompilationUnitEditor editor) {
+		fEditor= editor;
+		fJob= new Job(JavaEditorMessages.JavadocWarmer_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				warm(monitor);
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+		};
+		fJob.setSystem(true);
+		fJob.setPriority(Job.DECORATE);
+	}
+
+	void install(ISourceViewer viewer) {
+		fViewer= viewer;
+		fViewer.addViewportListener(this);
+		fEditor.addReconcileListener(this);
+		updateVisibleRange();
+	}
+
+	void uninstall() {
+		fEditor.removeReconcileListener(this);
+		if (fViewer != null) {
+			fViewer.removeViewportListener(this);
+			fViewer= null;
+		}
+		fJob.cancel();
+	}
+
+	@Override
+	public void viewportChanged(int verticalOffset) {
+		updateVisibleRange();
+	}
+
+	@Override
+	public void aboutToBeReconciled() {
+		fJob.cancel();
+	}
+
+	@Override
+	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+		fJob.schedule(DELAY);
+	}
+
+	private void updateVisibleRange() {
+		ISourceViewer viewer= fViewer;
+		if (viewer == null || viewer.getTextWidget() == null)
+			return;
+		fVisibleStart= viewer.getTopIndexStartOffset();
+		fVisibleEnd= viewer.getBottomIndexEndOffset();
+		fJob.schedule(DELAY);
+	}
+
+	private void warm(IProgressMonitor monitor) {
+		ITypeRoot typeRoot= EditorUtility.getEditorInputJavaElement(fEditor, false);
+		if (typeRoot == null)
+			return;
+		CompilationUnit ast= SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_NO, monitor);
+		if (ast == null)
+			return;
+
+		int start= fVisibleStart;
+		int end= fVisibleEnd;
+		Set<IJavaElement> members= new LinkedHashSet<>();
+		ast.accept(new ASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				return members.size() < MAX_MEMBERS && node.getStartPosition() < end && node.getStartPosition() + node.getLength() > start;
+			}
+
+			@Override
+			public boolean visit(SimpleName node) {
+				IBinding binding= node.resolveBinding();
+				if (binding != null) {
+					IJavaElement element= binding.getJavaElement();
+					if (element instanceof IMember && isLocal(element))
+						members.add(element);
+				}
+				return false;
+			}
+		});
+
+		JavadocHtmlCache cache= JavadocHtmlCache.getInstance();
+		for (IJavaElement member : members) {
+			if (monitor.isCanceled())
+				return;
+			try {
+				cache.prefetch(member);
+			} catch (CoreException e) {
+				// the hover reports it
+			}
+		}
+	}
+
+	private static boolean isLocal(IJavaElement element) {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null)
+			return false;
+		try {
+			return root.getKind() == IPackageFragmentRoot.K_SOURCE || root.getSourceAttachmentPath() != null;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+}
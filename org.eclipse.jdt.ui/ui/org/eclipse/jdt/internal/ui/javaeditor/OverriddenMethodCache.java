@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+
+/**
+ * Remembers which method a method declaration overrides or implements, for the override
+ * indicators of all editors.
+ * <p>
+ * The overridden method only depends on the method's signature and modifiers and on the type
+ * hierarchy above it. Results are therefore kept per project and method binding key, and remain
+ * valid until a Java element delta reports a change that may affect a type hierarchy or a method
+ * signature anywhere: anything beyond changed method, field, or initializer bodies. Typing inside
+ * a method body thus only costs a lookup for every method declaration of the editor.
+ * </p>
+ *
+ * @since 3.34
+ */
+public final class OverriddenMethodCache {
+
+	/**
+	 * The overridden method of a method declaration.
+	 */
+	static final class OverriddenMethod {
+		final String fQualifiedMethodName;
+		final boolean fIsImplements;
+
+		OverriddenMethod(String qualifiedMethodName, boolean isImplements) {
+			fQualifiedMethodName= qualifiedMethodName;
+			fIsImplements= isImplements;
+		}
+	}
+
+	/**
+	 * Marks methods that do not override anything.
+	 */
+	static final OverriddenMethod NONE= new OverriddenMethod(null, false);
+
+	private class HierarchyDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (isHierarchyChange(event.getDelta())) {
+				synchronized (OverriddenMethodCache.this) {
+					fResults.clear();
+					fGeneration++;
+				}
+			}
+		}
+
+		private boolean isHierarchyChange(IJavaElementDelta delta) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED)
+				return true;
+			int flags= delta.getFlags();
+			int allowed= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_AST_AFFECTED
+					| IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE;
+			switch (delta.getElement().getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+				case IJavaElement.JAVA_PROJECT:
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				case IJavaElement.PACKAGE_FRAGMENT:
+					// F_CONTENT on containers reports changed non-Java resources
+					allowed|= IJavaElementDelta.F_CONTENT;
+					break;
+				case IJavaElement.COMPILATION_UNIT:
+					if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+						return true; // unknown structural change
+					allowed|= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED;
+					break;
+				case IJavaElement.TYPE:
+				case IJavaElement.METHOD:
+				case IJavaElement.FIELD:
+				case IJavaElement.INITIALIZER:
+					allowed|= IJavaElementDelta.F_CONTENT;
+					break;
+				default:
+					// imports, class files, etc.
+					return true;
+			}
+			if ((flags & ~allowed) != 0)
+				return true;
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (isHierarchyChange(child))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static OverriddenMethodCache fgInstance;
+
+	private final Map<String, OverriddenMethod> fResults= new ConcurrentHashMap<>();
+	private final IElementChangedListener fDeltaListener;
+
+	/**
+	 * Incremented whenever the results are discarded, so that results computed from an AST
+	 * that was created before are not stored.
+	 */
+	private volatile int fGeneration;
+
+	public static synchronized OverriddenMethodCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new OverriddenMethodCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.fResults.clear();
+		fgInstance= null;
+	}
+
+	private OverriddenMethodCache() {
+		fDeltaListener= new HierarchyDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the remembered overridden method.
+	 *
+	 * @param project the project that resolved the binding
+	 * @param binding the method binding
+	 * @return the overridden method, {@link #NONE}, or <code>null</code> if not known
+	 */
+	OverriddenMethod get(IJavaProject project, IMethodBinding binding) {
+		return fResults.get(getKey(project, binding));
+	}
+
+	/**
+	 * Returns the current generation, to be passed to
+	 * {@link #put(IJavaProject, IMethodBinding, OverriddenMethod, int)}.
+	 *
+	 * @return the generation
+	 */
+	int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Remembers an overridden method unless the results have been discarded in the meantime.
+	 *
+	 * @param project the project that resolved the binding
+	 * @param binding the method binding
+	 * @param overridden the overridden method or {@link #NONE}
+	 * @param generation the generation when the update started
+	 */
+	synchronized void put(IJavaProject project, IMethodBinding binding, OverriddenMethod overridden, int generation) {
+		if (generation == fGeneration)
+			fResults.put(getKey(project, binding), overridden);
+	}
+
+	private static String getKey(IJavaProject project, IMethodBinding binding) {
+		// the same binding key can resolve differently on another class path
+		return project.getElementName() + '/' + binding.getKey();
+	}
+}
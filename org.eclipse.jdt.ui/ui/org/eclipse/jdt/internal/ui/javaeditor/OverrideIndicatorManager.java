@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -33,6 +35,7 @@ import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.IAnnotationModelExtension;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -164,6 +167,10 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 	/**
 	 * Updates the override and implements annotations based
 	 * on the given AST.
+	 * <p>
+	 * The overridden methods are looked up in the {@link OverriddenMethodCache} first, and only
+	 * annotations that changed are replaced in the annotation model.
+	 * </p>
 	 *
 	 * @param ast the compilation unit AST
 	 * @param progressMonitor the progress monitor
@@ -174,6 +181,9 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		if (ast == null || progressMonitor.isCanceled())
 			return;
 
+		final OverriddenMethodCache cache= OverriddenMethodCache.getInstance();
+		final int generation= cache.getGeneration();
+		final IJavaProject project= fJavaElement.getJavaProject();
 		final Map<Annotation, Position> annotationMap= new HashMap<>(50);
 
 		ast.accept(new ASTVisitor(false) {
@@ -184,13 +194,17 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			public boolean visit(MethodDeclaration node) {
 				IMethodBinding binding= node.resolveBinding();
 				if (binding != null) {
-					IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
-					if (definingMethod != null) {
+					OverriddenMethodCache.OverriddenMethod overridden= cache.get(project, binding);
+					if (overridden == null) {
+						overridden= findOverriddenMethod(binding);
+						if (!binding.isRecovered())
+							cache.put(project, binding, overridden, generation);
+					}
+					if (overridden != OverriddenMethodCache.NONE) {
 
-						ITypeBinding definingType= definingMethod.getDeclaringClass();
-						String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
+						String qualifiedMethodName= overridden.fQualifiedMethodName;
 
-						boolean isImplements= JdtFlags.isAbstract(definingMethod);
+						boolean isImplements= overridden.fIsImplements;
 						String text;
 						if (isImplements)
 							text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_implements, BasicElementLabels.getJavaElementName(qualifiedMethodName));
@@ -214,20 +228,59 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			return;
 
 		synchronized (fAnnotationModelLockObject) {
+			List<Annotation> toRemove= new ArrayList<>();
+			Map<String, OverrideIndicator> existingIndicators= new HashMap<>();
+			if (fOverrideAnnotations != null) {
+				for (Annotation annotation : fOverrideAnnotations) {
+					OverrideIndicator indicator= (OverrideIndicator) annotation;
+					if (existingIndicators.put(indicator.fAstNodeKey, indicator) != null)
+						toRemove.add(annotation);
+				}
+			}
+			List<Annotation> annotations= new ArrayList<>(annotationMap.size());
+			Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
+			while (iter.hasNext()) {
+				Entry<Annotation, Position> mapEntry= iter.next();
+				OverrideIndicator indicator= (OverrideIndicator) mapEntry.getKey();
+				OverrideIndicator existing= existingIndicators.get(indicator.fAstNodeKey);
+				Position existingPosition= existing != null ? fAnnotationModel.getPosition(existing) : null;
+				if (existingPosition != null && !existingPosition.isDeleted() && existingPosition.equals(mapEntry.getValue())
+						&& existing.isOverwriteIndicator() == indicator.isOverwriteIndicator()
+						&& existing.getText().equals(indicator.getText())) {
+					// keep the annotation that is already in the model
+					existingIndicators.remove(indicator.fAstNodeKey);
+					iter.remove();
+					annotations.add(existing);
+				} else {
+					annotations.add(indicator);
+				}
+			}
+			toRemove.addAll(existingIndicators.values());
+
 			if (fAnnotationModel instanceof IAnnotationModelExtension) {
-				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(fOverrideAnnotations, annotationMap);
+				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(toRemove.toArray(new Annotation[toRemove.size()]), annotationMap);
 			} else {
-				removeAnnotations();
-				Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
+				for (Annotation annotation : toRemove)
+					fAnnotationModel.removeAnnotation(annotation);
+				iter= annotationMap.entrySet().iterator();
 				while (iter.hasNext()) {
 					Entry<Annotation, Position> mapEntry= iter.next();
 					fAnnotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
 				}
 			}
-			fOverrideAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
+			fOverrideAnnotations= annotations.toArray(new Annotation[annotations.size()]);
 		}
 	}
 
+	private static OverriddenMethodCache.OverriddenMethod findOverriddenMethod(IMethodBinding binding) {
+		IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
+		if (definingMethod == null)
+			return OverriddenMethodCache.NONE;
+		ITypeBinding definingType= definingMethod.getDeclaringClass();
+		String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
+		return new OverriddenMethodCache.OverriddenMethod(qualifiedMethodName, JdtFlags.isAbstract(definingMethod));
+	}
+
 	/**
 	 * Removes all override indicators from this manager's annotation model.
 	 */
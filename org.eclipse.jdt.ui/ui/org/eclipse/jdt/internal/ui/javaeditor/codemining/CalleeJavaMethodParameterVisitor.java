@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Angelo Zerr and others.
+ * Copyright (c) 2017, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -23,6 +24,7 @@ import org.eclipse.jface.text.codemining.ICodeMiningProvider;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ClassInstanceCreation;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
@@ -43,9 +45,26 @@ public class CalleeJavaMethodParameterVisitor extends HierarchicalASTVisitor {
 
 	private final ICodeMiningProvider provider;
 
+	/**
+	 * Parameter names of binary methods by handle identifier, kept between passes, or
+	 * <code>null</code>.
+	 */
+	private final Map<String, String[]> binaryParameterNames;
+
 	public CalleeJavaMethodParameterVisitor(List<ICodeMining> minings, ICodeMiningProvider provider) {
+		this(minings, provider, null);
+	}
+
+	/**
+	 * @param minings the list to add the minings to
+	 * @param provider the code mining provider
+	 * @param binaryParameterNames cache for the parameter names of binary methods, which may have
+	 *            to be read from the attached source
+	 */
+	CalleeJavaMethodParameterVisitor(List<ICodeMining> minings, ICodeMiningProvider provider, Map<String, String[]> binaryParameterNames) {
 		this.minings= minings;
 		this.provider= provider;
+		this.binaryParameterNames= binaryParameterNames;
 	}
 
 	@Override
@@ -113,7 +132,7 @@ public class CalleeJavaMethodParameterVisitor extends HierarchicalASTVisitor {
 	protected void collectParameterNamesCodeMinings(IMethod method, List<?> arguments, boolean isVarArgs) {
 		if (!skipParameterNamesCodeMinings(method)) {
 			try {
-				String[] parameterNames= method.getParameterNames();
+				String[] parameterNames= getParameterNames(method);
 				if (!skipParameterNamesCodeMinings(method, parameterNames)) {
 					for (int i= 0; i < Math.min(arguments.size(), parameterNames.length); i++) {
 						if (!skipParameterNameCodeMining(parameterNames, arguments, i)) {
@@ -139,6 +158,19 @@ public class CalleeJavaMethodParameterVisitor extends HierarchicalASTVisitor {
 		}
 	}
 
+	private String[] getParameterNames(IMethod method) throws JavaModelException {
+		if (binaryParameterNames == null || !method.isBinary()) {
+			return method.getParameterNames();
+		}
+		String key= method.getHandleIdentifier();
+		String[] parameterNames= binaryParameterNames.get(key);
+		if (parameterNames == null) {
+			parameterNames= method.getParameterNames();
+			binaryParameterNames.put(key, parameterNames);
+		}
+		return parameterNames;
+	}
+
 	protected static IMethod resolveMethodBinding(IMethodBinding binding) {
 		if (binding == null) {
 			return null;
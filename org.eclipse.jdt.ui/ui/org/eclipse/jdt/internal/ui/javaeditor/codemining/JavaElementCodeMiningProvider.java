@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,7 +100,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				collectMinings(unit, textEditor, unit.getChildren(), minings, new ReferenceCountBatch(), viewer, monitor);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -124,12 +124,13 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 	 * @param textEditor the Java editor
 	 * @param elements the java elements to track
 	 * @param minings the current list of minings to update
+	 * @param referenceCounts the batch counting the references of all reference minings
 	 * @param viewer the viewer
 	 * @param monitor the monitor
 	 * @throws JavaModelException thrown when java model error
 	 */
 	private void collectMinings(ITypeRoot unit, ITextEditor textEditor, IJavaElement[] elements,
-			List<ICodeMining> minings, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
+			List<ICodeMining> minings, ReferenceCountBatch referenceCounts, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
 
 		// Only Java editor is supported, see bug 541811
 		if(!(textEditor instanceof JavaEditor)) {
@@ -146,7 +147,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				return;
 			}
 			if (element.getElementType() == IJavaElement.TYPE) {
-				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, viewer, monitor);
+				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, referenceCounts, viewer, monitor);
 			} else if ((element.getElementType() != IJavaElement.METHOD)
 					&& (element.getElementType() != IJavaElement.FIELD)) {
 				continue;
@@ -158,7 +159,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 							|| (showReferencesOnFields && (element.getElementType() == IJavaElement.FIELD)) // Show references on fields
 					) {
 						minings.add(new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
-								this, showAtLeastOne));
+								this, showAtLeastOne, referenceCounts));
 					}
 				} catch (BadLocationException e) {
 					// Should never occur
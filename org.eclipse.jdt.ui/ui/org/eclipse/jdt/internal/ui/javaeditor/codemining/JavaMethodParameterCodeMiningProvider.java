@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Angelo Zerr and others.
+ * Copyright (c) 2017, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@ package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -27,15 +29,16 @@ import org.eclipse.jface.text.source.ISourceViewerExtension5;
 
 import org.eclipse.ui.texteditor.ITextEditor;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
-import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
-
-import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
 
@@ -46,6 +49,63 @@ import org.eclipse.jdt.internal.ui.javaeditor.JavaCodeMiningReconciler;
  */
 public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningProvider {
 
+	/**
+	 * Parameter names of the binary methods called in the editors, kept between updates of the
+	 * minings since they may have to be read from the attached source. Cleared when a class path,
+	 * an archive, a class file or a source attachment changes, and limited to the
+	 * {@link #MAX_BINARY_PARAMETER_NAMES} most recently used methods.
+	 */
+	private static Map<String, String[]> fgBinaryParameterNames;
+
+	private static final int MAX_BINARY_PARAMETER_NAMES= 10000;
+
+	private static IElementChangedListener fgBinaryChangeListener;
+
+	private static synchronized Map<String, String[]> getBinaryParameterNames() {
+		if (fgBinaryParameterNames == null) {
+			Map<String, String[]> parameterNames= Collections.synchronizedMap(new LinkedHashMap<String, String[]>(16, 0.75f, true) {
+				private static final long serialVersionUID= 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+					return size() > MAX_BINARY_PARAMETER_NAMES;
+				}
+			});
+			fgBinaryChangeListener= event -> {
+				if (affectsBinaries(event.getDelta()))
+					parameterNames.clear();
+			};
+			JavaCore.addElementChangedListener(fgBinaryChangeListener, ElementChangedEvent.POST_CHANGE);
+			fgBinaryParameterNames= parameterNames;
+		}
+		return fgBinaryParameterNames;
+	}
+
+	private static boolean affectsBinaries(IJavaElementDelta delta) {
+		int type= delta.getElement().getElementType();
+		if (type == IJavaElement.CLASS_FILE)
+			return true;
+		if ((delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+				| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+				| IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED)) != 0)
+			return true;
+		if (type == IJavaElement.COMPILATION_UNIT)
+			return false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsBinaries(child))
+				return true;
+		}
+		return false;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgBinaryParameterNames == null)
+			return;
+		JavaCore.removeElementChangedListener(fgBinaryChangeListener);
+		fgBinaryChangeListener= null;
+		fgBinaryParameterNames= null;
+	}
+
 	@Override
 	public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
 		if (viewer instanceof ISourceViewerExtension5) {
@@ -65,7 +125,7 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectLineContentCodeMinings(unit, minings);
+				collectLineContentCodeMinings(unit, minings, monitor);
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
 					if (!JavaCodeMiningReconciler.isReconciled(codeMiningViewer)) {
@@ -82,24 +142,29 @@ public class JavaMethodParameterCodeMiningProvider extends AbstractCodeMiningPro
 		});
 	}
 
-	private void collectLineContentCodeMinings(ITypeRoot unit, List<ICodeMining> minings) {
-		CompilationUnit cu= getCompilationUnitNode(unit, true);
-		CalleeJavaMethodParameterVisitor visitor= new CalleeJavaMethodParameterVisitor(minings, this);
+	private void collectLineContentCodeMinings(ITypeRoot unit, List<ICodeMining> minings, IProgressMonitor monitor) {
+		CompilationUnit cu= getCompilationUnitNode(unit, monitor);
+		if (cu == null) {
+			return;
+		}
+		CalleeJavaMethodParameterVisitor visitor= new CalleeJavaMethodParameterVisitor(minings, this, getBinaryParameterNames());
 		cu.accept(visitor);
 	}
 
-	static CompilationUnit getCompilationUnitNode(ITypeRoot typeRoot, boolean resolveBindings) {
-		try {
-			if (typeRoot.exists() && typeRoot.getBuffer() != null) {
-				ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-				parser.setSource(typeRoot);
-				parser.setResolveBindings(resolveBindings);
-				return (CompilationUnit) parser.createAST(null);
-			}
-		} catch (JavaModelException e) {
-			JavaPlugin.log(e);
+	/**
+	 * Returns the AST of the editor input. The minings are only computed for reconciled viewers,
+	 * so the shared AST of the reconcile that triggered the update is used rather than parsing and
+	 * resolving the unit once more.
+	 *
+	 * @param typeRoot the editor input
+	 * @param monitor the monitor
+	 * @return the AST with bindings, or <code>null</code>
+	 */
+	static CompilationUnit getCompilationUnitNode(ITypeRoot typeRoot, IProgressMonitor monitor) {
+		if (!typeRoot.exists()) {
+			return null;
 		}
-		return null;
+		return SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_YES, monitor);
 	}
 
 }
@@ -0,0 +1,419 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MemberRef;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.MethodRef;
+import org.eclipse.jdt.core.dom.MethodReference;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
+import org.eclipse.jdt.core.dom.SuperFieldAccess;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Counts the references of all elements of one compilation unit that show a
+ * {@link JavaReferenceCodeMining}, with a single search for an OR-combined pattern instead of one
+ * search per element.
+ * <p>
+ * A match of the combined search does not tell which of the patterns it matched, so the
+ * compilation units with matches are parsed with bindings, and a match is attributed to the
+ * element that the binding of the matched node resolves to. This also tells overloaded methods
+ * apart. Elements that a match could not be attributed to (unresolved bindings, matches in class
+ * files) are counted with a separate search, like before. The counts are kept in the
+ * {@link ReferenceCountCache}.
+ * </p>
+ * <p>
+ * The shared search is only canceled when the monitors of all minings waiting for it are
+ * canceled.
+ * </p>
+ */
+final class ReferenceCountBatch {
+
+	/**
+	 * The monitor of the shared search, canceled when all monitors added to it are canceled.
+	 */
+	private static final class BatchMonitor extends NullProgressMonitor {
+		private final List<IProgressMonitor> fMonitors= new ArrayList<>();
+
+		synchronized void add(IProgressMonitor monitor) {
+			fMonitors.add(monitor);
+		}
+
+		@Override
+		public synchronized boolean isCanceled() {
+			if (super.isCanceled())
+				return true;
+			if (fMonitors.isEmpty())
+				return false;
+			for (IProgressMonitor monitor : fMonitors) {
+				if (!isCanceled(monitor))
+					return false;
+			}
+			return true;
+		}
+
+		private static boolean isCanceled(IProgressMonitor monitor) {
+			try {
+				return monitor.isCanceled();
+			} catch (CancellationException | OperationCanceledException e) {
+				// the code mining monitors throw instead of answering true
+				return true;
+			}
+		}
+	}
+
+	private final List<IJavaElement> fElements= new ArrayList<>();
+
+	private final boolean fIgnoreInaccurate;
+
+	private final BatchMonitor fMonitor= new BatchMonitor();
+
+	private CompletableFuture<Map<IJavaElement, Long>> fCounts;
+
+	ReferenceCountBatch() {
+		fIgnoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+	}
+
+	/**
+	 * Adds an element to count references for. Must be called before the first call to
+	 * {@link #getReferenceCount(IJavaElement, IProgressMonitor)}.
+	 *
+	 * @param element the element
+	 */
+	void add(IJavaElement element) {
+		fElements.add(element);
+	}
+
+	/**
+	 * Returns the number of references to the given element. The first call starts the search for
+	 * all elements of the batch that are not cached yet.
+	 *
+	 * @param element the element
+	 * @param monitor the monitor of the code mining, the shared search continues as long as one of
+	 *            these monitors is not canceled
+	 * @return the number of references, completed with <code>null</code> if the search failed
+	 */
+	CompletableFuture<Long> getReferenceCount(IJavaElement element, IProgressMonitor monitor) {
+		Long cached= ReferenceCountCache.getInstance().get(element, fIgnoreInaccurate);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		fMonitor.add(monitor);
+		return getCounts().handle((counts, e) -> {
+			Long count= counts != null ? counts.get(element) : null;
+			if (count != null) {
+				return count;
+			}
+			try {
+				int generation= ReferenceCountCache.getInstance().getGeneration();
+				long result= countReferences(element, monitor);
+				ReferenceCountCache.getInstance().put(element, fIgnoreInaccurate, result, generation);
+				return Long.valueOf(result);
+			} catch (CoreException ex) {
+				// Should never occur
+				return null;
+			}
+		});
+	}
+
+	private synchronized CompletableFuture<Map<IJavaElement, Long>> getCounts() {
+		if (fCounts == null) {
+			fCounts= CompletableFuture.supplyAsync(() -> {
+				try {
+					return countAllReferences(fMonitor);
+				} catch (CoreException e) {
+					throw new CompletionException(e);
+				}
+			});
+		}
+		return fCounts;
+	}
+
+	/**
+	 * Counts the references of the elements of the batch with one search.
+	 *
+	 * @param monitor the monitor
+	 * @return the counts of the elements that all matches could be attributed to
+	 * @throws CoreException if the search fails
+	 */
+	private Map<IJavaElement, Long> countAllReferences(IProgressMonitor monitor) throws CoreException {
+		ReferenceCountCache cache= ReferenceCountCache.getInstance();
+		int generation= cache.getGeneration();
+
+		SearchPattern pattern= null;
+		Map<String, IJavaElement> searched= new LinkedHashMap<>();
+		for (IJavaElement element : fElements) {
+			if (cache.get(element, fIgnoreInaccurate) != null || searched.containsKey(element.getHandleIdentifier())) {
+				continue;
+			}
+			SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern == null) {
+				continue;
+			}
+			pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			searched.put(element.getHandleIdentifier(), element);
+		}
+		if (searched.size() < 2) {
+			return new HashMap<>(); // nothing to share
+		}
+
+		Map<String, AtomicLong> counts= new HashMap<>();
+		for (String handle : searched.keySet()) {
+			counts.put(handle, new AtomicLong());
+		}
+		Set<IJavaElement> unattributed= new HashSet<>();
+		Map<ICompilationUnit, List<SearchMatch>> matchesByUnit= new LinkedHashMap<>();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(searched.values().iterator().next()), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (!isCounted(match)) {
+							return;
+						}
+						ICompilationUnit unit= (ICompilationUnit) ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+						if (unit == null) {
+							unattributed.addAll(searched.values()); // no source to resolve a match in a class file
+							return;
+						}
+						matchesByUnit.computeIfAbsent(unit, u -> new ArrayList<>()).add(match);
+					}
+				}, monitor);
+
+		if (unattributed.size() < searched.size()) {
+			Map<IJavaProject, List<ICompilationUnit>> unitsByProject= new LinkedHashMap<>();
+			for (ICompilationUnit unit : matchesByUnit.keySet()) {
+				unitsByProject.computeIfAbsent(unit.getJavaProject(), p -> new ArrayList<>()).add(unit);
+			}
+			for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : unitsByProject.entrySet()) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+				parser.setProject(entry.getKey());
+				parser.setResolveBindings(true);
+				List<ICompilationUnit> units= entry.getValue();
+				parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+					@Override
+					public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+						for (SearchMatch match : matchesByUnit.get(source)) {
+							IJavaElement referenced= getReferencedElement(NodeFinder.perform(ast, match.getOffset(), match.getLength()));
+							AtomicLong count= referenced != null ? counts.get(referenced.getHandleIdentifier()) : null;
+							if (count != null) {
+								count.incrementAndGet();
+							} else {
+								addCandidates(referenced, searched.values(), unattributed);
+							}
+						}
+					}
+				}, monitor);
+			}
+		}
+
+		Map<IJavaElement, Long> result= new HashMap<>();
+		for (IJavaElement element : searched.values()) {
+			if (unattributed.contains(element)) {
+				continue;
+			}
+			long count= counts.get(element.getHandleIdentifier()).get();
+			result.put(element, Long.valueOf(count));
+			cache.put(element, fIgnoreInaccurate, count, generation);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the searched elements that a match resolving to the given element may belong to. A
+	 * match can resolve to an element that was not searched for, e.g. the overriding method of a
+	 * searched method. The matched pattern is then one of the elements with the same name.
+	 *
+	 * @param referenced the element that the match resolves to, or <code>null</code> if the
+	 *            binding could not be resolved
+	 * @param searched the searched elements
+	 * @param candidates the elements that are counted with a separate search
+	 */
+	private static void addCandidates(IJavaElement referenced, Iterable<IJavaElement> searched, Set<IJavaElement> candidates) {
+		boolean found= false;
+		if (referenced != null) {
+			for (IJavaElement element : searched) {
+				if (element.getElementName().equals(referenced.getElementName())) {
+					candidates.add(element);
+					found= true;
+				}
+			}
+		}
+		if (!found) {
+			for (IJavaElement element : searched) {
+				candidates.add(element);
+			}
+		}
+	}
+
+	/**
+	 * Returns the declaration of the element that the node of a reference match refers to.
+	 *
+	 * @param node the node of the match, may be <code>null</code>
+	 * @return the referenced element, or <code>null</code> if the binding is not available
+	 */
+	private static IJavaElement getReferencedElement(ASTNode node) {
+		IBinding binding= null;
+		if (node instanceof Name) {
+			binding= ((Name) node).resolveBinding();
+		} else if (node instanceof Type) {
+			binding= ((Type) node).resolveBinding();
+		} else if (node instanceof MethodInvocation) {
+			binding= ((MethodInvocation) node).resolveMethodBinding();
+		} else if (node instanceof SuperMethodInvocation) {
+			binding= ((SuperMethodInvocation) node).resolveMethodBinding();
+		} else if (node instanceof MethodReference) {
+			binding= ((MethodReference) node).resolveMethodBinding();
+		} else if (node instanceof ClassInstanceCreation) {
+			binding= ((ClassInstanceCreation) node).resolveConstructorBinding();
+		} else if (node instanceof ConstructorInvocation) {
+			binding= ((ConstructorInvocation) node).resolveConstructorBinding();
+		} else if (node instanceof SuperConstructorInvocation) {
+			binding= ((SuperConstructorInvocation) node).resolveConstructorBinding();
+		} else if (node instanceof EnumConstantDeclaration) {
+			binding= ((EnumConstantDeclaration) node).resolveConstructorBinding();
+		} else if (node instanceof FieldAccess) {
+			binding= ((FieldAccess) node).resolveFieldBinding();
+		} else if (node instanceof SuperFieldAccess) {
+			binding= ((SuperFieldAccess) node).resolveFieldBinding();
+		} else if (node instanceof MemberRef) {
+			binding= ((MemberRef) node).resolveBinding();
+		} else if (node instanceof MethodRef) {
+			binding= ((MethodRef) node).resolveBinding();
+		}
+		if (binding instanceof IMethodBinding) {
+			binding= ((IMethodBinding) binding).getMethodDeclaration();
+		} else if (binding instanceof IVariableBinding) {
+			binding= ((IVariableBinding) binding).getVariableDeclaration();
+		} else if (binding instanceof ITypeBinding) {
+			binding= ((ITypeBinding) binding).getTypeDeclaration();
+		}
+		return binding != null ? binding.getJavaElement() : null;
+	}
+
+	private boolean isCounted(SearchMatch match) {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE && fIgnoreInaccurate) {
+			return false;
+		}
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement) o;
+			return e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null;
+		}
+		return false;
+	}
+
+	/**
+	 * Return the number of references for the given java element.
+	 *
+	 * @param element the java element.
+	 * @param monitor the monitor
+	 * @return he number of references for the given java element.
+	 * @throws JavaModelException throws when java error.
+	 * @throws CoreException throws when java error.
+	 */
+	private long countReferences(IJavaElement element, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
+		if (element == null) {
+			return 0;
+		}
+		final AtomicLong count= new AtomicLong(0);
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return 0;
+		}
+		SearchEngine engine= new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(element), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (isCounted(match)) {
+							count.incrementAndGet();
+						}
+					}
+				}, monitor);
+
+		return count.get();
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE = factory.isInsideJRE(element);
+		IJavaSearchScope scope= factory.createWorkspaceScope(isInsideJRE);
+		return scope;
+	}
+}
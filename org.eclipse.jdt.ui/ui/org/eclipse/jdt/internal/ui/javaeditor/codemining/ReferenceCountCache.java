@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Reference counts shown by {@link JavaReferenceCodeMining}s, kept across refreshes of the code
+ * minings.
+ * <p>
+ * A reference to an element can be added or removed by a change anywhere in the workspace, so all
+ * counts are discarded when a Java element delta reports a change to the content of a saved
+ * compilation unit, an added or removed element, a class path change, or a discarded working copy.
+ * Deltas that do not change any Java source, e.g. opening a working copy, keep the counts.
+ * </p>
+ * <p>
+ * Reconciling a working copy while it is edited only discards the counts of the elements declared
+ * in that compilation unit, which are the ones most likely to have new references in it. The
+ * counts of other elements are updated when the working copy is saved.
+ * </p>
+ */
+public final class ReferenceCountCache {
+
+	private class CountDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+				removeReconciledUnits(event.getDelta());
+			} else if (affectsReferences(event.getDelta())) {
+				clear();
+			}
+		}
+
+		private void removeReconciledUnits(IJavaElementDelta delta) {
+			IJavaElement element= delta.getElement();
+			if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN)) != 0)
+					removeUnit(element.getHandleIdentifier());
+				return;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				removeReconciledUnits(child);
+			}
+		}
+
+		private boolean affectsReferences(IJavaElementDelta delta) {
+			int kind= delta.getKind();
+			if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED)
+				return true;
+			int flags= delta.getFlags();
+			if ((flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+					| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+				return true;
+			}
+			if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT) {
+				// a discarded working copy may have had unsaved changes
+				return (flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0 && !((ICompilationUnit) delta.getElement()).isWorkingCopy();
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsReferences(child))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static ReferenceCountCache fgInstance;
+
+	private final Map<String, Long> fCounts= new HashMap<>();
+	private final IElementChangedListener fDeltaListener;
+
+	/**
+	 * Incremented on every invalidation, so that counts computed by a search that overlapped
+	 * a change are not stored.
+	 */
+	private int fGeneration;
+
+	public static synchronized ReferenceCountCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new ReferenceCountCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.clear();
+		fgInstance= null;
+	}
+
+	private ReferenceCountCache() {
+		fDeltaListener= new CountDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the cached reference count of an element.
+	 *
+	 * @param element the referenced element
+	 * @param ignoreInaccurate whether inaccurate matches were ignored
+	 * @return the number of references, or <code>null</code> if not known
+	 */
+	synchronized Long get(IJavaElement element, boolean ignoreInaccurate) {
+		return fCounts.get(getKey(element, ignoreInaccurate));
+	}
+
+	/**
+	 * Returns the current generation, to be passed to {@link #put(IJavaElement, boolean, long, int)} after
+	 * the count has been computed.
+	 *
+	 * @return the generation
+	 */
+	synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Stores a reference count unless the cache has been invalidated since the count was
+	 * computed.
+	 *
+	 * @param element the referenced element
+	 * @param ignoreInaccurate whether inaccurate matches were ignored
+	 * @param count the number of references
+	 * @param generation the generation before the count was computed
+	 */
+	synchronized void put(IJavaElement element, boolean ignoreInaccurate, long count, int generation) {
+		if (generation == fGeneration)
+			fCounts.put(getKey(element, ignoreInaccurate), Long.valueOf(count));
+	}
+
+	private static String getKey(IJavaElement element, boolean ignoreInaccurate) {
+		return ignoreInaccurate ? element.getHandleIdentifier() : '~' + element.getHandleIdentifier();
+	}
+
+	/**
+	 * Discards the counts of the elements declared in a compilation unit.
+	 *
+	 * @param unitHandle the handle identifier of the compilation unit
+	 */
+	synchronized void removeUnit(String unitHandle) {
+		fCounts.keySet().removeIf(key -> key.startsWith(unitHandle, key.charAt(0) == '~' ? 1 : 0));
+		fGeneration++;
+	}
+
+	synchronized void clear() {
+		fCounts.clear();
+		fGeneration++;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
 import org.eclipse.jdt.internal.ui.refactoring.RefactoringSavePreferences;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
 import org.eclipse.jdt.internal.ui.util.SWTUtil;
 
 /*
@@ -65,12 +66,14 @@ public class JavaBasePreferencePage extends PreferencePage implements IWorkbench
 	private static final String OPEN_TYPE_HIERARCHY= PreferenceConstants.OPEN_TYPE_HIERARCHY;
 	private static final String OPEN_TYPE_HIERARCHY_IN_PERSPECTIVE= PreferenceConstants.OPEN_TYPE_HIERARCHY_IN_PERSPECTIVE;
 	private static final String OPEN_TYPE_HIERARCHY_IN_VIEW_PART= PreferenceConstants.OPEN_TYPE_HIERARCHY_IN_VIEW_PART;
+	private static final String TYPE_HIERARCHY_LAZY_SUBTYPES= TypeHierarchyLifeCycle.PREF_LAZY_SUBTYPES;
 
 	private static final String DOUBLE_CLICK= PreferenceConstants.DOUBLE_CLICK;
 	private static final String DOUBLE_CLICK_GOES_INTO= PreferenceConstants.DOUBLE_CLICK_GOES_INTO;
 	private static final String DOUBLE_CLICK_EXPANDS= PreferenceConstants.DOUBLE_CLICK_EXPANDS;
 
     private static final String OPEN_CALL_HIERARCHY_IMPLEMENTORS= "PREF_USE_IMPLEMENTORS"; //$NON-NLS-1$ //org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy.PREF_USE_IMPLEMENTORS
+    private static final String CALL_HIERARCHY_USE_CALL_GRAPH_INDEX= "PREF_USE_CALL_GRAPH_INDEX"; //$NON-NLS-1$ //org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX
 
 
 	private ArrayList<Button> fCheckBoxes;
@@ -171,12 +174,14 @@ public class JavaBasePreferencePage extends PreferencePage implements IWorkbench
 		typeHierarchyGroup.setText(PreferencesMessages.JavaBasePreferencePage_openTypeHierarchy);
 		addRadioButton(typeHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_inPerspective, OPEN_TYPE_HIERARCHY, OPEN_TYPE_HIERARCHY_IN_PERSPECTIVE);
 		addRadioButton(typeHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_inView, OPEN_TYPE_HIERARCHY, OPEN_TYPE_HIERARCHY_IN_VIEW_PART);
+		addCheckBox(typeHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_lazySubtypes, null, TYPE_HIERARCHY_LAZY_SUBTYPES);
 
 		Group callHierarchyGroup= new Group(result, SWT.NONE);
 		callHierarchyGroup.setLayout(new GridLayout());
 		callHierarchyGroup.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		callHierarchyGroup.setText(PreferencesMessages.JavaBasePreferencePage_openCallHierarchy);
 		addCheckBox(callHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_showCalleeImplementations, null, OPEN_CALL_HIERARCHY_IMPLEMENTORS);
+		addCheckBox(callHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_useCallGraphIndex, null, CALL_HIERARCHY_USE_CALL_GRAPH_INDEX);
 
 		Group refactoringGroup= new Group(result, SWT.NONE);
 		refactoringGroup.setLayout(new GridLayout());
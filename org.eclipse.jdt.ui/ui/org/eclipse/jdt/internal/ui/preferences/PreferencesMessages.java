@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -221,11 +221,14 @@ public final class PreferencesMessages extends NLS {
 	public static String JavaBasePreferencePage_openTypeHierarchy;
 	public static String JavaBasePreferencePage_openCallHierarchy;
 	public static String JavaBasePreferencePage_showCalleeImplementations;
+	public static String JavaBasePreferencePage_useCallGraphIndex;
 	public static String JavaBasePreferencePage_inView;
 	public static String JavaBasePreferencePage_inPerspective;
+	public static String JavaBasePreferencePage_lazySubtypes;
 	public static String JavaEditorPreferencePage_quickassist_lightbulb;
 	public static String JavaEditorPreferencePage_showJavaElementOnly;
 	public static String JavaEditorHoverConfigurationBlock_annotationRollover;
+	public static String JavaEditorHoverConfigurationBlock_prefetchJavadoc;
 	public static String JavaEditorHoverConfigurationBlock_hoverPreferences;
 	public static String JavaEditorHoverConfigurationBlock_keyModifier;
 	public static String JavaEditorHoverConfigurationBlock_description;
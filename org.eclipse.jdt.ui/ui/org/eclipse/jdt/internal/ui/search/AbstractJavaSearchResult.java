@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2011 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.jdt.internal.ui.search;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -31,16 +33,111 @@ import org.eclipse.search.ui.text.Match;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.IParent;
+import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
 public abstract class AbstractJavaSearchResult extends AbstractTextSearchResult implements IEditorMatchAdapter, IFileMatchAdapter {
 
 	protected static final Match[] NO_MATCHES= new Match[0];
 
+	/**
+	 * The elements with matches, grouped by the compilation unit or class file they are in, or by
+	 * themselves if they are not in one. Lets editors and delta updates find the matches of one
+	 * file without going through all elements of the result.
+	 */
+	private final Map<Object, Set<Object>> fElementsByFile= new HashMap<>();
+
 	public AbstractJavaSearchResult() {
 	}
 
+	@Override
+	public void addMatch(Match match) {
+		synchronized (fElementsByFile) {
+			addToFile(match.getElement());
+		}
+		super.addMatch(match);
+	}
+
+	@Override
+	public void addMatches(Match[] matches) {
+		synchronized (fElementsByFile) {
+			for (Match match : matches) {
+				addToFile(match.getElement());
+			}
+		}
+		super.addMatches(matches);
+	}
+
+	@Override
+	public void removeMatch(Match match) {
+		super.removeMatch(match);
+		synchronized (fElementsByFile) {
+			removeFromFile(match.getElement());
+		}
+	}
+
+	@Override
+	public void removeMatches(Match[] matches) {
+		super.removeMatches(matches);
+		synchronized (fElementsByFile) {
+			for (Match match : matches) {
+				removeFromFile(match.getElement());
+			}
+		}
+	}
+
+	@Override
+	public void removeAll() {
+		synchronized (fElementsByFile) {
+			fElementsByFile.clear();
+		}
+		super.removeAll();
+	}
+
+	/**
+	 * Returns the elements with matches in the given file.
+	 *
+	 * @param file a compilation unit or class file, or an element that is not in one
+	 * @return the elements with matches in the file
+	 */
+	Object[] getElementsInFile(Object file) {
+		synchronized (fElementsByFile) {
+			Set<Object> elements= fElementsByFile.get(file);
+			return elements != null ? elements.toArray() : new Object[0];
+		}
+	}
+
+	/**
+	 * Returns the file by which an element is grouped.
+	 *
+	 * @param element an element with matches
+	 * @return the compilation unit or class file of the element, or the element itself if it is
+	 *         not in one
+	 */
+	static Object getFileKey(Object element) {
+		if (element instanceof IJavaElement) {
+			IOpenable openable= ((IJavaElement) element).getOpenable();
+			if (openable != null)
+				return openable;
+		}
+		return element;
+	}
+
+	private void addToFile(Object element) {
+		fElementsByFile.computeIfAbsent(getFileKey(element), key -> new HashSet<>()).add(element);
+	}
+
+	private void removeFromFile(Object element) {
+		if (getMatchCount(element) > 0)
+			return;
+		Object file= getFileKey(element);
+		Set<Object> elements= fElementsByFile.get(file);
+		if (elements != null && elements.remove(element) && elements.isEmpty())
+			fElementsByFile.remove(file);
+	}
+
 	@Override
 	public Match[] computeContainedMatches(AbstractTextSearchResult result, IEditorPart editor) {
 		return computeContainedMatches(editor.getEditorInput());
@@ -54,7 +151,11 @@ public abstract class AbstractJavaSearchResult extends AbstractTextSearchResult
 	private Match[] computeContainedMatches(IAdaptable adaptable) {
 		IJavaElement javaElement= adaptable.getAdapter(IJavaElement.class);
 		Set<Match> matches= new HashSet<>();
-		if (javaElement != null) {
+		if (javaElement instanceof ITypeRoot) {
+			for (Object element : getElementsInFile(javaElement)) {
+				matches.addAll(Arrays.asList(getMatches(element)));
+			}
+		} else if (javaElement != null) {
 			collectMatches(matches, javaElement);
 		}
 		IFile file= adaptable.getAdapter(IFile.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,45 +15,60 @@ package org.eclipse.jdt.internal.ui.search;
 
 import org.eclipse.search.ui.text.Match;
 
+import org.eclipse.jdt.core.search.SearchMatch;
+
 /**
  * A search match with additional java-specific info.
+ * <p>
+ * Reference searches can report hundreds of thousands of matches, so the accuracy and the
+ * boolean properties are packed into a single byte.
+ * </p>
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
+	private static final int INACCURATE= 1 << 0;
+	private static final int WRITE_ACCESS= 1 << 1;
+	private static final int READ_ACCESS= 1 << 2;
+	private static final int JAVADOC= 1 << 3;
+	private static final int SUPER_INVOCATION= 1 << 4;
+
 	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private final byte fFlags;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
 		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		int flags= 0;
+		if (accuracy == SearchMatch.A_INACCURATE)
+			flags|= INACCURATE;
+		if (isWriteAccess)
+			flags|= WRITE_ACCESS;
+		if (isReadAccess)
+			flags|= READ_ACCESS;
+		if (isJavadoc)
+			flags|= JAVADOC;
+		if (isSuperInvocation)
+			flags|= SUPER_INVOCATION;
+		fFlags= (byte) flags;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return (fFlags & INACCURATE) != 0 ? SearchMatch.A_INACCURATE : SearchMatch.A_ACCURATE;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,10 +20,13 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -60,6 +63,12 @@ public class JavaSearchQuery implements ISearchQuery {
 
 	private static final String PERF_SEARCH_PARTICIPANT= "org.eclipse.jdt.ui/perf/search/participants"; //$NON-NLS-1$
 
+	/**
+	 * The time in milliseconds that a query waits for a participant, counted from the end of the
+	 * engine search or from the start of the participant, whichever is later.
+	 */
+	private static final long PARTICIPANT_TIMEOUT= 60000;
+
 	private ISearchResult fResult;
 	private final List<QuerySpecification> fPatternDataList;
 
@@ -81,8 +90,11 @@ public class JavaSearchQuery implements ISearchQuery {
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
+		private volatile boolean fStopped;
 		@Override
 		public void reportMatch(Match match) {
+			if (fStopped)
+				return;
 			IMatchPresentation participant= fParticipant.getUIParticipant();
 			if (participant == null || match.getElement() instanceof IJavaElement || match.getElement() instanceof IResource) {
 				fSearchResult.addMatch(match);
@@ -96,12 +108,126 @@ public class JavaSearchQuery implements ISearchQuery {
 			fParticipant= participant;
 			fSearchResult= result;
 		}
+
+		/**
+		 * Ignores all further matches, for a participant that has been canceled but may still
+		 * report.
+		 */
+		void stop() {
+			fStopped= true;
+		}
+	}
+
+	/**
+	 * Runs a query participant in the background, at the same time as the search engine and the
+	 * other participants.
+	 */
+	private class ParticipantJob extends Job {
+		private final SearchParticipantRecord fRecord;
+		private final SearchRequestor fRequestor;
+		/**
+		 * The time at which the participant started to run, or <code>0</code> before.
+		 */
+		private volatile long fStart;
+
+		ParticipantJob(SearchParticipantRecord record, JavaSearchResult result) {
+			super(SearchMessages.JavaSearchQuery_participant_job);
+			fRecord= record;
+			fRequestor= new SearchRequestor(record.getParticipant(), result);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			fStart= System.currentTimeMillis();
+			ISafeRunnable runnable= new ISafeRunnable() {
+				@Override
+				public void handleException(Throwable exception) {
+					if (exception instanceof OperationCanceledException)
+						return;
+					fRecord.getDescriptor().disable();
+					String message= SearchMessages.JavaSearchQuery_error_participant_search;
+					JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+				}
+
+				@Override
+				public void run() throws Exception {
+
+					final IQueryParticipant participant= fRecord.getParticipant();
+
+					final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
+					stats.startRun();
+					try {
+						for (QuerySpecification querySpecification : fPatternDataList) {
+							participant.search(fRequestor, querySpecification, monitor);
+						}
+					} finally {
+						stats.endRun();
+					}
+				}
+			};
+
+			SafeRunner.run(runnable);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		/**
+		 * Cancels the participant and ignores the matches it reports afterwards, so that a
+		 * participant that does not check for cancellation cannot add matches to the result once
+		 * the query is over.
+		 */
+		void stop() {
+			fRequestor.stop();
+			cancel();
+		}
+
+		/**
+		 * Waits until the participant is done. A participant that is not done
+		 * {@link JavaSearchQuery#PARTICIPANT_TIMEOUT} after the end of the engine search or after
+		 * its own start, whichever is later, is canceled, and the matches it reports afterwards
+		 * are ignored. The time a participant waits to be run does not count.
+		 *
+		 * @param searchEnd the time at which the engine search finished
+		 * @param monitor the monitor to report progress and cancellation
+		 * @return <code>null</code> if the participant is done, or a warning if it was canceled
+		 */
+		IStatus await(long searchEnd, IProgressMonitor monitor) {
+			boolean done= false;
+			try {
+				while (!done) {
+					long start= fStart;
+					if (start == 0) {
+						done= join(1000, monitor);
+						continue;
+					}
+					long remaining= Math.max(searchEnd, start) + PARTICIPANT_TIMEOUT - System.currentTimeMillis();
+					if (remaining <= 0) {
+						done= getResult() != null;
+						break;
+					}
+					done= join(remaining, monitor);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				done= false;
+			}
+			if (done)
+				return null;
+			stop();
+			long seconds= (System.currentTimeMillis() - fStart) / 1000;
+			String message= Messages.format(SearchMessages.JavaSearchQuery_error_participant_timeout, new Object[] { fRecord.getDescriptor().getID(), Long.valueOf(seconds) });
+			IStatus status= new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, message, null);
+			JavaPlugin.log(status);
+			return status;
+		}
 	}
 
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
 		final JavaSearchResult textResult= (JavaSearchResult) getSearchResult();
 		textResult.removeAll();
+		textResult.setIncomplete(false);
+		List<IStatus> timeouts= new ArrayList<>();
 		// Don't need to pass in working copies in 3.0 here
 		SearchEngine engine= new SearchEngine();
 		try {
@@ -174,44 +300,35 @@ public class JavaSearchQuery implements ISearchQuery {
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
-
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			// participants often search other resources than Java files, so they need not wait for the search engine
+			ParticipantJob[] participantJobs= new ParticipantJob[participantDescriptors.length];
 			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
-
-				final int iPrime= i;
-				ISafeRunnable runnable= new ISafeRunnable() {
-					@Override
-					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
-						String message= SearchMessages.JavaSearchQuery_error_participant_search;
-						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
-					}
-
-					@Override
-					public void run() throws Exception {
-
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
-
-						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
-						stats.startRun();
-
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
-						}
-
-						stats.endRun();
-					}
-				};
-
-				SafeRunner.run(runnable);
+				participantJobs[i]= new ParticipantJob(participantDescriptors[i], textResult);
+				participantJobs[i].schedule();
+			}
+			try {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+				long searchEnd= System.currentTimeMillis();
+				for (int i= 0; i < participantJobs.length; i++) {
+					IStatus timeout= participantJobs[i].await(searchEnd, subMonitor.split(ticks[i]));
+					if (timeout != null)
+						timeouts.add(timeout);
+				}
+			} finally {
+				for (ParticipantJob participantJob : participantJobs) {
+					participantJob.stop();
+				}
 			}
 
 		} catch (CoreException e) {
 			return e.getStatus();
 		}
 		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
+		if (!timeouts.isEmpty()) {
+			// the matches found so far are shown, but the view tells that some may be missing
+			textResult.setIncomplete(true);
+			return new MultiStatus(JavaPlugin.getPluginId(), 0, timeouts.toArray(new IStatus[timeouts.size()]), message, null);
+		}
 		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
 	}
 
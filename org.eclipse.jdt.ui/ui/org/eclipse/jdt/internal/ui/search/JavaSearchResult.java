@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 
 	private final JavaSearchQuery fQuery;
 	private final Map<Object, IMatchPresentation> fElementsToParticipants;
+	private volatile boolean fIncomplete;
 
 	public JavaSearchResult(JavaSearchQuery query) {
 		fQuery= query;
@@ -49,9 +50,19 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 
 	@Override
 	public String getLabel() {
-		return fQuery.getSpecification().size() == 1
+		String label= fQuery.getSpecification().size() == 1
 				? fQuery.getResultLabel(getMatchCount())
 				: Messages.format(SearchMessages.JavaSearchQuery_multi_selection_search_description, fQuery.getResultLabel(getMatchCount()));
+		return fIncomplete ? Messages.format(SearchMessages.JavaSearchResult_incomplete_label, label) : label;
+	}
+
+	/**
+	 * Marks this result as incomplete, because a query participant did not finish in time.
+	 *
+	 * @param incomplete <code>true</code> if matches of a participant may be missing
+	 */
+	void setIncomplete(boolean incomplete) {
+		fIncomplete= incomplete;
 	}
 
 	@Override
@@ -81,12 +92,15 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 
 	boolean addMatch(Match match, IMatchPresentation participant) {
 		Object element= match.getElement();
-		if (fElementsToParticipants.get(element) != null) {
-			// TODO must access the participant id / label to properly report the error.
-			JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, "A second search participant was found for an element", null)); //$NON-NLS-1$
-			return false;
+		synchronized (this) {
+			// participants report from their own threads
+			if (fElementsToParticipants.get(element) != null) {
+				// TODO must access the participant id / label to properly report the error.
+				JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, "A second search participant was found for an element", null)); //$NON-NLS-1$
+				return false;
+			}
+			fElementsToParticipants.put(element, participant);
 		}
-		fElementsToParticipants.put(element, participant);
 		addMatch(match);
 		return true;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,10 +33,32 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Adds the matches reported by the search engine to a search result.
+ * <p>
+ * Matches are added in batches, so that the search view is not updated for every single match.
+ * A batch is added when it is full, when it has been collected for a while, and when reporting
+ * ends. Equal enclosing elements of different matches are replaced by the same handle, so that a
+ * result with many matches per element keeps one handle per element.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int BATCH_SIZE= 500;
+
+	/**
+	 * The time in milliseconds after which the collected matches are added even if the batch is
+	 * not full, so that the view shows progress.
+	 */
+	private static final long BATCH_DELAY= 200;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	private final List<Match> fBatch= new ArrayList<>(BATCH_SIZE);
+	private long fBatchStart;
+	private final Map<IJavaElement, IJavaElement> fElements= new HashMap<>();
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
@@ -63,16 +91,36 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			IJavaElement element= fElements.putIfAbsent(enclosingElement, enclosingElement);
+			if (element == null)
+				element= enclosingElement;
+			addMatch(new JavaElementMatch(element, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
 		}
 	}
 
+	private void addMatch(Match match) {
+		if (fBatch.isEmpty())
+			fBatchStart= System.currentTimeMillis();
+		fBatch.add(match);
+		if (fBatch.size() >= BATCH_SIZE || System.currentTimeMillis() - fBatchStart >= BATCH_DELAY)
+			flush();
+	}
+
+	private void flush() {
+		if (fBatch.isEmpty())
+			return;
+		fSearch.addMatches(fBatch.toArray(new Match[fBatch.size()]));
+		fBatch.clear();
+	}
+
 	@Override
 	public void beginReporting() {
 	}
 
 	@Override
 	public void endReporting() {
+		flush();
+		fElements.clear();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -210,6 +210,9 @@ public final class SearchMessages extends NLS {
 	public static String JavaSearchQuery_status_ok_message;
 	public static String JavaSearchQuery_error_participant_estimate;
 	public static String JavaSearchQuery_error_participant_search;
+	public static String JavaSearchQuery_error_participant_timeout;
+	public static String JavaSearchQuery_participant_job;
+	public static String JavaSearchResult_incomplete_label;
 	public static String SearchParticipant_error_noID;
 	public static String SearchParticipant_error_noNature;
 	public static String SearchParticipant_error_noClass;
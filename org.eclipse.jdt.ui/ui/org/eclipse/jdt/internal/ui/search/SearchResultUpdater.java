@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,25 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 
 import org.eclipse.search.ui.IQueryListener;
 import org.eclipse.search.ui.ISearchQuery;
 import org.eclipse.search.ui.NewSearchUI;
-import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 
 public class SearchResultUpdater implements IElementChangedListener, IQueryListener {
@@ -62,23 +64,19 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 	}
 
 	private void handleRemoved(Set<IAdaptable> removedElements) {
-		for (Object element : fResult.getElements()) {
+		for (Object element : getCandidates(removedElements)) {
 			if (isContainedInRemoved(removedElements, element)) {
 				if (element instanceof IJavaElement) {
 					IJavaElement je= (IJavaElement) element;
 					if (!je.exists()) {
 						//System.out.println("removing: "+je+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+						fResult.removeMatches(fResult.getMatches(element));
 					}
 				} else if (element instanceof IResource) {
 					IResource resource= (IResource) element;
 					if (!resource.exists()) {
 						//System.out.println("removing: "+resource+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+						fResult.removeMatches(fResult.getMatches(element));
 					}
 
 				}
@@ -86,6 +84,37 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		}
 	}
 
+	/**
+	 * Returns the elements of the result that can be below one of the removed elements. Removed
+	 * files and elements inside files only need the elements of these files, removed containers
+	 * need all elements.
+	 *
+	 * @param removedElements the removed elements
+	 * @return the elements to check
+	 */
+	private Object[] getCandidates(Set<IAdaptable> removedElements) {
+		Set<Object> candidates= new HashSet<>();
+		for (IAdaptable removed : removedElements) {
+			if (removed instanceof IJavaElement) {
+				IJavaElement javaElement= (IJavaElement) removed;
+				ITypeRoot typeRoot= (ITypeRoot) javaElement.getAncestor(IJavaElement.COMPILATION_UNIT);
+				if (typeRoot == null)
+					typeRoot= (ITypeRoot) javaElement.getAncestor(IJavaElement.CLASS_FILE);
+				if (typeRoot == null)
+					return fResult.getElements();
+				candidates.addAll(Arrays.asList(fResult.getElementsInFile(typeRoot)));
+			} else if (removed instanceof IFile) {
+				candidates.addAll(Arrays.asList(fResult.getElementsInFile(removed)));
+				IJavaElement javaElement= JavaCore.create((IFile) removed);
+				if (javaElement != null)
+					candidates.addAll(Arrays.asList(fResult.getElementsInFile(javaElement)));
+			} else {
+				return fResult.getElements();
+			}
+		}
+		return candidates.toArray();
+	}
+
 	private boolean isContainedInRemoved(Set<IAdaptable> removedElements, Object object) {
 		for (IAdaptable iAdaptable : removedElements) {
 			if (isParentOf(iAdaptable, object))
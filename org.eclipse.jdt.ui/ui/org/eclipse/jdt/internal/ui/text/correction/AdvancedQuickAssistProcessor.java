@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,6 +135,8 @@ import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedCorrectionPro
 import org.eclipse.jdt.internal.ui.util.ASTHelper;
 
 public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
+	private final QuickAssistIndex fIndex= createIndex();
+
 	public AdvancedQuickAssistProcessor() {
 		super();
 	}
@@ -144,42 +146,49 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
 			ArrayList<ASTNode> coveredNodes= getFullyCoveredNodes(context, coveringNode);
-			return getConvertToIfReturnProposals(context, coveringNode, null)
-					|| getInverseIfProposals(context, coveringNode, null)
-					|| getIfReturnIntoIfElseAtEndOfVoidMethodProposals(context, coveringNode, null)
-					|| getInverseIfContinueIntoIfThenInLoopsProposals(context, coveringNode, null)
-					|| getInverseIfIntoContinueInLoopsProposals(context, coveringNode, null)
-					|| getInverseConditionProposals(context, coveringNode, coveredNodes, null)
-					|| getRemoveExtraParenthesesProposals(context, coveringNode, coveredNodes, null)
-					|| getAddParanoidalParenthesesProposals(context, coveredNodes, null)
-					|| getAddParenthesesForExpressionProposals(context, coveringNode, null)
-					|| getJoinAndIfStatementsProposals(context, coveringNode, null)
-					|| getSplitAndConditionProposals(context, coveringNode, null)
-					|| getJoinOrIfStatementsProposals(context, coveringNode, coveredNodes, null)
-					|| getSplitOrConditionProposals(context, coveringNode, null)
-					|| getInverseConditionalExpressionProposals(context, coveringNode, null)
-					|| getExchangeInnerAndOuterIfConditionsProposals(context, coveringNode, null)
-					|| getExchangeOperandsProposals(context, coveringNode, null)
-					|| getCastAndAssignIfStatementProposals(context, coveringNode, null)
-					|| getCombineStringProposals(context, coveringNode, null)
-					|| getPickOutStringProposals(context, coveringNode, null)
-					|| getReplaceIfElseWithConditionalProposals(context, coveringNode, null)
-					|| getReplaceConditionalWithIfElseProposals(context, coveringNode, null)
-					|| getInverseLocalVariableProposals(context, coveringNode, null)
-					|| getPushNegationDownProposals(context, coveringNode, null)
-					|| getPullNegationUpProposals(context, coveredNodes, null)
-					|| getJoinIfListInIfElseIfProposals(context, coveringNode, coveredNodes, null)
-					|| getConvertSwitchToIfProposals(context, coveringNode, null)
-					|| getConvertIfElseToSwitchProposals(context, coveringNode, null)
-					|| GetterSetterCorrectionSubProcessor.addGetterSetterProposal(context, coveringNode, null, null)
-					|| getGettersSettersForTypeProposals(coveringNode, null)
-					|| getHashCodeEqualsForTypeProposals(coveringNode, null)
-					|| getToStringForTypeProposals(coveringNode, null)
-					|| ExternalNullAnnotationQuickAssistProcessor.canAssist(context);
+			return fIndex.hasAssist(context, coveringNode, coveredNodes);
 		}
 		return false;
 	}
 
+	private QuickAssistIndex createIndex() {
+		QuickAssistIndex index= new QuickAssistIndex();
+		index.add("convertToIfReturn", (c, n, covered) -> getConvertToIfReturnProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("inverseIf", (c, n, covered) -> getInverseIfProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("ifReturnIntoIfElseAtEndOfVoidMethod", (c, n, covered) -> getIfReturnIntoIfElseAtEndOfVoidMethodProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("inverseIfContinueIntoIfThenInLoops", (c, n, covered) -> getInverseIfContinueIntoIfThenInLoopsProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("inverseIfIntoContinueInLoops", (c, n, covered) -> getInverseIfIntoContinueInLoopsProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("inverseCondition", (c, n, covered) -> getInverseConditionProposals(c, n, covered, null)); //$NON-NLS-1$
+		index.add("removeExtraParentheses", (c, n, covered) -> getRemoveExtraParenthesesProposals(c, n, covered, null)); //$NON-NLS-1$
+		index.add("addParanoidalParentheses", (c, n, covered) -> getAddParanoidalParenthesesProposals(c, covered, null)); //$NON-NLS-1$
+		index.add("addParenthesesForExpression", (c, n, covered) -> getAddParenthesesForExpressionProposals(c, n, null)); //$NON-NLS-1$
+		index.add("joinAndIfStatements", (c, n, covered) -> getJoinAndIfStatementsProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("splitAndCondition", (c, n, covered) -> getSplitAndConditionProposals(c, n, null), ASTNode.INFIX_EXPRESSION); //$NON-NLS-1$
+		index.addCovered("joinOrIfStatements", (c, n, covered) -> getJoinOrIfStatementsProposals(c, n, covered, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("splitOrCondition", (c, n, covered) -> getSplitOrConditionProposals(c, n, null), ASTNode.INFIX_EXPRESSION); //$NON-NLS-1$
+		index.addEnclosing("inverseConditionalExpression", (c, n, covered) -> getInverseConditionalExpressionProposals(c, n, null), ASTNode.CONDITIONAL_EXPRESSION); //$NON-NLS-1$
+		index.add("exchangeInnerAndOuterIfConditions", (c, n, covered) -> getExchangeInnerAndOuterIfConditionsProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("exchangeOperands", (c, n, covered) -> getExchangeOperandsProposals(c, n, null), ASTNode.INFIX_EXPRESSION); //$NON-NLS-1$
+		index.add("castAndAssignIfStatement", (c, n, covered) -> getCastAndAssignIfStatementProposals(c, n, null), //$NON-NLS-1$
+				new int[] { ASTNode.IF_STATEMENT, ASTNode.WHILE_STATEMENT }, new int[] { ASTNode.INSTANCEOF_EXPRESSION }, new int[0]);
+		index.add("combineString", (c, n, covered) -> getCombineStringProposals(c, n, null), ASTNode.INFIX_EXPRESSION); //$NON-NLS-1$
+		index.add("pickOutString", (c, n, covered) -> getPickOutStringProposals(c, n, null), ASTNode.STRING_LITERAL); //$NON-NLS-1$
+		index.add("replaceIfElseWithConditional", (c, n, covered) -> getReplaceIfElseWithConditionalProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("replaceConditionalWithIfElse", (c, n, covered) -> getReplaceConditionalWithIfElseProposals(c, n, null)); //$NON-NLS-1$
+		index.add("inverseLocalVariable", (c, n, covered) -> getInverseLocalVariableProposals(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("pushNegationDown", (c, n, covered) -> getPushNegationDownProposals(c, n, null), ASTNode.PREFIX_EXPRESSION); //$NON-NLS-1$
+		index.add("pullNegationUp", (c, n, covered) -> getPullNegationUpProposals(c, covered, null)); //$NON-NLS-1$
+		index.addCovered("joinIfListInIfElseIf", (c, n, covered) -> getJoinIfListInIfElseIfProposals(c, n, covered, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("convertSwitchToIf", (c, n, covered) -> getConvertSwitchToIfProposals(c, n, null), ASTNode.SWITCH_STATEMENT); //$NON-NLS-1$
+		index.add("convertIfElseToSwitch", (c, n, covered) -> getConvertIfElseToSwitchProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("getterSetter", (c, n, covered) -> GetterSetterCorrectionSubProcessor.addGetterSetterProposal(c, n, null, null)); //$NON-NLS-1$
+		index.add("gettersSettersForType", (c, n, covered) -> getGettersSettersForTypeProposals(n, null), ASTNode.RECORD_DECLARATION, ASTNode.TYPE_DECLARATION); //$NON-NLS-1$
+		index.add("hashCodeEqualsForType", (c, n, covered) -> getHashCodeEqualsForTypeProposals(n, null), ASTNode.TYPE_DECLARATION); //$NON-NLS-1$
+		index.add("toStringForType", (c, n, covered) -> getToStringForTypeProposals(n, null), ASTNode.TYPE_DECLARATION); //$NON-NLS-1$
+		index.add("externalNullAnnotation", (c, n, covered) -> ExternalNullAnnotationQuickAssistProcessor.canAssist(c)); //$NON-NLS-1$
+		return index;
+	}
+
 	@Override
 	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
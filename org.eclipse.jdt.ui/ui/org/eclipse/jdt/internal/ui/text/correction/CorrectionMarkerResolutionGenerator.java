@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.MultiFixTarget;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -62,7 +63,6 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.text.java.CompletionProposalComparator;
-import org.eclipse.jdt.ui.text.java.IInvocationContext;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
@@ -350,7 +350,11 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 				IProblemLocation location= findProblemLocation(input, marker);
 				if (location != null) {
 
-					IInvocationContext context= new AssistContext(cu,  location.getOffset(), location.getLength());
+					AssistContext context= new AssistContext(cu,  location.getOffset(), location.getLength());
+					// the other markers of the compilation unit are likely asked for next
+					CompilationUnit astRoot= QuickFixASTCache.getInstance().getAST(cu);
+					if (astRoot != null)
+						context.setASTRoot(astRoot);
 					if (!hasProblem(context.getASTRoot().getProblems(), location) && !(marker.getResource() instanceof IFolder))
 						return NO_RESOLUTIONS;
 
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.PerformanceStats;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+import org.eclipse.jdt.ui.text.java.IQuickAssistProcessor;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The probes answering {@link IQuickAssistProcessor#hasAssists(IInvocationContext)} of a quick
+ * assist processor, indexed by the types of the AST nodes they apply to.
+ * <p>
+ * A probe is only run if one of the nodes it is registered for has one of its node types:
+ * </p>
+ * <ul>
+ * <li>{@link #add(String, Probe, int...)}: the covering node or its parent, for probes that look at
+ * the covering node and possibly one level up,</li>
+ * <li>{@link #addEnclosing(String, Probe, int...)}: the covering node or any of its ancestors, for
+ * probes that search the enclosing node,</li>
+ * <li>{@link #addCovered(String, Probe, int...)}: one of the fully covered nodes, for probes that
+ * look at the selected nodes.</li>
+ * </ul>
+ * <p>
+ * Probes declaring no node types are always run. The probes are run in the order they were added
+ * until one of them answers <code>true</code>.
+ * </p>
+ * <p>
+ * A probe that took longer than {@link #PROBE_BUDGET} milliseconds the last time is run after the
+ * others, so that cheaper probes get the chance to answer first. The budget only changes the order:
+ * every applicable probe is still run until one answers <code>true</code>. If the tracing option
+ * <code>org.eclipse.jdt.ui/perf/quickassist/probes</code> is set, the time of every probe is
+ * reported to the {@link PerformanceStats} service.
+ * </p>
+ *
+ * @since 3.34
+ */
+final class QuickAssistIndex {
+
+	/**
+	 * Tells whether a quick assist is available, without computing its proposals.
+	 */
+	@FunctionalInterface
+	interface Probe {
+		boolean hasAssist(IInvocationContext context, ASTNode coveringNode, ArrayList<ASTNode> coveredNodes) throws CoreException;
+	}
+
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/quickassist/probes"; //$NON-NLS-1$
+
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
+	/**
+	 * The time in milliseconds a probe may take before it is run after the others.
+	 */
+	private static final long PROBE_BUDGET= 20;
+
+	private static final class Entry {
+		final String fName;
+		final Probe fProbe;
+		volatile boolean fSlow;
+
+		Entry(String name, Probe probe) {
+			fName= name;
+			fProbe= probe;
+		}
+	}
+
+	private final List<Entry> fEntries= new ArrayList<>();
+
+	/**
+	 * The probes without node types.
+	 */
+	private final BitSet fAlways= new BitSet();
+
+	/**
+	 * The probes by the node type of the covering node or its parent.
+	 */
+	private BitSet[] fByNodeType= new BitSet[0];
+
+	/**
+	 * The probes by the node type of the covering node or one of its ancestors.
+	 */
+	private BitSet[] fByEnclosingNodeType= new BitSet[0];
+
+	/**
+	 * The probes by the node type of one of the fully covered nodes.
+	 */
+	private BitSet[] fByCoveredNodeType= new BitSet[0];
+
+	/**
+	 * Adds a probe applying to the covering node or its parent.
+	 *
+	 * @param name the name of the probe, used when reporting its time
+	 * @param probe the probe
+	 * @param nodeTypes the types of the nodes the probe applies to, see {@link ASTNode#getNodeType()},
+	 *            or none if it applies anywhere
+	 */
+	void add(String name, Probe probe, int... nodeTypes) {
+		add(name, probe, nodeTypes, new int[0], new int[0]);
+	}
+
+	/**
+	 * Adds a probe applying to the covering node or one of its ancestors.
+	 *
+	 * @param name the name of the probe, used when reporting its time
+	 * @param probe the probe
+	 * @param enclosingNodeTypes the types of the enclosing nodes the probe applies to
+	 */
+	void addEnclosing(String name, Probe probe, int... enclosingNodeTypes) {
+		add(name, probe, new int[0], enclosingNodeTypes, new int[0]);
+	}
+
+	/**
+	 * Adds a probe applying to the fully covered nodes.
+	 *
+	 * @param name the name of the probe, used when reporting its time
+	 * @param probe the probe
+	 * @param coveredNodeTypes the types of the covered nodes the probe applies to
+	 */
+	void addCovered(String name, Probe probe, int... coveredNodeTypes) {
+		add(name, probe, new int[0], new int[0], coveredNodeTypes);
+	}
+
+	/**
+	 * Adds a probe applying to several kinds of nodes. The probe is always run if no node types are
+	 * given at all.
+	 *
+	 * @param name the name of the probe, used when reporting its time
+	 * @param probe the probe
+	 * @param nodeTypes the types of the covering node or its parent the probe applies to
+	 * @param enclosingNodeTypes the types of the enclosing nodes the probe applies to
+	 * @param coveredNodeTypes the types of the covered nodes the probe applies to
+	 */
+	void add(String name, Probe probe, int[] nodeTypes, int[] enclosingNodeTypes, int[] coveredNodeTypes) {
+		int index= fEntries.size();
+		fEntries.add(new Entry(name, probe));
+		if (nodeTypes.length == 0 && enclosingNodeTypes.length == 0 && coveredNodeTypes.length == 0) {
+			fAlways.set(index);
+			return;
+		}
+		fByNodeType= register(fByNodeType, nodeTypes, index);
+		fByEnclosingNodeType= register(fByEnclosingNodeType, enclosingNodeTypes, index);
+		fByCoveredNodeType= register(fByCoveredNodeType, coveredNodeTypes, index);
+	}
+
+	private static BitSet[] register(BitSet[] byNodeType, int[] nodeTypes, int index) {
+		for (int nodeType : nodeTypes) {
+			if (nodeType >= byNodeType.length)
+				byNodeType= Arrays.copyOf(byNodeType, nodeType + 1);
+			if (byNodeType[nodeType] == null)
+				byNodeType[nodeType]= new BitSet();
+			byNodeType[nodeType].set(index);
+		}
+		return byNodeType;
+	}
+
+	/**
+	 * Runs the probes applying to the selection until one of them answers <code>true</code>.
+	 *
+	 * @param context the invocation context
+	 * @param coveringNode the covering node of the selection
+	 * @param coveredNodes the fully covered nodes of the selection
+	 * @return <code>true</code> if one of the probes answers <code>true</code>
+	 * @throws CoreException if a probe fails
+	 */
+	boolean hasAssist(IInvocationContext context, ASTNode coveringNode, ArrayList<ASTNode> coveredNodes) throws CoreException {
+		BitSet candidates= (BitSet) fAlways.clone();
+		addCandidates(fByNodeType, coveringNode, candidates);
+		if (coveringNode.getParent() != null) {
+			addCandidates(fByNodeType, coveringNode.getParent(), candidates);
+		}
+		for (ASTNode node= coveringNode; node != null; node= node.getParent()) {
+			addCandidates(fByEnclosingNodeType, node, candidates);
+		}
+		for (ASTNode node : coveredNodes) {
+			addCandidates(fByCoveredNodeType, node, candidates);
+		}
+
+		for (int i= candidates.nextSetBit(0); i >= 0; i= candidates.nextSetBit(i + 1)) {
+			Entry entry= fEntries.get(i);
+			if (entry.fSlow) {
+				continue;
+			}
+			if (run(entry, context, coveringNode, coveredNodes)) {
+				return true;
+			}
+			candidates.clear(i);
+		}
+		for (int i= candidates.nextSetBit(0); i >= 0; i= candidates.nextSetBit(i + 1)) {
+			if (run(fEntries.get(i), context, coveringNode, coveredNodes)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addCandidates(BitSet[] byNodeType, ASTNode node, BitSet candidates) {
+		int nodeType= node.getNodeType();
+		if (nodeType < byNodeType.length && byNodeType[nodeType] != null) {
+			candidates.or(byNodeType[nodeType]);
+		}
+	}
+
+	private static boolean run(Entry entry, IInvocationContext context, ASTNode coveringNode, ArrayList<ASTNode> coveredNodes) throws CoreException {
+		PerformanceStats stats= null;
+		if (MEASURE_PERFORMANCE) {
+			stats= PerformanceStats.getStats(PERFORMANCE_EVENT, entry.fName);
+			stats.startRun();
+		}
+		long start= System.currentTimeMillis();
+		try {
+			return entry.fProbe.hasAssist(context, coveringNode, coveredNodes);
+		} finally {
+			entry.fSlow= System.currentTimeMillis() - start > PROBE_BUDGET;
+			if (stats != null) {
+				stats.endRun();
+			}
+		}
+	}
+}
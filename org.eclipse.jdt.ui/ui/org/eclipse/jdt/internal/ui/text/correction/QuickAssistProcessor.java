@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -278,6 +278,8 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 
 	public static final Pattern FIELD_NAMING_PATTERN= Pattern.compile("^[A-Z0-9]+(_[A-Z0-9]+)*$"); //$NON-NLS-1$
 
+	private final QuickAssistIndex fIndex= createIndex();
+
 	public QuickAssistProcessor() {
 		super();
 	}
@@ -287,70 +289,86 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
 			ArrayList<ASTNode> coveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(context, coveringNode);
-			return getCatchClauseToThrowsProposals(context, coveringNode, null)
-					|| getPickoutTypeFromMulticatchProposals(context, coveringNode, coveredNodes, null)
-					|| getConvertToMultiCatchProposals(context, coveringNode, null)
-					|| getUnrollMultiCatchProposals(context, coveringNode, null)
-					|| getRenameLocalProposals(context, coveringNode, null, null)
-					|| getRenameRefactoringProposal(context, coveringNode, null, null)
-					|| getAssignToVariableProposals(context, coveringNode, null, null)
-					|| getUnWrapProposals(context, coveringNode, null)
-					|| getAssignParamToFieldProposals(context, coveringNode, null)
-					|| getAssignAllParamsToFieldsProposals(context, coveringNode, null)
-					|| getJoinVariableProposals(context, coveringNode, null)
-					|| getAddFinallyProposals(context, coveringNode, null)
-					|| getAddElseProposals(context, coveringNode, null)
-					|| getSplitVariableProposals(context, coveringNode, null)
-					|| getAddBlockProposals(context, coveringNode, null)
-					|| getTryWithResourceProposals(context, coveringNode, null, null)
-					|| getArrayInitializerToArrayCreation(context, coveringNode, null)
-					|| getCreateInSuperClassProposals(context, coveringNode, null)
-					|| getInvertEqualsProposal(context, coveringNode, null)
-					|| getConvertForLoopProposal(context, coveringNode, null)
-					|| getConvertIterableLoopProposal(context, coveringNode, null)
-					|| getConvertEnhancedForLoopProposal(context, coveringNode, null)
-					|| getGenerateForLoopProposals(context, coveringNode, null, null)
-					|| getUnnecessaryArrayCreationProposal(context, coveringNode, null)
-					|| getExtractVariableProposal(context, false, null)
-					|| getExtractAnonymousClassProposal(context, coveringNode, null)
-					|| getExtractMethodProposal(context, coveringNode, false, null)
-					|| getExtractMethodFromLambdaProposal(context, coveringNode, false, null)
-					|| getInlineLocalProposal(context, coveringNode, null)
-					|| getConvertFieldNamingConventionProposal(context, coveringNode, null)
-					|| getConvertLocalToFieldProposal(context, coveringNode, null)
-					|| getConvertAnonymousToNestedProposal(context, coveringNode, null)
-					|| getConvertAnonymousClassCreationsToLambdaProposals(context, coveringNode, null)
-					|| getConvertLambdaToAnonymousClassCreationsProposals(context, coveringNode, null)
-					|| getChangeLambdaBodyToBlockProposal(context, coveringNode, null)
-					|| getChangeLambdaBodyToExpressionProposal(context, coveringNode, null)
-					|| getAddInferredLambdaParameterTypes(context, coveringNode, null)
-					|| getAddVarLambdaParameterTypes(context, coveringNode, null)
-					|| getAddMethodDeclaration(context, coveringNode, null)
-					|| getRemoveVarOrInferredLambdaParameterTypes(context, coveringNode, null)
-					|| getConvertMethodReferenceToLambdaProposal(context, coveringNode, null)
-					|| getConvertLambdaToMethodReferenceProposal(context, coveringNode, null)
-					|| getConvertToSwitchExpressionProposals(context, coveringNode, null)
-					|| getFixParenthesesInLambdaExpression(context, coveringNode, null)
-					|| getRemoveBlockProposals(context, coveringNode, null)
-					|| getMakeVariableDeclarationFinalProposals(context, null)
-					|| getMissingCaseStatementProposals(context, coveringNode, null)
-					|| ConvertStringConcatenationProposals.getProposals(context, null)
-					|| getInferDiamondArgumentsProposal(context, coveringNode, null, null)
-					|| getJUnitTestCaseProposal(context, coveringNode, null)
-					|| getNewImplementationProposal(context, coveringNode, null)
-					|| getNewInterfaceImplementationProposal(context, coveringNode, null)
-					|| getAddStaticImportProposals(context, coveringNode, null)
-					|| getDoWhileRatherThanWhileProposal(context, coveringNode, null)
-					|| getStringConcatToTextBlockProposal(context, coveringNode, null)
-					|| getAddStaticMemberFavoritesProposals(coveringNode, null)
-					|| getSplitSwitchLabelProposal(context, coveringNode, null)
-					|| getSplitTryResourceProposal(context, coveringNode, null)
-					|| getConvertPatternInstanceofIfStmtToSwitchProposals(context, coveringNode, null)
-					|| getDeprecatedProposal(context, coveringNode, null, null);
+			return fIndex.hasAssist(context, coveringNode, coveredNodes);
 		}
 		return false;
 	}
 
+	private QuickAssistIndex createIndex() {
+		QuickAssistIndex index= new QuickAssistIndex();
+		index.addEnclosing("catchClauseToThrows", (c, n, covered) -> getCatchClauseToThrowsProposals(c, n, null), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		index.addEnclosing("pickoutTypeFromMulticatch", (c, n, covered) -> getPickoutTypeFromMulticatchProposals(c, n, covered, null), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		index.addEnclosing("convertToMultiCatch", (c, n, covered) -> getConvertToMultiCatchProposals(c, n, null), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		index.addEnclosing("unrollMultiCatch", (c, n, covered) -> getUnrollMultiCatchProposals(c, n, null), ASTNode.CATCH_CLAUSE); //$NON-NLS-1$
+		index.add("renameLocal", (c, n, covered) -> getRenameLocalProposals(c, n, null, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("renameRefactoring", (c, n, covered) -> getRenameRefactoringProposal(c, n, null, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.addEnclosing("assignToVariable", (c, n, covered) -> getAssignToVariableProposals(c, n, null, null), ASTNode.EXPRESSION_STATEMENT); //$NON-NLS-1$
+		index.add("unWrap", (c, n, covered) -> getUnWrapProposals(c, n, null)); //$NON-NLS-1$
+		index.addEnclosing("assignParamToField", (c, n, covered) -> getAssignParamToFieldProposals(c, n, null), ASTNode.SINGLE_VARIABLE_DECLARATION); //$NON-NLS-1$
+		index.addEnclosing("assignAllParamsToFields", (c, n, covered) -> getAssignAllParamsToFieldsProposals(c, n, null), ASTNode.SINGLE_VARIABLE_DECLARATION); //$NON-NLS-1$
+		index.add("joinVariable", (c, n, covered) -> getJoinVariableProposals(c, n, null), ASTNode.ASSIGNMENT, ASTNode.VARIABLE_DECLARATION_FRAGMENT); //$NON-NLS-1$
+		index.addEnclosing("addFinally", (c, n, covered) -> getAddFinallyProposals(c, n, null), ASTNode.TRY_STATEMENT); //$NON-NLS-1$
+		index.add("addElse", (c, n, covered) -> getAddElseProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("splitVariable", (c, n, covered) -> getSplitVariableProposals(c, n, null), ASTNode.VARIABLE_DECLARATION_FRAGMENT); //$NON-NLS-1$
+		index.add("addBlock", (c, n, covered) -> getAddBlockProposals(c, n, null)); //$NON-NLS-1$
+		index.add("tryWithResource", (c, n, covered) -> getTryWithResourceProposals(c, n, covered, null)); //$NON-NLS-1$
+		index.add("arrayInitializerToArrayCreation", (c, n, covered) -> getArrayInitializerToArrayCreation(c, n, null), ASTNode.ARRAY_INITIALIZER); //$NON-NLS-1$
+		index.add("createInSuperClass", (c, n, covered) -> getCreateInSuperClassProposals(c, n, null), ASTNode.METHOD_DECLARATION); //$NON-NLS-1$
+		index.add("invertEquals", (c, n, covered) -> getInvertEqualsProposal(c, n, null), ASTNode.METHOD_INVOCATION); //$NON-NLS-1$
+		index.addEnclosing("convertForLoop", (c, n, covered) -> getConvertForLoopProposal(c, n, null), ASTNode.FOR_STATEMENT); //$NON-NLS-1$
+		index.addEnclosing("convertIterableLoop", (c, n, covered) -> getConvertIterableLoopProposal(c, n, null), ASTNode.FOR_STATEMENT); //$NON-NLS-1$
+		index.addEnclosing("convertEnhancedForLoop", (c, n, covered) -> getConvertEnhancedForLoopProposal(c, n, null), ASTNode.ENHANCED_FOR_STATEMENT); //$NON-NLS-1$
+		index.addEnclosing("generateForLoop", (c, n, covered) -> getGenerateForLoopProposals(c, n, null, null), ASTNode.EXPRESSION_STATEMENT); //$NON-NLS-1$
+		index.addEnclosing("unnecessaryArrayCreation", (c, n, covered) -> getUnnecessaryArrayCreationProposal(c, n, null), ASTNode.METHOD_INVOCATION, ASTNode.SUPER_METHOD_INVOCATION); //$NON-NLS-1$
+		index.add("extractVariable", (c, n, covered) -> getExtractVariableProposal(c, false, null)); //$NON-NLS-1$
+		index.addEnclosing("extractAnonymousClass", (c, n, covered) -> getExtractAnonymousClassProposal(c, n, null), ASTNode.ANONYMOUS_CLASS_DECLARATION); //$NON-NLS-1$
+		index.add("extractMethod", (c, n, covered) -> getExtractMethodProposal(c, n, false, null)); //$NON-NLS-1$
+		index.addEnclosing("extractMethodFromLambda", (c, n, covered) -> getExtractMethodFromLambdaProposal(c, n, false, null), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		index.add("inlineLocal", (c, n, covered) -> getInlineLocalProposal(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("convertFieldNamingConvention", (c, n, covered) -> getConvertFieldNamingConventionProposal(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("convertLocalToField", (c, n, covered) -> getConvertLocalToFieldProposal(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.addEnclosing("convertAnonymousToNested", (c, n, covered) -> getConvertAnonymousToNestedProposal(c, n, null), ASTNode.CLASS_INSTANCE_CREATION); //$NON-NLS-1$
+		index.addEnclosing("convertAnonymousClassCreationsToLambda", (c, n, covered) -> getConvertAnonymousClassCreationsToLambdaProposals(c, n, null), ASTNode.CLASS_INSTANCE_CREATION); //$NON-NLS-1$
+		index.add("convertLambdaToAnonymousClassCreations", (c, n, covered) -> getConvertLambdaToAnonymousClassCreationsProposals(c, n, null), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		index.add("changeLambdaBodyToBlock", (c, n, covered) -> getChangeLambdaBodyToBlockProposal(c, n, null), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		index.add("changeLambdaBodyToExpression", (c, n, covered) -> getChangeLambdaBodyToExpressionProposal(c, n, null), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		index.add("addInferredLambdaParameterTypes", (c, n, covered) -> getAddInferredLambdaParameterTypes(c, n, null), //$NON-NLS-1$
+				ASTNode.LAMBDA_EXPRESSION, ASTNode.SINGLE_VARIABLE_DECLARATION, ASTNode.VARIABLE_DECLARATION_FRAGMENT);
+		index.add("addVarLambdaParameterTypes", (c, n, covered) -> getAddVarLambdaParameterTypes(c, n, null), //$NON-NLS-1$
+				ASTNode.LAMBDA_EXPRESSION, ASTNode.SINGLE_VARIABLE_DECLARATION, ASTNode.VARIABLE_DECLARATION_FRAGMENT);
+		index.addEnclosing("addMethodDeclaration", (c, n, covered) -> getAddMethodDeclaration(c, n, null), ASTNode.EXPRESSION_METHOD_REFERENCE); //$NON-NLS-1$
+		index.add("removeVarOrInferredLambdaParameterTypes", (c, n, covered) -> getRemoveVarOrInferredLambdaParameterTypes(c, n, null), //$NON-NLS-1$
+				ASTNode.LAMBDA_EXPRESSION, ASTNode.SINGLE_VARIABLE_DECLARATION, ASTNode.VARIABLE_DECLARATION_FRAGMENT);
+		index.add("convertMethodReferenceToLambda", (c, n, covered) -> getConvertMethodReferenceToLambdaProposal(c, n, null), //$NON-NLS-1$
+				ASTNode.CREATION_REFERENCE, ASTNode.EXPRESSION_METHOD_REFERENCE, ASTNode.SUPER_METHOD_REFERENCE, ASTNode.TYPE_METHOD_REFERENCE);
+		index.addEnclosing("convertLambdaToMethodReference", (c, n, covered) -> getConvertLambdaToMethodReferenceProposal(c, n, null), ASTNode.LAMBDA_EXPRESSION); //$NON-NLS-1$
+		index.add("convertToSwitchExpression", (c, n, covered) -> getConvertToSwitchExpressionProposals(c, n, null)); //$NON-NLS-1$
+		index.add("fixParenthesesInLambdaExpression", (c, n, covered) -> getFixParenthesesInLambdaExpression(c, n, null), ASTNode.LAMBDA_EXPRESSION, ASTNode.VARIABLE_DECLARATION_FRAGMENT); //$NON-NLS-1$
+		index.add("removeBlock", (c, n, covered) -> getRemoveBlockProposals(c, n, null), //$NON-NLS-1$
+				ASTNode.IF_STATEMENT, ASTNode.WHILE_STATEMENT, ASTNode.FOR_STATEMENT, ASTNode.ENHANCED_FOR_STATEMENT, ASTNode.DO_STATEMENT);
+		index.add("makeVariableDeclarationFinal", (c, n, covered) -> getMakeVariableDeclarationFinalProposals(c, null)); //$NON-NLS-1$
+		index.add("missingCaseStatement", (c, n, covered) -> getMissingCaseStatementProposals(c, n, null), ASTNode.SWITCH_STATEMENT); //$NON-NLS-1$
+		index.add("convertVarTypeToResolvedType", (c, n, covered) -> getConvertVarTypeToResolvedTypeProposal(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("convertResolvedTypeToVarType", (c, n, covered) -> getConvertResolvedTypeToVarTypeProposal(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("convertStringConcatenation", (c, n, covered) -> ConvertStringConcatenationProposals.getProposals(c, null)); //$NON-NLS-1$
+		index.addEnclosing("inferDiamondArguments", (c, n, covered) -> getInferDiamondArgumentsProposal(c, n, null, new ArrayList<>()), ASTNode.CLASS_INSTANCE_CREATION); //$NON-NLS-1$
+		index.add("junitTestCase", (c, n, covered) -> getJUnitTestCaseProposal(c, n, null), //$NON-NLS-1$
+				ASTNode.ANNOTATION_TYPE_DECLARATION, ASTNode.ENUM_DECLARATION, ASTNode.RECORD_DECLARATION, ASTNode.TYPE_DECLARATION);
+		index.add("newImplementation", (c, n, covered) -> getNewImplementationProposal(c, n, null), ASTNode.TYPE_DECLARATION); //$NON-NLS-1$
+		index.add("newInterfaceImplementation", (c, n, covered) -> getNewInterfaceImplementationProposal(c, n, null), ASTNode.TYPE_DECLARATION); //$NON-NLS-1$
+		index.add("addStaticImport", (c, n, covered) -> getAddStaticImportProposals(c, n, null), ASTNode.SIMPLE_NAME); //$NON-NLS-1$
+		index.add("doWhileRatherThanWhile", (c, n, covered) -> getDoWhileRatherThanWhileProposal(c, n, null), ASTNode.WHILE_STATEMENT); //$NON-NLS-1$
+		index.add("stringConcatToTextBlock", (c, n, covered) -> getStringConcatToTextBlockProposal(c, n, null), //$NON-NLS-1$
+				new int[] { ASTNode.ASSIGNMENT, ASTNode.INFIX_EXPRESSION, ASTNode.VARIABLE_DECLARATION_FRAGMENT },
+				new int[] { ASTNode.FIELD_DECLARATION, ASTNode.VARIABLE_DECLARATION_STATEMENT }, new int[0]);
+		index.addEnclosing("addStaticMemberFavorites", (c, n, covered) -> getAddStaticMemberFavoritesProposals(n, null), ASTNode.IMPORT_DECLARATION); //$NON-NLS-1$
+		index.add("splitSwitchLabel", (c, n, covered) -> getSplitSwitchLabelProposal(c, n, null), ASTNode.SWITCH_CASE); //$NON-NLS-1$
+		index.addEnclosing("splitTryResource", (c, n, covered) -> getSplitTryResourceProposal(c, n, null), ASTNode.VARIABLE_DECLARATION_EXPRESSION); //$NON-NLS-1$
+		index.addEnclosing("convertPatternInstanceofIfStmtToSwitch", (c, n, covered) -> getConvertPatternInstanceofIfStmtToSwitchProposals(c, n, null), ASTNode.IF_STATEMENT); //$NON-NLS-1$
+		index.add("deprecated", (c, n, covered) -> getDeprecatedProposal(c, n, null, null), ASTNode.METHOD_INVOCATION); //$NON-NLS-1$
+		return index;
+	}
+
 	@Override
 	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
@@ -2063,6 +2081,9 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 		if (coveredAutoClosableNodes.isEmpty()) {
 			return false;
 		}
+		if (resultingCollections == null) {
+			return true;
+		}
 
 		ASTNode parentBodyDeclaration= (node instanceof Block || node instanceof BodyDeclaration)
 				? node
@@ -2515,6 +2536,9 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 				}
 			}
 		}
+		if (resultingCollections == null) {
+			return true;
+		}
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_ADD);
 		String desc= CorrectionMessages.QuickAssistProcessor_modify_favorites_desc;
 		if (decl.isOnDemand()) {
@@ -3255,6 +3279,9 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			return false;
 		}
 
+		if (proposals == null) {
+			return true;
+		}
 		proposals.add(new TypeChangeCorrectionProposal(context.getCompilationUnit(), varBinding, astRoot, typeBinding, false, IProposalRelevance.CHANGE_TYPE_FROM_VAR));
 		return true;
 	}
@@ -3358,6 +3385,9 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			return false;
 		}
 
+		if (proposals == null) {
+			return true;
+		}
 		proposals.add(new TypeChangeCorrectionProposal(context.getCompilationUnit(), varBinding, astRoot, typeBinding, IProposalRelevance.CHANGE_TYPE_TO_VAR));
 		return true;
 	}
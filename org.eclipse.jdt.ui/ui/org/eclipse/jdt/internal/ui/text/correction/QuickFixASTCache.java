@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+
+/**
+ * The ASTs shared by the marker resolutions of the same compilation unit.
+ * <p>
+ * The Problems view asks {@link CorrectionMarkerResolutionGenerator} for the resolutions of every
+ * selected marker separately. Without sharing, each marker parses its compilation unit again, and
+ * each resolution keeps its own AST. The ASTs of the most recently used compilation units are
+ * therefore kept for a short time, softly referenced, and discarded as soon as a Java element
+ * delta reports any change, so that they always match the markers' positions.
+ * </p>
+ * <p>
+ * The delta listener is only registered while ASTs are kept.
+ * </p>
+ *
+ * @since 3.34
+ */
+public final class QuickFixASTCache {
+
+	private static final int MAX_SIZE= 8;
+
+	/**
+	 * The time in milliseconds after its last use that an AST is discarded.
+	 */
+	private static final long TIMEOUT= 10000;
+
+	private static final class Entry {
+		final SoftReference<CompilationUnit> fAST;
+		long fLastUse;
+
+		Entry(CompilationUnit ast) {
+			fAST= new SoftReference<>(ast);
+		}
+	}
+
+	private static QuickFixASTCache fgInstance;
+
+	private final Map<ICompilationUnit, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+	private final IElementChangedListener fDeltaListener= event -> clear();
+	private boolean fListening;
+
+	/**
+	 * Incremented whenever the ASTs are discarded, so that an AST parsed before a change is not
+	 * stored.
+	 */
+	private int fGeneration;
+
+	static synchronized QuickFixASTCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new QuickFixASTCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		fgInstance.clear();
+		fgInstance= null;
+	}
+
+	private QuickFixASTCache() {
+	}
+
+	/**
+	 * Returns an AST of a compilation unit with resolved bindings, for computing quick fixes.
+	 *
+	 * @param cu the compilation unit
+	 * @return the AST, or <code>null</code> if the compilation unit cannot be parsed
+	 */
+	CompilationUnit getAST(ICompilationUnit cu) {
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_ACTIVE_ONLY, null);
+		if (ast != null)
+			return ast; // the editor's AST is shared already
+
+		int generation;
+		synchronized (this) {
+			long now= System.currentTimeMillis();
+			removeExpired(now);
+			Entry entry= fEntries.get(cu);
+			if (entry != null) {
+				ast= entry.fAST.get();
+				if (ast != null) {
+					entry.fLastUse= now;
+					return ast;
+				}
+			}
+			generation= fGeneration;
+		}
+
+		ast= ASTResolving.createQuickFixAST(cu, null);
+		if (ast != null) {
+			synchronized (this) {
+				if (generation == fGeneration) {
+					Entry entry= new Entry(ast);
+					entry.fLastUse= System.currentTimeMillis();
+					fEntries.put(cu, entry);
+					if (fEntries.size() > MAX_SIZE)
+						fEntries.remove(fEntries.keySet().iterator().next());
+					if (!fListening) {
+						JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+						fListening= true;
+					}
+				}
+			}
+		}
+		return ast;
+	}
+
+	private void removeExpired(long now) {
+		for (Iterator<Entry> iterator= fEntries.values().iterator(); iterator.hasNext();) {
+			Entry entry= iterator.next();
+			if (now - entry.fLastUse > TIMEOUT || entry.fAST.get() == null)
+				iterator.remove();
+		}
+	}
+
+	private synchronized void clear() {
+		fEntries.clear();
+		fGeneration++;
+		if (fListening) {
+			JavaCore.removeElementChangedListener(fDeltaListener);
+			fListening= false;
+		}
+	}
+}
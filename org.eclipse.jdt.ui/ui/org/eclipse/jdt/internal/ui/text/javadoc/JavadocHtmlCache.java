@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Remembers the Javadoc HTML rendered by {@link JavadocContentAccess2#getHTMLContent(IJavaElement, boolean)}
+ * for the Javadoc hover and the Javadoc view, so that showing the documentation of the same
+ * element again does not resolve inherited documentation, evaluate snippets, or read attached
+ * Javadoc again.
+ * <p>
+ * Elements from source are remembered until a Java element delta reports a change of their
+ * compilation unit, or a change of a compilation unit that declares a member with the same name,
+ * since documentation is inherited from members with the same name. Changes of types, packages,
+ * and class paths discard all elements from source. Elements from
+ * libraries are remembered together with a stamp of their archive, source attachment, and Javadoc
+ * location, and are kept across sessions. Elements in class folders are not remembered, since a
+ * class folder has no stamp that tells whether its content changed, and neither are elements of
+ * working copies that are not primary.
+ * </p>
+ * <p>
+ * Both kinds are kept in least recently used order and bounded by the total length of their
+ * HTML.
+ * </p>
+ *
+ * @since 3.34
+ */
+public final class JavadocHtmlCache {
+
+	/**
+	 * Boolean preference that tells whether Java editors render the Javadoc of the members
+	 * referenced in their visible part into this cache in the background. Off by default.
+	 */
+	public static final String PREF_PREFETCH= "org.eclipse.jdt.ui.javadoc.prefetch"; //$NON-NLS-1$
+
+	/**
+	 * Upper bound of the characters remembered for elements from source.
+	 */
+	private static final int SOURCE_CACHE_SIZE= 1 << 20;
+
+	/**
+	 * Upper bound of the characters remembered for elements from libraries.
+	 */
+	private static final int BINARY_CACHE_SIZE= 4 << 20;
+
+	private static final String STORE_FILE= "javadocHtmlCache.dat"; //$NON-NLS-1$
+	private static final int STORE_VERSION= 2;
+
+	private static final class Entry {
+		final String fStamp;
+		final String fHtml;
+		/**
+		 * The name of the member documented by an element from source, or <code>null</code>.
+		 */
+		final String fMemberName;
+
+		Entry(String stamp, String html, String memberName) {
+			fStamp= stamp;
+			fHtml= html;
+			fMemberName= memberName;
+		}
+
+		int getSize(String key) {
+			return key.length() + (fStamp != null ? fStamp.length() : 0) + (fHtml != null ? fHtml.length() : 0);
+		}
+	}
+
+	/**
+	 * Entries in least recently used order, bounded by their total size.
+	 */
+	private static final class BoundedCache {
+		private final LinkedHashMap<String, Entry> fEntries= new LinkedHashMap<>(64, 0.75f, true);
+		private final int fMaxSize;
+		private int fSize;
+
+		BoundedCache(int maxSize) {
+			fMaxSize= maxSize;
+		}
+
+		Entry get(String key) {
+			return fEntries.get(key);
+		}
+
+		void put(String key, Entry entry) {
+			int size= entry.getSize(key);
+			if (size > fMaxSize)
+				return;
+			Entry old= fEntries.put(key, entry);
+			if (old != null)
+				fSize-= old.getSize(key);
+			fSize+= size;
+			Iterator<Map.Entry<String, Entry>> iterator= fEntries.entrySet().iterator();
+			while (fSize > fMaxSize && iterator.hasNext()) {
+				Map.Entry<String, Entry> eldest= iterator.next();
+				fSize-= eldest.getValue().getSize(eldest.getKey());
+				iterator.remove();
+			}
+		}
+
+		void clear() {
+			fEntries.clear();
+			fSize= 0;
+		}
+
+		void removeAll(List<String> keyPrefixes, Set<String> memberNames) {
+			Iterator<Map.Entry<String, Entry>> iterator= fEntries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, Entry> entry= iterator.next();
+				if (memberNames.contains(entry.getValue().fMemberName) || startsWithAny(entry.getKey(), keyPrefixes)) {
+					fSize-= entry.getValue().getSize(entry.getKey());
+					iterator.remove();
+				}
+			}
+		}
+
+		private static boolean startsWithAny(String key, List<String> prefixes) {
+			for (String prefix : prefixes) {
+				if (key.startsWith(prefix))
+					return true;
+			}
+			return false;
+		}
+
+		Iterable<Map.Entry<String, Entry>> entries() {
+			return fEntries.entrySet();
+		}
+	}
+
+	private class SourceDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			List<String> units= new ArrayList<>();
+			Set<String> memberNames= new HashSet<>();
+			boolean all= collectChanges(event.getDelta(), event.getType() == ElementChangedEvent.POST_RECONCILE, units, memberNames);
+			if (!all && units.isEmpty() && memberNames.isEmpty())
+				return;
+			synchronized (JavadocHtmlCache.this) {
+				if (all)
+					fSourceEntries.clear();
+				else
+					fSourceEntries.removeAll(units, memberNames);
+				fGeneration++;
+			}
+		}
+
+		/**
+		 * Collects the compilation units whose elements are discarded and the names of the members
+		 * whose documentation is discarded everywhere.
+		 *
+		 * @param delta the delta
+		 * @param reconcile <code>true</code> if the delta reports the reconciling of a working copy
+		 * @param units the handle identifiers of the changed compilation units
+		 * @param memberNames the names of the members declared or removed in the changed
+		 *            compilation units
+		 * @return <code>true</code> if all elements from source have to be discarded
+		 */
+		private boolean collectChanges(IJavaElementDelta delta, boolean reconcile, List<String> units, Set<String> memberNames) {
+			IJavaElement element= delta.getElement();
+			int kind= delta.getKind();
+			int flags= delta.getFlags();
+			switch (element.getElementType()) {
+				case IJavaElement.COMPILATION_UNIT:
+					if (kind != IJavaElementDelta.CHANGED)
+						return true;
+					return collectUnitChanges((ICompilationUnit) element, delta, reconcile, units, memberNames);
+				case IJavaElement.CLASS_FILE:
+					return kind != IJavaElementDelta.CHANGED;
+				default:
+					if (kind != IJavaElementDelta.CHANGED)
+						return true;
+					if ((flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+						return true;
+					}
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						if (collectChanges(child, reconcile, units, memberNames))
+							return true;
+					}
+					return false;
+			}
+		}
+
+		private boolean collectUnitChanges(ICompilationUnit unit, IJavaElementDelta delta, boolean reconcile, List<String> units, Set<String> memberNames) {
+			if (unit.getOwner() != null)
+				return false; // not remembered, and not visible to other compilation units
+			int flags= delta.getFlags();
+			if ((flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) == 0) {
+				if (!reconcile && unit.isWorkingCopy())
+					return false; // saving a working copy, whose changes were reported when it was reconciled
+				if ((flags & IJavaElementDelta.F_CONTENT) == 0 && delta.getAffectedChildren().length == 0)
+					return false;
+			}
+			if (collectMemberChanges(delta, memberNames))
+				return true;
+			try {
+				for (IType type : unit.getAllTypes()) {
+					memberNames.add(type.getElementName());
+					for (IJavaElement member : type.getChildren()) {
+						memberNames.add(member.getElementName());
+					}
+				}
+			} catch (JavaModelException e) {
+				return true;
+			}
+			if (JavaModelUtil.isPackageInfo(unit))
+				memberNames.add(unit.getParent().getElementName());
+			units.add(unit.getHandleIdentifier());
+			return false;
+		}
+
+		/**
+		 * Collects the names of the removed members.
+		 *
+		 * @param delta the delta of a compilation unit or one of its elements
+		 * @param memberNames the names of the removed members
+		 * @return <code>true</code> if a type was added or removed or changed its super types or
+		 *         modifiers
+		 */
+		private boolean collectMemberChanges(IJavaElementDelta delta, Set<String> memberNames) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				IJavaElement element= child.getElement();
+				if (element.getElementType() == IJavaElement.TYPE
+						&& (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0)) {
+					return true;
+				}
+				if (child.getKind() == IJavaElementDelta.REMOVED)
+					memberNames.add(element.getElementName());
+				if (collectMemberChanges(child, memberNames))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static JavadocHtmlCache fgInstance;
+
+	private final BoundedCache fSourceEntries= new BoundedCache(SOURCE_CACHE_SIZE);
+	private final BoundedCache fBinaryEntries= new BoundedCache(BINARY_CACHE_SIZE);
+	private final IElementChangedListener fDeltaListener;
+
+	/**
+	 * Incremented whenever the entries for elements from source are discarded, so that HTML
+	 * rendered from a source that changed in the meantime is not stored.
+	 */
+	private int fGeneration;
+
+	public static synchronized JavadocHtmlCache getInstance() {
+		if (fgInstance == null)
+			fgInstance= new JavadocHtmlCache();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		JavaCore.removeElementChangedListener(fgInstance.fDeltaListener);
+		fgInstance.save();
+		fgInstance= null;
+	}
+
+	private JavadocHtmlCache() {
+		load();
+		fDeltaListener= new SourceDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the Javadoc of an element in HTML, like
+	 * {@link JavadocContentAccess2#getHTMLContent(IJavaElement, boolean)} with attached Javadoc.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @return the Javadoc in HTML, or <code>null</code> if the element does not have a Javadoc
+	 *         comment or if no source is available
+	 * @throws CoreException if the element's Javadoc cannot be accessed
+	 */
+	public String getHTMLContent(IJavaElement element) throws CoreException {
+		return getHTMLContent(element, true);
+	}
+
+	/**
+	 * Renders the Javadoc of an element into the cache, unless it is remembered already. Attached
+	 * Javadoc is not read, so only Javadoc that comes from source is remembered.
+	 *
+	 * @param element the element to render the Javadoc of
+	 * @throws CoreException if the element's Javadoc cannot be accessed
+	 */
+	public void prefetch(IJavaElement element) throws CoreException {
+		getHTMLContent(element, false);
+	}
+
+	private String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		String key= element.getHandleIdentifier();
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root != null && root.getKind() == IPackageFragmentRoot.K_BINARY) {
+			String stamp= getStamp(root);
+			if (stamp == null)
+				return JavadocContentAccess2.getHTMLContent(element, useAttachedJavadoc);
+			synchronized (this) {
+				Entry entry= fBinaryEntries.get(key);
+				if (entry != null && stamp.equals(entry.fStamp))
+					return entry.fHtml;
+			}
+			String html= JavadocContentAccess2.getHTMLContent(element, useAttachedJavadoc);
+			// the source or the attached Javadoc may only be unavailable for now
+			if (html != null && (useAttachedJavadoc || isFromSource(html))) {
+				synchronized (this) {
+					fBinaryEntries.put(key, new Entry(stamp, html, null));
+				}
+			}
+			return html;
+		}
+
+		ICompilationUnit unit= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit != null && unit.getOwner() != null)
+			return JavadocContentAccess2.getHTMLContent(element, useAttachedJavadoc); // the handle does not tell the working copy owner
+
+		int generation;
+		synchronized (this) {
+			Entry entry= fSourceEntries.get(key);
+			if (entry != null)
+				return entry.fHtml;
+			generation= fGeneration;
+		}
+		String html= JavadocContentAccess2.getHTMLContent(element, useAttachedJavadoc);
+		if (useAttachedJavadoc || isFromSource(html)) {
+			synchronized (this) {
+				if (generation == fGeneration)
+					fSourceEntries.put(key, new Entry(null, html, getMemberName(element)));
+			}
+		}
+		return html;
+	}
+
+	/**
+	 * Tells whether Javadoc rendered without attached Javadoc is the same as with attached
+	 * Javadoc, which is only read when the source has no Javadoc comment.
+	 *
+	 * @param html the Javadoc rendered without attached Javadoc
+	 * @return <code>true</code> if the Javadoc comes from source
+	 */
+	private static boolean isFromSource(String html) {
+		return html != null && html.length() > 0 && !"{@inheritDoc}".equals(html.trim()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the name of the member whose Javadoc documents an element, so that the element can
+	 * be discarded when a member with the same name changes.
+	 *
+	 * @param element an element from source
+	 * @return the name of the member, or the name of the element if it is not part of a member
+	 */
+	private static String getMemberName(IJavaElement element) {
+		for (IJavaElement current= element; current != null; current= current.getParent()) {
+			if (current instanceof IMember)
+				return current.getElementName();
+		}
+		return element.getElementName();
+	}
+
+	/**
+	 * Returns the stamp of a library, which changes when its content, its source attachment, or
+	 * its Javadoc location changes.
+	 *
+	 * @param root the package fragment root of the library
+	 * @return the stamp, or <code>null</code> if the library is not an archive
+	 * @throws JavaModelException if the class path entry of the library cannot be resolved
+	 */
+	private static String getStamp(IPackageFragmentRoot root) throws JavaModelException {
+		File archive= toFile(root.getPath());
+		if (archive == null || !archive.isFile())
+			return null;
+		StringBuilder stamp= new StringBuilder();
+		stamp.append(archive.lastModified()).append('/').append(archive.length());
+		IClasspathEntry entry= root.getResolvedClasspathEntry();
+		IPath sourceAttachmentPath= entry.getSourceAttachmentPath();
+		if (sourceAttachmentPath != null) {
+			File source= toFile(sourceAttachmentPath);
+			stamp.append('/').append(sourceAttachmentPath.toPortableString());
+			stamp.append('/').append(source != null ? source.lastModified() : 0);
+		}
+		URL javadocLocation= JavaDocLocations.getLibraryJavadocLocation(entry);
+		if (javadocLocation != null)
+			stamp.append('/').append(javadocLocation.toExternalForm());
+		return stamp.toString();
+	}
+
+	private static File toFile(IPath path) {
+		IResource resource= ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		IPath location= resource != null ? resource.getLocation() : path;
+		return location != null ? location.toFile() : null;
+	}
+
+	private File getStoreFile() {
+		return JavaPlugin.getDefault().getStateLocation().append(STORE_FILE).toFile();
+	}
+
+	private synchronized void load() {
+		File file= getStoreFile();
+		if (!file.exists())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != STORE_VERSION)
+				return;
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				String key= in.readUTF();
+				String stamp= in.readUTF();
+				byte[] bytes= new byte[in.readInt()];
+				in.readFully(bytes);
+				fBinaryEntries.put(key, new Entry(stamp, new String(bytes, StandardCharsets.UTF_8), null));
+			}
+		} catch (IOException e) {
+			// a damaged store only loses the remembered Javadoc
+			fBinaryEntries.clear();
+		}
+	}
+
+	private synchronized void save() {
+		List<Map.Entry<String, Entry>> entries= new ArrayList<>();
+		for (Map.Entry<String, Entry> entry : fBinaryEntries.entries()) {
+			if (entry.getValue().fHtml != null)
+				entries.add(entry);
+		}
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getStoreFile())))) {
+			out.writeInt(STORE_VERSION);
+			out.writeInt(entries.size());
+			// least recently used first, so that loading restores the order
+			for (Map.Entry<String, Entry> entry : entries) {
+				out.writeUTF(entry.getKey());
+				out.writeUTF(entry.getValue().fStamp);
+				byte[] bytes= entry.getValue().fHtml.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+}
@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The subtypes shown by a {@link TypeHierarchyLifeCycle} in the lazy subtype mode. Instead of
+ * computing the complete subtype closure of the focus type up front, the direct subtypes of a type
+ * are searched when the type is expanded, and the subtypes of the found types are prefetched in
+ * the background, so that the next level expands without delay.
+ * <p>
+ * All searches run in a background job. A type whose subtypes are requested before they are known
+ * shows no subtypes until the job has found them and reported the type as pending no more.
+ * </p>
+ * <p>
+ * The search finds the types that name a type in their <code>extends</code> or
+ * <code>implements</code> clause. Types that only implicitly extend <code>java.lang.Object</code>
+ * are not found, so the life cycle does not use this for <code>java.lang.Object</code>.
+ * </p>
+ */
+final class LazySubtypes {
+
+	private static final IType[] NO_TYPES= new IType[0];
+
+	private final Map<IType, IType[]> fSubtypes= new ConcurrentHashMap<>();
+
+	/**
+	 * For every found type the type whose subtypes it has been found in first.
+	 */
+	private final Map<IType, IType> fParents= new ConcurrentHashMap<>();
+	private final Map<IType, Integer> fFlags= new ConcurrentHashMap<>();
+	private final Map<IType, ITypeHierarchy> fSupertypeHierarchies= new ConcurrentHashMap<>();
+
+	/**
+	 * The compilation units of the expanded and the found types, and the simple names of the
+	 * expanded types, to find out whether a change can affect the subtypes found so far.
+	 */
+	private final Set<ICompilationUnit> fUnits= ConcurrentHashMap.newKeySet();
+	private final Set<String> fExpandedTypeNames= ConcurrentHashMap.newKeySet();
+
+	private final Set<IType> fPrefetchQueue= new LinkedHashSet<>();
+
+	/**
+	 * The types whose subtypes have been requested before they were known, searched before the
+	 * types in the prefetch queue. Guarded by {@link #fPrefetchQueue}.
+	 */
+	private final Set<IType> fPending= new LinkedHashSet<>();
+	private final Job fPrefetchJob;
+
+	private final Consumer<IType> fSubtypesFound;
+
+	private volatile ITypeHierarchy fCompleteHierarchy;
+
+	/**
+	 * Incremented by {@link #clear()}, so that subtypes found by a search that overlapped a change
+	 * are not stored.
+	 */
+	private volatile int fGeneration;
+
+	/**
+	 * Creates the subtypes of a lazy hierarchy.
+	 *
+	 * @param subtypesFound called in the background job with a type whose subtypes were pending
+	 *            and are known now
+	 */
+	LazySubtypes(Consumer<IType> subtypesFound) {
+		fSubtypesFound= subtypesFound;
+		fPrefetchJob= new Job(TypeHierarchyMessages.LazySubtypes_prefetch_job) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					IType type;
+					while ((type= nextPrefetchType()) != null) {
+						if (monitor.isCanceled())
+							return Status.CANCEL_STATUS;
+						if (!fSubtypes.containsKey(type))
+							searchSubtypes(type, monitor);
+						boolean wasPending;
+						synchronized (fPrefetchQueue) {
+							wasPending= fPending.remove(type);
+						}
+						if (wasPending)
+							fSubtypesFound.accept(type);
+					}
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fPrefetchJob.setSystem(true);
+		fPrefetchJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the direct subtypes of a type, and starts prefetching their subtypes. Does not wait
+	 * for a search: if the subtypes are not known yet, they are searched next in the background.
+	 *
+	 * @param type the type
+	 * @return the direct subtypes, empty while they are pending
+	 */
+	IType[] getSubtypes(IType type) {
+		IType[] subtypes= fSubtypes.get(type);
+		if (subtypes == null) {
+			synchronized (fPrefetchQueue) {
+				fPending.add(type);
+			}
+			fPrefetchJob.schedule();
+			return NO_TYPES;
+		}
+		prefetch(subtypes);
+		return subtypes;
+	}
+
+	/**
+	 * Tells whether the direct subtypes of a type have already been searched.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if {@link #getSubtypes(IType)} does not need to search
+	 */
+	boolean hasKnownSubtypes(IType type) {
+		return fSubtypes.containsKey(type);
+	}
+
+	/**
+	 * Tells whether a type has been found as subtype.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type has been found
+	 */
+	boolean contains(IType type) {
+		return fParents.containsKey(type);
+	}
+
+	/**
+	 * Returns the type whose subtypes contained the given type.
+	 *
+	 * @param type the type
+	 * @return the parent type, or <code>null</code> if the type has not been found as subtype
+	 */
+	IType getParent(IType type) {
+		return fParents.get(type);
+	}
+
+	/**
+	 * Returns the flags of a found type.
+	 *
+	 * @param type the type
+	 * @return the flags, or -1 if the type has not been found as subtype
+	 */
+	int getCachedFlags(IType type) {
+		Integer flags= fFlags.get(type);
+		if (flags != null)
+			return flags.intValue();
+		ITypeHierarchy completeHierarchy= fCompleteHierarchy;
+		return completeHierarchy != null ? completeHierarchy.getCachedFlags(type) : -1;
+	}
+
+	/**
+	 * Returns a hierarchy that contains the supertypes of a found type.
+	 *
+	 * @param type the type
+	 * @return the supertype hierarchy, or <code>null</code> if it cannot be created
+	 */
+	ITypeHierarchy getSupertypeHierarchy(IType type) {
+		ITypeHierarchy hierarchy= fSupertypeHierarchies.get(type);
+		if (hierarchy == null) {
+			int generation= fGeneration;
+			try {
+				hierarchy= type.newSupertypeHierarchy(null);
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+				return null;
+			}
+			if (generation == fGeneration)
+				fSupertypeHierarchies.put(type, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns the complete hierarchy of the focus type if it has been computed by
+	 * {@link #computeCompleteHierarchy(IType, IProgressMonitor)}.
+	 *
+	 * @return the complete hierarchy, or <code>null</code>
+	 */
+	ITypeHierarchy getCompleteHierarchy() {
+		return fCompleteHierarchy;
+	}
+
+	/**
+	 * Computes the complete hierarchy of the focus type. Filtering the hierarchy for members needs
+	 * all subtypes.
+	 *
+	 * @param focus the focus type of the hierarchy
+	 * @param monitor the progress monitor
+	 * @throws JavaModelException if the hierarchy cannot be created
+	 */
+	void computeCompleteHierarchy(IType focus, IProgressMonitor monitor) throws JavaModelException {
+		if (fCompleteHierarchy != null)
+			return;
+		int generation= fGeneration;
+		ITypeHierarchy hierarchy= focus.newTypeHierarchy(monitor);
+		if (monitor != null && monitor.isCanceled())
+			throw new OperationCanceledException();
+		synchronized (this) {
+			if (generation == fGeneration)
+				fCompleteHierarchy= hierarchy;
+		}
+	}
+
+	/**
+	 * Tells whether a change of the given compilation unit can change the subtypes found so far:
+	 * if it declares an expanded or a found type, or a type that names an expanded type as
+	 * supertype.
+	 *
+	 * @param unit the changed compilation unit
+	 * @return <code>true</code> if the found subtypes may be outdated
+	 */
+	boolean isAffectedBy(ICompilationUnit unit) {
+		if (fUnits.contains(unit))
+			return true;
+		try {
+			for (IType type : unit.getAllTypes()) {
+				String superclassName= type.getSuperclassName();
+				if (superclassName != null && fExpandedTypeNames.contains(TypeHierarchyLifeCycle.getSimpleName(superclassName)))
+					return true;
+				for (String superInterfaceName : type.getSuperInterfaceNames()) {
+					if (fExpandedTypeNames.contains(TypeHierarchyLifeCycle.getSimpleName(superInterfaceName)))
+						return true;
+				}
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Discards all found subtypes.
+	 */
+	synchronized void clear() {
+		fGeneration++;
+		synchronized (fPrefetchQueue) {
+			fPrefetchQueue.clear();
+			fPending.clear();
+		}
+		fSubtypes.clear();
+		fParents.clear();
+		fFlags.clear();
+		fSupertypeHierarchies.clear();
+		fUnits.clear();
+		fExpandedTypeNames.clear();
+		fCompleteHierarchy= null;
+	}
+
+	/**
+	 * Stops prefetching and discards all found subtypes.
+	 */
+	void dispose() {
+		fPrefetchJob.cancel();
+		clear();
+	}
+
+	private void prefetch(IType[] types) {
+		boolean added= false;
+		synchronized (fPrefetchQueue) {
+			for (IType type : types) {
+				if (!fSubtypes.containsKey(type))
+					added|= fPrefetchQueue.add(type);
+			}
+		}
+		if (added)
+			fPrefetchJob.schedule();
+	}
+
+	private IType nextPrefetchType() {
+		synchronized (fPrefetchQueue) {
+			if (!fPending.isEmpty())
+				return fPending.iterator().next(); // removed once searched
+			if (fPrefetchQueue.isEmpty())
+				return null;
+			IType type= fPrefetchQueue.iterator().next();
+			fPrefetchQueue.remove(type);
+			return type;
+		}
+	}
+
+	private void searchSubtypes(IType type, IProgressMonitor monitor) {
+		int generation= fGeneration;
+		Set<IType> subtypes= new LinkedHashSet<>();
+		SearchPattern pattern= SearchPattern.createPattern(type, IJavaSearchConstants.IMPLEMENTORS);
+		if (pattern != null) {
+			try {
+				new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+						SearchEngine.createWorkspaceScope(), new SearchRequestor() {
+							@Override
+							public void acceptSearchMatch(SearchMatch match) {
+								if (match.getAccuracy() == SearchMatch.A_ACCURATE && match.getElement() instanceof IType) {
+									subtypes.add((IType) match.getElement());
+								}
+							}
+						}, monitor);
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+				subtypes.clear(); // shown without subtypes rather than searched again on every request
+			}
+		}
+
+		List<IType> result= new ArrayList<>(subtypes.size());
+		Map<IType, Integer> flags= new HashMap<>();
+		for (IType subtype : subtypes) {
+			try {
+				flags.put(subtype, Integer.valueOf(subtype.getFlags()));
+				result.add(subtype);
+			} catch (JavaModelException e) {
+				// removed in the meantime
+			}
+		}
+		IType[] array= result.toArray(new IType[result.size()]);
+		synchronized (this) {
+			if (generation != fGeneration)
+				return;
+			fFlags.putAll(flags);
+			for (IType subtype : array) {
+				fParents.putIfAbsent(subtype, type);
+				ICompilationUnit unit= subtype.getCompilationUnit();
+				if (unit != null)
+					fUnits.add(unit);
+			}
+			ICompilationUnit unit= type.getCompilationUnit();
+			if (unit != null)
+				fUnits.add(unit);
+			fExpandedTypeNames.add(type.getElementName());
+			fSubtypes.put(type, array);
+		}
+	}
+}
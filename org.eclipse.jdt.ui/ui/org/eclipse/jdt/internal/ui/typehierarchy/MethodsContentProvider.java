@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,7 +92,7 @@ public class MethodsContentProvider implements IStructuredContentProvider, IWork
 
 			List<Object> res= new ArrayList<>();
 			try {
-				ITypeHierarchy hierarchy= fHierarchyLifeCycle.getHierarchy();
+				ITypeHierarchy hierarchy= fHierarchyLifeCycle.getSupertypeHierarchy(type);
 				if (fShowInheritedMethods && hierarchy != null) {
 					IType[] allSupertypes= hierarchy.getAllSupertypes(type);
 					// sort in from last to first: elements with same name
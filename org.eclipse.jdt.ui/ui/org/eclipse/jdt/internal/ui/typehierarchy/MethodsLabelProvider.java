@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,7 +76,7 @@ public class MethodsLabelProvider extends AppearanceAwareLabelProvider {
 		if (kind != IJavaElement.METHOD) {
 			return declaringType;
 		}
-		ITypeHierarchy hierarchy= fHierarchy.getHierarchy();
+		ITypeHierarchy hierarchy= fHierarchy.getSupertypeHierarchy(declaringType);
 		if (hierarchy == null) {
 			return declaringType;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				IType[] types= hierarchy.getSubtypes(type);
+				IType[] types= getSubtypes(hierarchy, type);
 				if (isObject(type)) {
 					for (IType t : types) {
 						if (!isAnonymousFromInterface(t)) {
@@ -75,6 +75,10 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected IType getParentType(IType type) {
+			IType lazyParent= getLazyParentType(type);
+			if (lazyParent != null) {
+				return lazyParent;
+			}
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
 				return hierarchy.getSuperclass(type);
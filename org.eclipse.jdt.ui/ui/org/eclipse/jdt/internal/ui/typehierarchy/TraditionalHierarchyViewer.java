@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,7 +133,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				IType[] types= hierarchy.getSubtypes(type);
+				IType[] types= getSubtypes(hierarchy, type);
 				if (isObject(type)) {
 					for (IType t : types) {
 						if (!isAnonymousFromInterface(t)) { // no anonymous classes on 'Object' -> will be children of interface
@@ -142,13 +142,13 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 					}
 				} else {
 					boolean isHierarchyOnType= (hierarchy.getType() != null);
-					boolean isClass= !Flags.isInterface(hierarchy.getCachedFlags(type));
+					boolean isClass= !Flags.isInterface(fTypeHierarchy.getCachedFlags(type));
 					if (isClass || isHierarchyOnType) {
 						res.addAll(Arrays.asList(types));
 					} else {
 						for (IType t : types) {
 							// no classes implementing interfaces, only if anonymous
-							if (Flags.isInterface(hierarchy.getCachedFlags(t)) || isAnonymous(t)) {
+							if (Flags.isInterface(fTypeHierarchy.getCachedFlags(t)) || isAnonymous(t)) {
 								res.add(t);
 							}
 						}
@@ -159,6 +159,10 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected IType getParentType(IType type) {
+			IType lazyParent= getLazyParentType(type);
+			if (lazyParent != null) {
+				return lazyParent;
+			}
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
 				if (Flags.isInterface(hierarchy.getCachedFlags(type))) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,7 +85,7 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 
 	private boolean initializeMethodOverrideTester(IMethod filterMethod, IType typeToFindIn) {
 		IType filterType= filterMethod.getDeclaringType();
-		ITypeHierarchy hierarchy= fTypeHierarchy.getHierarchy();
+		ITypeHierarchy hierarchy= getHierarchy();
 
 		boolean filterOverrides= JavaModelUtil.isSuperType(hierarchy, typeToFindIn, filterType);
 		IType focusType= filterOverrides ? filterType : typeToFindIn;
@@ -157,9 +157,44 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 
 
 	protected final ITypeHierarchy getHierarchy() {
+		if (fMemberFilter != null) {
+			// member filtering needs all subtypes
+			return fTypeHierarchy.getCompleteHierarchy();
+		}
 		return fTypeHierarchy.getHierarchy();
 	}
 
+	/**
+	 * Returns the direct subtypes of a type, searched on demand if the life cycle is in the lazy
+	 * subtype mode.
+	 *
+	 * @param hierarchy the hierarchy returned by {@link #getHierarchy()}
+	 * @param type the type
+	 * @return the direct subtypes
+	 * @since 3.34
+	 */
+	protected final IType[] getSubtypes(ITypeHierarchy hierarchy, IType type) {
+		if (fMemberFilter != null) {
+			return hierarchy.getSubtypes(type);
+		}
+		return fTypeHierarchy.getSubtypes(type);
+	}
+
+	/**
+	 * Returns the type whose subtypes contained the given type if the life cycle is in the lazy
+	 * subtype mode.
+	 *
+	 * @param type the type
+	 * @return the parent type or <code>null</code>
+	 * @since 3.34
+	 */
+	protected final IType getLazyParentType(IType type) {
+		if (fMemberFilter != null) {
+			return null;
+		}
+		return fTypeHierarchy.getLazyParentType(type);
+	}
+
 
 	@Override
 	public boolean providesWorkingCopies() {
@@ -329,6 +364,9 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	}
 
 	private boolean hasTypeChildren(IType type) throws JavaModelException {
+		if (fMemberFilter == null && !fTypeHierarchy.hasKnownSubtypes(type)) {
+			return true; // searched when expanded
+		}
 		ArrayList<IType> types= new ArrayList<>();
 		getTypesInHierarchy(type, types);
 		int len= types.size();
@@ -383,7 +421,14 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	}
 
 	protected final boolean isAnonymousFromInterface(IType type) {
-		return isAnonymous(type) && fTypeHierarchy.getHierarchy().getSuperInterfaces(type).length != 0;
+		if (!isAnonymous(type)) {
+			return false;
+		}
+		IType parent= getLazyParentType(type);
+		if (parent != null) {
+			return Flags.isInterface(fTypeHierarchy.getCachedFlags(parent));
+		}
+		return getHierarchy().getSuperInterfaces(type).length != 0;
 	}
 
 	protected final boolean isObject(IType type) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,10 @@ package org.eclipse.jdt.internal.ui.typehierarchy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -39,6 +42,7 @@ import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IParent;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
@@ -56,9 +60,59 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
-	private boolean fHierarchyRefreshNeeded;
-	private ITypeHierarchy fHierarchy;
+	/**
+	 * Preference key: whether the type hierarchy view searches the subtypes of a type when it is
+	 * expanded, instead of computing all subtypes of the input type before showing the hierarchy.
+	 *
+	 * @since 3.34
+	 */
+	public static final String PREF_LAZY_SUBTYPES= "org.eclipse.jdt.ui.typehierarchy.lazySubtypes"; //$NON-NLS-1$
+
+	private volatile boolean fHierarchyRefreshNeeded;
+
+	/**
+	 * The primary compilation units changed since the hierarchy reported a change, or
+	 * <code>null</code> if the next refresh must recompute the hierarchy. Used to find out whether
+	 * a reported change actually changed the supertypes of any type before paying for a refresh of
+	 * the whole hierarchy. Guarded by <code>this</code>, since deltas are reported in any thread.
+	 */
+	private Set<ICompilationUnit> fChangedUnits;
+
+	/**
+	 * Listens to the hierarchy. Separate from {@link #typeHierarchyChanged(ITypeHierarchy)}, which
+	 * always enforces a refresh.
+	 */
+	private final ITypeHierarchyChangedListener fHierarchyChangedListener= typeHierarchy -> {
+		synchronized (this) {
+			if (!fHierarchyRefreshNeeded)
+				fChangedUnits= new HashSet<>();
+			fHierarchyRefreshNeeded= true;
+		}
+		fireChange(null);
+	};
+
+	/**
+	 * <code>true</code> after a refresh has been skipped. The hierarchy then still considers
+	 * itself outdated and does not report further changes, so they are detected by
+	 * {@link #elementChanged(ElementChangedEvent)}.
+	 */
+	private volatile boolean fHierarchySilent;
+
+	/**
+	 * The compilation units of the types in the hierarchy, to detect changes while the hierarchy
+	 * is silent. Computed on demand, reset when the hierarchy is refreshed.
+	 */
+	private volatile Set<ICompilationUnit> fHierarchyUnits;
+
+	private volatile ITypeHierarchy fHierarchy;
 	private IJavaElement[] fInputElements;
+
+	/**
+	 * The subtypes of the input type in the lazy subtype mode, or <code>null</code>. The hierarchy
+	 * then only contains the supertypes of the input type.
+	 */
+	private volatile LazySubtypes fLazySubtypes;
+
 	private boolean fIsSuperTypesOnly;
 
 	private List<ITypeHierarchyLifeCycleListener> fChangeListeners;
@@ -107,6 +161,135 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		return fHierarchy;
 	}
 
+	/**
+	 * Tells whether the subtypes of the input type are searched on demand, see
+	 * {@link #PREF_LAZY_SUBTYPES}.
+	 *
+	 * @return <code>true</code> if the hierarchy only contains the supertypes of the input type
+	 * @since 3.34
+	 */
+	public boolean isLazySubtypes() {
+		return fLazySubtypes != null;
+	}
+
+	/**
+	 * Returns the direct subtypes of a type. In the lazy subtype mode, the subtypes of the input
+	 * type and of the types below it are searched on the first request.
+	 *
+	 * @param type the type
+	 * @return the direct subtypes
+	 * @since 3.34
+	 */
+	public IType[] getSubtypes(IType type) {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (lazySubtypes == null || isAboveInput(type))
+			return fHierarchy.getSubtypes(type);
+		return lazySubtypes.getSubtypes(type);
+	}
+
+	/**
+	 * Tells whether {@link #getSubtypes(IType)} can answer without searching.
+	 *
+	 * @param type the type
+	 * @return <code>false</code> if the subtypes of the type have not been searched yet
+	 * @since 3.34
+	 */
+	public boolean hasKnownSubtypes(IType type) {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		return lazySubtypes == null || isAboveInput(type) || lazySubtypes.hasKnownSubtypes(type);
+	}
+
+	/**
+	 * Returns the type whose subtypes contained the given type in the lazy subtype mode.
+	 *
+	 * @param type the type
+	 * @return the parent type, or <code>null</code> if the type has not been found as subtype
+	 * @since 3.34
+	 */
+	public IType getLazyParentType(IType type) {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		return lazySubtypes != null ? lazySubtypes.getParent(type) : null;
+	}
+
+	/**
+	 * Returns the flags of a type in the hierarchy or, in the lazy subtype mode, of a type that has
+	 * been found as subtype.
+	 *
+	 * @param type the type
+	 * @return the flags, or -1 if the type is not known
+	 * @since 3.34
+	 */
+	public int getCachedFlags(IType type) {
+		int flags= fHierarchy.getCachedFlags(type);
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (flags == -1 && lazySubtypes != null)
+			flags= lazySubtypes.getCachedFlags(type);
+		return flags;
+	}
+
+	/**
+	 * Returns a hierarchy that contains the supertypes of the given type: the hierarchy, or a
+	 * supertype hierarchy of a type that has been found in the lazy subtype mode.
+	 *
+	 * @param type the type
+	 * @return the hierarchy, or <code>null</code> if there is no hierarchy
+	 * @since 3.34
+	 */
+	public ITypeHierarchy getSupertypeHierarchy(IType type) {
+		ITypeHierarchy hierarchy= fHierarchy;
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (hierarchy == null || lazySubtypes == null || hierarchy.contains(type))
+			return hierarchy;
+		ITypeHierarchy supertypeHierarchy= lazySubtypes.getSupertypeHierarchy(type);
+		return supertypeHierarchy != null ? supertypeHierarchy : hierarchy;
+	}
+
+	/**
+	 * Returns the hierarchy including all subtypes of the input type. In the lazy subtype mode
+	 * they are only known after {@link #ensureCompleteHierarchy(IRunnableContext)}.
+	 *
+	 * @return the complete hierarchy, or the hierarchy without subtypes if the complete hierarchy
+	 *         has not been computed
+	 * @since 3.34
+	 */
+	public ITypeHierarchy getCompleteHierarchy() {
+		ITypeHierarchy hierarchy= fHierarchy;
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (hierarchy == null || lazySubtypes == null)
+			return hierarchy;
+		ITypeHierarchy completeHierarchy= lazySubtypes.getCompleteHierarchy();
+		return completeHierarchy != null ? completeHierarchy : hierarchy;
+	}
+
+	/**
+	 * Computes all subtypes of the input type in the lazy subtype mode, for
+	 * {@link #getCompleteHierarchy()}.
+	 *
+	 * @param context the runnable context
+	 * @throws InvocationTargetException if the hierarchy cannot be created
+	 * @throws InterruptedException if the computation has been canceled
+	 * @since 3.34
+	 */
+	public void ensureCompleteHierarchy(IRunnableContext context) throws InvocationTargetException, InterruptedException {
+		ITypeHierarchy hierarchy= fHierarchy;
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (hierarchy == null || lazySubtypes == null || lazySubtypes.getCompleteHierarchy() != null)
+			return;
+		context.run(true, true, pm -> {
+			try {
+				lazySubtypes.computeCompleteHierarchy(hierarchy.getType(), pm);
+			} catch (JavaModelException e) {
+				throw new InvocationTargetException(e);
+			} catch (OperationCanceledException e) {
+				throw new InterruptedException();
+			}
+		});
+	}
+
+	private boolean isAboveInput(IType type) {
+		return fHierarchy.contains(type) && !type.equals(fHierarchy.getType());
+	}
+
 	/**
 	 * Returns the array of input elements.
 	 *
@@ -119,11 +302,12 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 	public void freeHierarchy() {
 		if (fHierarchy != null) {
-			fHierarchy.removeTypeHierarchyChangedListener(this);
+			fHierarchy.removeTypeHierarchyChangedListener(fHierarchyChangedListener);
 			JavaCore.removeElementChangedListener(this);
 			fHierarchy= null;
 			fInputElements= null;
 		}
+		disposeLazySubtypes();
 		synchronized (this) {
 			if (fRefreshHierarchyJob != null) {
 				fRefreshHierarchyJob.cancel();
@@ -224,14 +408,15 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 							try {
 								doHierarchyRefreshBackground(elements, pm);
 							} catch (OperationCanceledException e) {
+								fHierarchyRefreshNeeded= true;
 								if (fRefreshJobCanceledExplicitly) {
 									fTypeHierarchyViewPart.showEmptyViewer();
 								}
 								return Status.CANCEL_STATUS;
 							} catch (JavaModelException e) {
+								fHierarchyRefreshNeeded= true;
 								return e.getStatus();
 							} finally {
-								fHierarchyRefreshNeeded= true;
 								pm.done();
 							}
 							return Status.OK_STATUS;
@@ -269,7 +454,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 * @since 3.6
 	 */
 	protected void doHierarchyRefreshBackground(final IJavaElement[] elements, final IProgressMonitor pm) throws JavaModelException {
-		doHierarchyRefresh(elements, pm);
+		final boolean recomputed= refreshHierarchy(elements, pm);
 		if (!pm.isCanceled()) {
 			Display.getDefault().asyncExec(() -> {
 				synchronized (TypeHierarchyLifeCycle.this) {
@@ -278,8 +463,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 					}
 					fRefreshHierarchyJob= null;
 				}
-				if (pm.isCanceled())
-					return;
+				if (pm.isCanceled() || !recomputed)
+					return; // the viewers have already been updated for the changed types
 				fTypeHierarchyViewPart.setViewersInput();
 				fTypeHierarchyViewPart.updateViewers();
 			});
@@ -291,6 +476,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			IType type= (IType)elements[0];
 			if (fIsSuperTypesOnly) {
 				return type.newSupertypeHierarchy(pm);
+			} else if (useLazySubtypes(type)) {
+				fLazySubtypes= new LazySubtypes(this::subtypesFound);
+				return type.newSupertypeHierarchy(pm);
 			} else {
 				return type.newTypeHierarchy(pm);
 			}
@@ -313,28 +501,159 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 
-	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+	/**
+	 * Tells whether to search the subtypes of the given input type on demand. Only done for the
+	 * type hierarchy view, and not for <code>java.lang.Object</code>, whose subtypes mostly do not
+	 * declare it as superclass and therefore cannot be searched.
+	 *
+	 * @param type the input type
+	 * @return <code>true</code> to use the lazy subtype mode
+	 */
+	private boolean useLazySubtypes(IType type) {
+		return fTypeHierarchyViewPart != null
+				&& JavaPlugin.getDefault().getPreferenceStore().getBoolean(PREF_LAZY_SUBTYPES)
+				&& !"java.lang.Object".equals(type.getFullyQualifiedName()); //$NON-NLS-1$
+	}
+
+	private void subtypesFound(IType type) {
+		TypeHierarchyViewPart part= fTypeHierarchyViewPart;
+		if (part != null)
+			part.refreshSubtypes(type);
+	}
+
+	private void disposeLazySubtypes() {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (lazySubtypes != null) {
+			fLazySubtypes= null;
+			lazySubtypes.dispose();
+		}
+	}
+
+	/**
+	 * Creates or refreshes the hierarchy.
+	 *
+	 * @param elements the java elements on which the hierarchy is computed
+	 * @param pm the progress monitor
+	 * @return <code>true</code> if the hierarchy has been created or refreshed,
+	 *         <code>false</code> if the refresh was skipped because it was still up to date
+	 * @throws JavaModelException if the java element does not exist or if an exception occurs while
+	 *             accessing its corresponding resource.
+	 */
+	public boolean doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+		return refreshHierarchy(elements, pm);
+	}
+
+	/**
+	 * Creates or refreshes the hierarchy. A refresh is skipped if the changes reported by the
+	 * hierarchy since the last refresh did not change the supertypes of any type.
+	 *
+	 * @param elements the java elements on which the hierarchy is computed
+	 * @param pm the progress monitor
+	 * @return <code>true</code> if the hierarchy has been created or refreshed,
+	 *         <code>false</code> if it was still up to date
+	 * @throws JavaModelException if the java element does not exist or if an exception occurs while
+	 *             accessing its corresponding resource.
+	 */
+	private boolean refreshHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
+		Set<ICompilationUnit> changedUnits;
+		synchronized (this) {
+			changedUnits= fChangedUnits;
+			fChangedUnits= null;
+		}
 		// to ensure the order of the two listeners always remove / add listeners on operations
 		// on type hierarchies
 		if (fHierarchy != null) {
-			fHierarchy.removeTypeHierarchyChangedListener(this);
+			fHierarchy.removeTypeHierarchyChangedListener(fHierarchyChangedListener);
 			JavaCore.removeElementChangedListener(this);
 		}
+		boolean recomputed= true;
 		if (hierachyCreationNeeded) {
+			disposeLazySubtypes();
 			fHierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
 			}
 			fInputElements= elements;
+		} else if (changedUnits != null && hasSameSupertypes(changedUnits, pm)) {
+			recomputed= false;
 		} else {
 			fHierarchy.refresh(pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
+			LazySubtypes lazySubtypes= fLazySubtypes;
+			if (lazySubtypes != null)
+				lazySubtypes.clear();
 		}
-		fHierarchy.addTypeHierarchyChangedListener(this);
+		fHierarchyUnits= null;
+		fHierarchySilent= !recomputed;
+		fHierarchy.addTypeHierarchyChangedListener(fHierarchyChangedListener);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
+		return recomputed;
+	}
+
+	/**
+	 * Tests whether the types declared in the changed compilation units still have the supertypes
+	 * recorded in the hierarchy, and whether no type has joined or left the hierarchy. Only
+	 * supported for the hierarchy of a single type, where this costs a supertype hierarchy per
+	 * changed type instead of a refresh of all subtypes.
+	 *
+	 * @param changedUnits the changed compilation units
+	 * @param pm the progress monitor
+	 * @return <code>true</code> if the hierarchy is still up to date
+	 * @throws JavaModelException if a supertype hierarchy cannot be created
+	 */
+	private boolean hasSameSupertypes(Set<ICompilationUnit> changedUnits, IProgressMonitor pm) throws JavaModelException {
+		if (changedUnits.isEmpty() || fInputElements.length != 1 || fInputElements[0].getElementType() != IJavaElement.TYPE)
+			return false;
+		for (IType type : fHierarchy.getAllTypes()) {
+			if (changedUnits.contains(type.getCompilationUnit()) && !type.exists())
+				return false; // removed from the hierarchy
+		}
+		IType focus= fHierarchy.getType();
+		for (ICompilationUnit unit : changedUnits) {
+			if (!unit.exists())
+				return false;
+			for (IType type : getAllTypes(unit)) {
+				if (pm != null && pm.isCanceled())
+					throw new OperationCanceledException();
+				ITypeHierarchy supertypes= type.newSupertypeHierarchy(pm);
+				if (fHierarchy.contains(type)) {
+					if (fHierarchy.getCachedFlags(type) != supertypes.getCachedFlags(type)
+							|| !Objects.equals(fHierarchy.getSuperclass(type), supertypes.getSuperclass(type))
+							|| !new HashSet<>(Arrays.asList(fHierarchy.getSuperInterfaces(type))).equals(new HashSet<>(Arrays.asList(supertypes.getSuperInterfaces(type)))))
+						return false;
+				} else if (!isSupertypeHierarchy() && supertypes.contains(focus)) {
+					return false; // new subtype
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns all types declared in a compilation unit, including the local and anonymous types,
+	 * which are contained in a type hierarchy but not returned by
+	 * {@link ICompilationUnit#getAllTypes()}.
+	 *
+	 * @param unit the compilation unit
+	 * @return the types of the unit
+	 * @throws JavaModelException if the unit cannot be read
+	 */
+	private static List<IType> getAllTypes(ICompilationUnit unit) throws JavaModelException {
+		List<IType> types= new ArrayList<>();
+		collectTypes(unit.getChildren(), types);
+		return types;
+	}
+
+	private static void collectTypes(IJavaElement[] elements, List<IType> types) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (element instanceof IType)
+				types.add((IType) element);
+			if (element instanceof IParent)
+				collectTypes(((IParent) element).getChildren(), types);
+		}
 	}
 
 	/*
@@ -342,8 +661,11 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	@Override
 	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
-	 	fHierarchyRefreshNeeded= true;
- 		fireChange(null);
+		synchronized (this) {
+			fChangedUnits= null;
+			fHierarchyRefreshNeeded= true;
+		}
+		fireChange(null);
 	}
 
 	/*
@@ -351,6 +673,20 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fChangedUnits != null && !collectChangedUnits(event.getDelta(), fChangedUnits)) {
+				fChangedUnits= null;
+			}
+		}
+		if (fHierarchySilent && !fHierarchyRefreshNeeded && event.getType() != ElementChangedEvent.POST_RECONCILE) {
+			// like the hierarchy itself, only consider saved changes
+			detectHierarchyChange(event.getDelta());
+		}
+		if (event.getType() != ElementChangedEvent.POST_RECONCILE) {
+			// a skipped refresh would keep outdated subtypes
+			detectSubtypeChange(event.getDelta());
+		}
+
 		if (fChangeListeners.isEmpty()) {
 			return;
 		}
@@ -414,12 +750,256 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/**
+	 * Reports a possible hierarchy change while the hierarchy is silent, like the hierarchy would
+	 * have done: for added or removed compilation units, and for changed compilation units whose
+	 * types may have joined, left or changed their place in the hierarchy.
+	 *
+	 * @param delta the delta
+	 */
+	private void detectHierarchyChange(IJavaElementDelta delta) {
+		Set<ICompilationUnit> changedUnits= new HashSet<>();
+		List<IJavaElementDelta> unitDeltas= new ArrayList<>();
+		boolean verifiable= collectChangedUnits(delta, changedUnits, unitDeltas);
+		if (verifiable) {
+			boolean affected= false;
+			for (IJavaElementDelta unitDelta : unitDeltas) {
+				if (affectsHierarchy(unitDelta)) {
+					affected= true;
+					break;
+				}
+			}
+			if (!affected)
+				return;
+		}
+		synchronized (this) {
+			fChangedUnits= verifiable ? changedUnits : null;
+			fHierarchyRefreshNeeded= true;
+		}
+		fireChange(null);
+	}
+
+	/**
+	 * Tells whether a saved change of a compilation unit can change the hierarchy. A fine-grained
+	 * delta tells which types have been added or removed, or have changed their supertypes or
+	 * modifiers. Otherwise all types of the unit are considered changed.
+	 *
+	 * @param unitDelta the delta of the compilation unit
+	 * @return <code>true</code> if the hierarchy may have to be refreshed
+	 */
+	private boolean affectsHierarchy(IJavaElementDelta unitDelta) {
+		ITypeHierarchy hierarchy= fHierarchy;
+		if (hierarchy == null)
+			return false;
+		try {
+			ICompilationUnit unit= (ICompilationUnit) unitDelta.getElement();
+			if ((unitDelta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) != 0) {
+				// the deltas do not report local and anonymous types
+				return hasLocalTypes(unit, hierarchy) || affectsHierarchy(unitDelta.getAffectedChildren(), hierarchy);
+			}
+			if (getHierarchyUnits(hierarchy).contains(unit))
+				return true;
+			for (IType type : getAllTypes(unit)) {
+				if (hasSupertypeIn(type, hierarchy))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private boolean affectsHierarchy(IJavaElementDelta[] deltas, ITypeHierarchy hierarchy) throws JavaModelException {
+		for (IJavaElementDelta delta : deltas) {
+			IJavaElement element= delta.getElement();
+			if (element.getElementType() != IJavaElement.TYPE)
+				continue;
+			IType type= (IType) element;
+			switch (delta.getKind()) {
+				case IJavaElementDelta.REMOVED:
+					if (hierarchy.contains(type))
+						return true;
+					break;
+				case IJavaElementDelta.ADDED:
+					if (hierarchy.contains(type) || hasSupertypeIn(type, hierarchy))
+						return true;
+					break;
+				default:
+					if ((delta.getFlags() & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0
+							&& (hierarchy.contains(type) || hasSupertypeIn(type, hierarchy)))
+						return true;
+					break;
+			}
+			if (affectsHierarchy(delta.getAffectedChildren(), hierarchy))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether a compilation unit contains local or anonymous types, or contained some when
+	 * the hierarchy was computed.
+	 *
+	 * @param unit the compilation unit
+	 * @param hierarchy the hierarchy
+	 * @return <code>true</code> if the unit contains or contained local or anonymous types
+	 * @throws JavaModelException if the unit cannot be read
+	 */
+	private static boolean hasLocalTypes(ICompilationUnit unit, ITypeHierarchy hierarchy) throws JavaModelException {
+		for (IType type : hierarchy.getAllTypes()) {
+			if (unit.equals(type.getCompilationUnit()) && (type.isLocal() || type.isAnonymous()))
+				return true;
+		}
+		if (unit.exists()) {
+			for (IType type : getAllTypes(unit)) {
+				if (type.isLocal() || type.isAnonymous())
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private Set<ICompilationUnit> getHierarchyUnits(ITypeHierarchy hierarchy) {
+		Set<ICompilationUnit> units= fHierarchyUnits;
+		if (units == null) {
+			units= new HashSet<>();
+			for (IType type : hierarchy.getAllTypes()) {
+				ICompilationUnit cu= type.getCompilationUnit();
+				if (cu != null)
+					units.add(cu);
+			}
+			fHierarchyUnits= units;
+		}
+		return units;
+	}
+
+	/**
+	 * Tells whether a type names a type of the hierarchy as supertype. Only a type of a
+	 * supertype hierarchy can change it, so no other type is considered then.
+	 *
+	 * @param type the type
+	 * @param hierarchy the hierarchy
+	 * @return <code>true</code> if a supertype of the type is in the hierarchy, or cannot be
+	 *         resolved
+	 * @throws JavaModelException if the supertypes cannot be read
+	 */
+	private boolean hasSupertypeIn(IType type, ITypeHierarchy hierarchy) throws JavaModelException {
+		if (isSupertypeHierarchy() || !type.exists())
+			return false;
+		String superclassName= type.getSuperclassName();
+		if (superclassName != null && isTypeIn(type, superclassName, hierarchy))
+			return true;
+		for (String superInterfaceName : type.getSuperInterfaceNames()) {
+			if (isTypeIn(type, superInterfaceName, hierarchy))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isTypeIn(IType type, String typeName, ITypeHierarchy hierarchy) throws JavaModelException {
+		int typeArguments= typeName.indexOf('<');
+		String[][] resolved= type.resolveType(typeArguments == -1 ? typeName : typeName.substring(0, typeArguments));
+		if (resolved == null || resolved.length != 1)
+			return true; // unresolved or ambiguous
+		IType resolvedType= type.getJavaProject().findType(resolved[0][0], resolved[0][1]);
+		return resolvedType == null || hierarchy.contains(resolvedType);
+	}
+
+	/**
+	 * Tells whether the hierarchy only contains the supertypes of the input type. In the lazy
+	 * subtype mode, changes of the subtypes are detected by {@link #detectSubtypeChange(IJavaElementDelta)}.
+	 *
+	 * @return <code>true</code> if the hierarchy contains no subtypes
+	 */
+	private boolean isSupertypeHierarchy() {
+		return fIsSuperTypesOnly || fLazySubtypes != null;
+	}
+
+	/**
+	 * Discards the subtypes found in the lazy subtype mode if a saved change can have changed
+	 * them, and reports a hierarchy change so that the viewers search them again.
+	 *
+	 * @param delta the delta
+	 */
+	private void detectSubtypeChange(IJavaElementDelta delta) {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (lazySubtypes == null)
+			return;
+		Set<ICompilationUnit> changedUnits= new HashSet<>();
+		boolean affected= !collectChangedUnits(delta, changedUnits);
+		if (!affected) {
+			for (ICompilationUnit unit : changedUnits) {
+				if (lazySubtypes.isAffectedBy(unit)) {
+					affected= true;
+					break;
+				}
+			}
+		}
+		if (affected) {
+			lazySubtypes.clear();
+			fireChange(null);
+		}
+	}
+
+	static String getSimpleName(String typeName) {
+		int typeArguments= typeName.indexOf('<');
+		String erasure= typeArguments == -1 ? typeName : typeName.substring(0, typeArguments);
+		return erasure.substring(erasure.lastIndexOf('.') + 1).trim();
+	}
+
+	private boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> changedUnits) {
+		return collectChangedUnits(delta, changedUnits, null);
+	}
+
+	/**
+	 * Collects the primary compilation units changed by the delta.
+	 *
+	 * @param delta the delta
+	 * @param changedUnits the set to add the changed compilation units to
+	 * @param unitDeltas the list to add the deltas of the changed compilation units to, or
+	 *            <code>null</code>
+	 * @return <code>false</code> if the delta contains changes that can only be handled by
+	 *         refreshing the hierarchy, like added or removed compilation units or class path
+	 *         changes
+	 */
+	private boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> changedUnits, List<IJavaElementDelta> unitDeltas) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// F_CONTENT on containers reports changed non-Java resources
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+					return false;
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectChangedUnits(child, changedUnits, unitDeltas))
+						return false;
+				}
+				return true;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(cu))
+					return true;
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return false;
+				changedUnits.add(cu);
+				if (unitDeltas != null)
+					unitDeltas.add(delta);
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	private boolean isPossibleStructuralChange(int flags) {
 		return (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED)) == IJavaElementDelta.F_CONTENT;
 	}
 
 	private void processTypeDelta(IType type, ArrayList<IType> changedTypes) {
-		if (getHierarchy().contains(type)) {
+		LazySubtypes lazySubtypes= fLazySubtypes;
+		if (getHierarchy().contains(type) || (lazySubtypes != null && lazySubtypes.contains(type))) {
 			changedTypes.add(type);
 		}
 	}
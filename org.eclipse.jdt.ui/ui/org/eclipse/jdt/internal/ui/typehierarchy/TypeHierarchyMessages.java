@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,7 @@ public final class TypeHierarchyMessages extends NLS {
 	public static String TypeHierarchyViewPart_restoreinput;
 	public static String TypeHierarchyViewPart_layout_submenu;
 	public static String TypeHierarchyLifeCycle_computeInput;
+	public static String LazySubtypes_prefetch_job;
 	public static String ToggleViewAction_subtypes_label;
 	public static String ToggleViewAction_subtypes_tooltip;
 	public static String ToggleViewAction_subtypes_description;
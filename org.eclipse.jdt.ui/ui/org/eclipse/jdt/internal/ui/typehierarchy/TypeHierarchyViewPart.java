@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1469,6 +1469,19 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 	@Override
 	public void showMembersInHierarchy(boolean on) {
 		if (on != fIsEnableMemberFilter) {
+			if (on) {
+				try {
+					// member filtering needs all subtypes
+					fHierarchyLifeCycle.ensureCompleteHierarchy(getSite().getWorkbenchWindow());
+				} catch (InvocationTargetException e) {
+					ExceptionHandler.handle(e, getSite().getShell(), TypeHierarchyMessages.TypeHierarchyViewPart_exception_title, TypeHierarchyMessages.TypeHierarchyViewPart_exception_message);
+					fEnableMemberFilterAction.setChecked(false);
+					return;
+				} catch (InterruptedException e) {
+					fEnableMemberFilterAction.setChecked(false);
+					return;
+				}
+			}
 			fIsEnableMemberFilter= on;
 			if (!on) {
 				IType methodViewerInput= (IType) fMethodsViewer.getInput();
@@ -1554,6 +1567,9 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 				// hierarchy change
 				try {
 					fHierarchyLifeCycle.ensureRefreshedTypeHierarchy(fInputElements, getSite().getWorkbenchWindow());
+					if (fIsEnableMemberFilter) {
+						fHierarchyLifeCycle.ensureCompleteHierarchy(getSite().getWorkbenchWindow());
+					}
 				} catch (InvocationTargetException e) {
 					ExceptionHandler.handle(e, getSite().getShell(), TypeHierarchyMessages.TypeHierarchyViewPart_exception_title, TypeHierarchyMessages.TypeHierarchyViewPart_exception_message);
 					clearInput();
@@ -1835,6 +1851,24 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 		fNeedRefresh= false;
 	}
 
+	/**
+	 * Refreshes a type whose subtypes have been found in the background in the lazy subtype mode.
+	 *
+	 * @param type the type whose subtypes are known now
+	 */
+	void refreshSubtypes(IType type) {
+		Display display= getDisplay();
+		if (display == null)
+			return;
+		display.asyncExec(() -> {
+			if (isDisposed() || fAllViewers == null)
+				return;
+			for (TypeHierarchyViewer viewer : fAllViewers) {
+				viewer.refresh(type);
+			}
+		});
+	}
+
 	/**
 	 * Sets the empty viewer when the user cancels the computation.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,9 @@ public class JarPackageData {
 	// Add directory entries to the jar
 	private boolean fIncludeDirectoryEntries;
 
+	// Write the same modification time on all entries
+	private boolean fReproducible;
+
 	// Projects for which to store refactoring information
 	private IProject[] fRefactoringProjects= {};
 
@@ -175,6 +178,7 @@ public class JarPackageData {
 		setExportWarnings(true);
 		setBuildIfNeeded(true);
 		setIncludeDirectoryEntries(false);
+		setReproducible(false);
 	}
 
 	// ----------- Accessors -----------
@@ -1057,6 +1061,31 @@ public class JarPackageData {
 		fIncludeDirectoryEntries = includeDirectoryEntries;
 	}
 
+	/**
+	 * Tells whether the JAR is written reproducibly. All entries of a reproducible JAR, including
+	 * the manifest and the directory entries, have the same fixed modification time, so that
+	 * exporting unchanged contents gives the same JAR.
+	 *
+	 * @return <code>true</code> if the entries of the JAR have a fixed modification time
+	 *
+	 * @since 3.34
+	 */
+	public boolean isReproducible() {
+		return fReproducible;
+	}
+
+	/**
+	 * Sets whether the JAR is written reproducibly.
+	 *
+	 * @param reproducible <code>true</code> to give all entries a fixed modification time,
+	 *  <code>false</code> to use the modification times of the exported files
+	 *
+	 * @since 3.34
+	 */
+	public void setReproducible(boolean reproducible) {
+		fReproducible= reproducible;
+	}
+
 	/**
 	 * Returns the projects for which refactoring information should be stored.
 	 * <p>
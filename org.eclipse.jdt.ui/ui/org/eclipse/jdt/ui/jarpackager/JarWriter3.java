@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
@@ -128,7 +129,17 @@ public class JarWriter3 {
 		try {
 			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported()) {
 				Manifest manifest= fJarPackage.getManifestProvider().create(fJarPackage);
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
+				if (fJarPackage.isReproducible()) {
+					// JarOutputStream(OutputStream, Manifest) would give the manifest the current time
+					jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
+					JarEntry manifestEntry= new JarEntry(JarFile.MANIFEST_NAME);
+					manifestEntry.setTime(JarPackagerUtil.REPRODUCIBLE_ENTRY_TIME);
+					jos.putNextEntry(manifestEntry);
+					manifest.write(jos);
+					jos.closeEntry();
+				} else {
+					jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
+				}
 			} else {
 				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
 			}
@@ -186,7 +197,7 @@ public class JarWriter3 {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(System.currentTimeMillis());
+			newEntry.setTime(JarPackagerUtil.getEntryTime(fJarPackage, System.currentTimeMillis()));
 			directories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
@@ -234,7 +245,7 @@ public class JarWriter3 {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(timeStamp);
+			newEntry.setTime(JarPackagerUtil.getEntryTime(fJarPackage, timeStamp));
 			directories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
@@ -257,28 +268,41 @@ public class JarWriter3 {
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes;
-		try (InputStream contents= resource.getContents(false)) {
-			allBytes= contents.readAllBytes();
-		}
-		if (fJarPackage.isCompressed()) {
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		} else {
-			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-		}
 
 		long lastModified= System.currentTimeMillis();
+		long length= -1;
 		URI locationURI= resource.getLocationURI();
 		if (locationURI != null) {
 			IFileInfo info= EFS.getStore(locationURI).fetchInfo();
-			if (info.exists())
+			if (info.exists()) {
 				lastModified= info.getLastModified();
+				length= info.getLength();
+			}
 		}
 
 		// Set modification time
-		newEntry.setTime(lastModified);
+		newEntry.setTime(JarPackagerUtil.getEntryTime(fJarPackage, lastModified));
+
+		if (fJarPackage.isCompressed()) {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+			JarPackagerUtilCore.addEntry(newEntry, resource.getContents(false), fJarOutputStream);
+			return;
+		}
+
+		newEntry.setMethod(ZipEntry.STORED);
+		if (length < 0 || length > JarPackagerUtil.STREAMING_THRESHOLD) {
+			// don't hold large files in memory, read them once for the CRC and once for the content
+			JarPackagerUtil.setCrcAndSize(newEntry, resource.getContents(false));
+			JarPackagerUtilCore.addEntry(newEntry, resource.getContents(false), fJarOutputStream);
+			return;
+		}
+
+		byte[] allBytes;
+		try (InputStream contents= resource.getContents(false)) {
+			allBytes= contents.readAllBytes();
+		}
+		JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
 
 		fJarOutputStream.putNextEntry(newEntry);
 		fJarOutputStream.write(allBytes);
@@ -463,7 +487,7 @@ public class JarWriter3 {
 			entry.setMethod(ZipEntry.STORED);
 			JarPackagerUtil.setCrcAndSize(entry, allBytes);
 		}
-		entry.setTime(System.currentTimeMillis());
+		entry.setTime(JarPackagerUtil.getEntryTime(data, System.currentTimeMillis()));
 		fJarOutputStream.putNextEntry(entry);
 		fJarOutputStream.write(allBytes);
 	}
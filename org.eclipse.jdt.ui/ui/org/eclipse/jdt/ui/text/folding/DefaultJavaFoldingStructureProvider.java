@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,7 @@ import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CatchClause;
+import org.eclipse.jdt.core.dom.Comment;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.DoStatement;
 import org.eclipse.jdt.core.dom.EnhancedForStatement;
@@ -129,6 +130,15 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		private LinkedHashMap<JavaProjectionAnnotation, Position> fMap= new LinkedHashMap<>();
 		private IScanner fDefaultScanner; // this one may or not be the shared DefaultJavaFoldingStructureProvider.fSharedScanner
 		private IScanner fScannerForProject;
+		/**
+		 * The AST of the reconcile that triggered the update, or <code>null</code>.
+		 */
+		private CompilationUnit fAST;
+		/**
+		 * The members whose folding structure is recomputed, or <code>null</code> to recompute the
+		 * folding structure of the whole input.
+		 */
+		private Set<IJavaElement> fChangedMembers;
 
 		private FoldingStructureComputationContext(IDocument document, ProjectionAnnotationModel model, boolean allowCollapsing, IScanner scanner) {
 			Assert.isNotNull(document);
@@ -684,13 +694,63 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					if (ctx != null) {
+						ctx.fAST= e.getDelta().getCompilationUnitAST();
+						ctx.fChangedMembers= getChangedMembers(delta);
+					}
+					update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
 			}
 		}
 
+		/**
+		 * Returns the members that need their folding structure recomputed if the delta only
+		 * reports changes inside of existing methods, fields and initializers. The folding regions
+		 * of all other members have been kept up to date by the document.
+		 *
+		 * @param delta the Java element delta for the input element
+		 * @return the changed members, or <code>null</code> if the whole folding structure must be
+		 *         recomputed
+		 */
+		private Set<IJavaElement> getChangedMembers(IJavaElementDelta delta) {
+			if (fNewFolding || !(fInput instanceof ICompilationUnit))
+				return null;
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0)
+				return null;
+			Set<IJavaElement> members= new HashSet<>();
+			if (!collectChangedMembers(delta.getAffectedChildren(), members) || members.isEmpty())
+				return null;
+			return members;
+		}
+
+		private boolean collectChangedMembers(IJavaElementDelta[] deltas, Set<IJavaElement> members) {
+			for (IJavaElementDelta delta : deltas) {
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return false;
+				int flags= delta.getFlags();
+				switch (delta.getElement().getElementType()) {
+					case IJavaElement.TYPE:
+						// a changed type declaration may change the folding of its header and of its members
+						if (flags != IJavaElementDelta.F_CHILDREN || !collectChangedMembers(delta.getAffectedChildren(), members))
+							return false;
+						break;
+					case IJavaElement.METHOD:
+					case IJavaElement.FIELD:
+					case IJavaElement.INITIALIZER:
+						if ((flags & ~(IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN)) != 0)
+							return false;
+						members.add(delta.getElement());
+						break;
+					default:
+						return false;
+				}
+			}
+			return true;
+		}
+
 		/**
 		 * Ignore the delta if there are errors on the caret line.
 		 * <p>
@@ -1265,6 +1325,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 		match(deletions, additions, updates, ctx);
 
+		if (deletions.isEmpty() && additions.isEmpty() && updates.isEmpty()) {
+			ctx.setSource(null);
+			return;
+		}
+
 		Annotation[] deletedArray= deletions.toArray(new Annotation[deletions.size()]);
 		Annotation[] changedArray= updates.toArray(new Annotation[updates.size()]);
 		ctx.getModel().modifyAnnotations(deletedArray, additions, changedArray);
@@ -1274,37 +1339,68 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private void computeFoldingStructure(FoldingStructureComputationContext ctx) {
 	    if (fNewFolding && fInput instanceof ICompilationUnit) {
-	        processCompilationUnit((ICompilationUnit) fInput, ctx);
-	        processComments(ctx);
+	        CompilationUnit ast = processCompilationUnit((ICompilationUnit) fInput, ctx);
+	        if (ast != null) {
+	            processComments(ast, ctx);
+	        } else {
+	            processComments(ctx);
+	        }
+	    } else if (ctx.fChangedMembers != null) {
+	        processChangedMembers(ctx);
 	    } else {
 	        processSourceReference(ctx);
 	    }
 	}
 
-	private void processCompilationUnit(ICompilationUnit unit, FoldingStructureComputationContext ctx) {
+	private CompilationUnit processCompilationUnit(ICompilationUnit unit, FoldingStructureComputationContext ctx) {
 	    try {
-	        String source = unit.getSource();
-	        if (source == null) return;
-
-	        ctx.getScanner().setSource(source.toCharArray());
-	        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-	        parser.setBindingsRecovery(true);
-	        parser.setStatementsRecovery(true);
-	        parser.setKind(ASTParser.K_COMPILATION_UNIT);
-	        parser.setResolveBindings(true);
-	        parser.setUnitName(unit.getElementName());
-	        parser.setProject(unit.getJavaProject());
-	        parser.setSource(unit);
-	        Map<String, String> options = unit.getJavaProject().getOptions(true);
-		    options.put(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_23);
-		    options.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_23);
-		    options.put(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, JavaCore.VERSION_23);
-		    options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-	        parser.setCompilerOptions(options);
-
-	        CompilationUnit ast = (CompilationUnit) parser.createAST(null);
+	        CompilationUnit ast = ctx.fAST;
+	        if (ast == null || !unit.equals(ast.getJavaElement())) {
+	            // no reconciled AST to reuse; bindings are not needed for the folding regions
+	            ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+	            parser.setStatementsRecovery(true);
+	            parser.setKind(ASTParser.K_COMPILATION_UNIT);
+	            parser.setUnitName(unit.getElementName());
+	            parser.setProject(unit.getJavaProject());
+	            parser.setSource(unit);
+	            Map<String, String> options = unit.getJavaProject().getOptions(true);
+	            options.put(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_23);
+	            options.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_23);
+	            options.put(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, JavaCore.VERSION_23);
+	            options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+	            parser.setCompilerOptions(options);
+	            ast = (CompilationUnit) parser.createAST(null);
+	        }
 	        ast.accept(new FoldingVisitor(ctx));
-	    } catch (JavaModelException | IllegalStateException e) {
+	        return ast;
+	    } catch (IllegalStateException e) {
+	        return null;
+	    }
+	}
+
+	/**
+	 * Creates the comment folding regions from the comments recorded in the AST, which saves
+	 * scanning the document again.
+	 *
+	 * @param ast the AST of the input
+	 * @param ctx the folding context
+	 */
+	private void processComments(CompilationUnit ast, FoldingStructureComputationContext ctx) {
+	    IDocument document = ctx.getDocument();
+	    List<Comment> comments = ast.getCommentList();
+	    for (Comment comment : comments) {
+	        if (comment.isLineComment() || isMarkdownComment(comment, document))
+	            continue;
+	        int start = comment.getStartPosition();
+	        addCommentRegion(start, start + comment.getLength(), ctx);
+	    }
+	}
+
+	private boolean isMarkdownComment(Comment comment, IDocument document) {
+	    try {
+	        return comment.isDocComment() && "///".equals(document.get(comment.getStartPosition(), 3)); //$NON-NLS-1$
+	    } catch (BadLocationException e) {
+	        return false;
 	    }
 	}
 
@@ -1319,43 +1415,46 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	        int token;
 	        while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
 	            if (token == ITerminalSymbols.TokenNameCOMMENT_BLOCK || token == ITerminalSymbols.TokenNameCOMMENT_JAVADOC) {
-	                int start = scanner.getCurrentTokenStartPosition();
-	                int end = scanner.getCurrentTokenEndPosition() + 1;
-	                try {
-	                    int endLine = document.getLineOfOffset(end);
-	                    int lineOffset = document.getLineOffset(endLine);
-	                    int lineLength = document.getLineLength(endLine);
-	                    String lineText = document.get(lineOffset, lineLength);
-	                    int commentEndInLine = end - lineOffset;
-	                    String afterComment = lineText.substring(commentEndInLine);
-
-	                    if (afterComment.trim().length() > 0) {
-	                        end = lineOffset;
-	                    } else {
-	                        if (endLine + 1 < document.getNumberOfLines()) {
-	                            end = document.getLineOffset(endLine + 1);
-	                        } else {
-	                            end = document.getLength();
-	                        }
-	                    }
-	                } catch (BadLocationException e) {
-	                }
-
-	                IRegion region = new Region(start, end - start);
-	                includelastLine = true;
-	                IRegion aligned = alignRegion(region, ctx);
-
-	                if (aligned != null && isMultiline(aligned, ctx)) {
-	                    Position position = createCommentPosition(aligned);
-	                    JavaProjectionAnnotation annotation = new JavaProjectionAnnotation(ctx.collapseJavadoc(), null, true);
-	                    ctx.addProjectionRange(annotation, position);
-	                }
+	                addCommentRegion(scanner.getCurrentTokenStartPosition(), scanner.getCurrentTokenEndPosition() + 1, ctx);
 	            }
 	        }
 	    } catch (InvalidInputException e) {
 	    }
 	}
 
+	private void addCommentRegion(int start, int end, FoldingStructureComputationContext ctx) {
+	    IDocument document = ctx.getDocument();
+	    try {
+	        int endLine = document.getLineOfOffset(end);
+	        int lineOffset = document.getLineOffset(endLine);
+	        int lineLength = document.getLineLength(endLine);
+	        String lineText = document.get(lineOffset, lineLength);
+	        int commentEndInLine = end - lineOffset;
+	        String afterComment = lineText.substring(commentEndInLine);
+
+	        if (afterComment.trim().length() > 0) {
+	            end = lineOffset;
+	        } else {
+	            if (endLine + 1 < document.getNumberOfLines()) {
+	                end = document.getLineOffset(endLine + 1);
+	            } else {
+	                end = document.getLength();
+	            }
+	        }
+	    } catch (BadLocationException e) {
+	    }
+
+	    IRegion region = new Region(start, end - start);
+	    includelastLine = true;
+	    IRegion aligned = alignRegion(region, ctx);
+
+	    if (aligned != null && isMultiline(aligned, ctx)) {
+	        Position position = createCommentPosition(aligned);
+	        JavaProjectionAnnotation annotation = new JavaProjectionAnnotation(ctx.collapseJavadoc(), null, true);
+	        ctx.addProjectionRange(annotation, position);
+	    }
+	}
+
 
 	private boolean isMultiline(IRegion region, FoldingStructureComputationContext ctx) {
 	    try {
@@ -1384,6 +1483,33 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Recomputes the folding structure of the changed members only. The folding regions of the
+	 * other members are left alone: their positions have been updated by the document.
+	 *
+	 * @param ctx the folding context with the changed members
+	 */
+	private void processChangedMembers(FoldingStructureComputationContext ctx) {
+		try {
+			ICompilationUnit unit= (ICompilationUnit) fInput;
+			String source= unit.getSource();
+			if (source == null)
+				return;
+
+			// the header comment belongs to the first type, which is never recomputed here
+			IType[] types= unit.getTypes();
+			if (types.length > 0)
+				ctx.setFirstType(types[0]);
+			ctx.getScanner().setSource(source.toCharArray());
+			for (IJavaElement member : ctx.fChangedMembers) {
+				computeFoldingStructure(member, ctx);
+				if (member instanceof IParent)
+					computeFoldingStructure(((IParent) member).getChildren(), ctx);
+			}
+		} catch (JavaModelException x) {
+		}
+	}
+
 	/**
 	 * Aligns <code>region</code> to start and end at a line offset. The region's start is
 	 * decreased to the next line offset, and the end offset increased to the next line start or the
@@ -1810,6 +1936,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			Object annotation= e.next();
 			if (annotation instanceof JavaProjectionAnnotation) {
 				JavaProjectionAnnotation java= (JavaProjectionAnnotation) annotation;
+				if (ctx.fChangedMembers != null && !isInside(java.getElement(), ctx.fChangedMembers))
+					continue;
 				Position position= model.getPosition(java);
 				Assert.isNotNull(position);
 				List<Tuple> list= map.get(java.getElement());
@@ -1828,6 +1956,15 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		return map;
 	}
 
+	private static boolean isInside(IJavaElement element, Set<IJavaElement> members) {
+		while (element != null) {
+			if (members.contains(element))
+				return true;
+			element= element.getParent();
+		}
+		return false;
+	}
+
 	/*
 	 * @see IJavaFoldingStructureProviderExtension#collapseMembers()
 	 * @since 3.2